@@ -0,0 +1,57 @@
+package com.user.UserService.common;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+/**
+ * Entity tags for conditional GETs of per-user resources, and the weak comparison {@code If-None-Match} calls for.
+ */
+public final class ETags {
+
+    private ETags() {
+    }
+
+    public static String of(UUID userId, long count, Instant updatedAt) {
+        long micros = updatedAt != null ? ChronoUnit.MICROS.between(Instant.EPOCH, updatedAt) : 0;
+        return "\"" + Long.toHexString(userId.getLeastSignificantBits()) + "-"
+                + Long.toHexString(count) + "-" + Long.toHexString(micros) + "\"";
+    }
+
+    /**
+     * Whether an {@code If-None-Match} header lists {@code eTag} or is {@code *}. Entity tags are quoted strings
+     * that may themselves contain commas, so the list is scanned tag by tag rather than split on commas.
+     * A malformed list matches nothing, which only costs the client a full response.
+     */
+    public static boolean matches(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        int length = ifNoneMatch.length();
+        int i = 0;
+        while (i < length) {
+            char c = ifNoneMatch.charAt(i);
+            if (c == ' ' || c == '\t' || c == ',') {
+                i++;
+            } else if (c == '*') {
+                return true;
+            } else {
+                if (ifNoneMatch.startsWith("W/", i)) {
+                    i += 2;
+                }
+                if (i >= length || ifNoneMatch.charAt(i) != '"') {
+                    return false;
+                }
+                int close = ifNoneMatch.indexOf('"', i + 1);
+                if (close < 0 || close + 1 < length && ",\t ".indexOf(ifNoneMatch.charAt(close + 1)) < 0) {
+                    return false;
+                }
+                if (close + 1 - i == eTag.length() && ifNoneMatch.startsWith(eTag, i)) {
+                    return true;
+                }
+                i = close + 1;
+            }
+        }
+        return false;
+    }
+}
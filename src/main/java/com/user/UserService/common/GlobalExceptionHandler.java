@@ -1,9 +1,14 @@
 package com.user.UserService.common;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.user.UserService.user.domain.exception.*;
 import com.user.UserService.user.web.dto.ErrorResponse;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.validation.FieldError;
@@ -11,11 +16,28 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import java.time.Duration;
+import java.util.IdentityHashMap;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    // Bodies of the shared exception instances, serialized once; byte[] bodies bypass Jackson at request time.
+    private final Map<DomainException, byte[]> prerenderedBodies = new IdentityHashMap<>();
+    private final byte[] tooManyLoginAttemptsBody;
+
+    public GlobalExceptionHandler(ObjectMapper objectMapper) throws JsonProcessingException {
+        prerender(objectMapper, InvalidCredentialsException.INSTANCE, HttpStatus.UNAUTHORIZED);
+        prerender(objectMapper, InvalidTokenException.INSTANCE, HttpStatus.UNAUTHORIZED);
+        prerender(objectMapper, TokenExpiredException.INSTANCE, HttpStatus.UNAUTHORIZED);
+        prerender(objectMapper, TokenRevokedException.INSTANCE, HttpStatus.UNAUTHORIZED);
+        TooManyLoginAttemptsException lockedOut = new TooManyLoginAttemptsException(Duration.ZERO);
+        tooManyLoginAttemptsBody = objectMapper.writeValueAsBytes(new ErrorResponse(
+                lockedOut.getMessage(), lockedOut.getCode(), HttpStatus.TOO_MANY_REQUESTS.value()));
+    }
+
     @ExceptionHandler(UserNotFoundException.class)
     public ResponseEntity<ErrorResponse> handleUserNotFound(UserNotFoundException ex) {
         return ResponseEntity
@@ -31,31 +53,47 @@ public class GlobalExceptionHandler {
     }
 
     @ExceptionHandler(InvalidCredentialsException.class)
-    public ResponseEntity<ErrorResponse> handleInvalidCredentials(InvalidCredentialsException ex) {
-        return ResponseEntity
-                .status(HttpStatus.UNAUTHORIZED)
-                .body(new ErrorResponse(ex.getMessage(), ex.getCode(), HttpStatus.UNAUTHORIZED.value()));
+    public ResponseEntity<?> handleInvalidCredentials(InvalidCredentialsException ex) {
+        return respond(ex, HttpStatus.UNAUTHORIZED);
     }
 
     @ExceptionHandler(InvalidTokenException.class)
-    public ResponseEntity<ErrorResponse> handleInvalidToken(InvalidTokenException ex) {
-        return ResponseEntity
-                .status(HttpStatus.UNAUTHORIZED)
-                .body(new ErrorResponse(ex.getMessage(), ex.getCode(), HttpStatus.UNAUTHORIZED.value()));
+    public ResponseEntity<?> handleInvalidToken(InvalidTokenException ex) {
+        return respond(ex, HttpStatus.UNAUTHORIZED);
     }
 
     @ExceptionHandler(TokenExpiredException.class)
-    public ResponseEntity<ErrorResponse> handleTokenExpired(TokenExpiredException ex) {
-        return ResponseEntity
-                .status(HttpStatus.UNAUTHORIZED)
-                .body(new ErrorResponse(ex.getMessage(), ex.getCode(), HttpStatus.UNAUTHORIZED.value()));
+    public ResponseEntity<?> handleTokenExpired(TokenExpiredException ex) {
+        return respond(ex, HttpStatus.UNAUTHORIZED);
     }
 
     @ExceptionHandler(TokenRevokedException.class)
-    public ResponseEntity<ErrorResponse> handleTokenRevoked(TokenRevokedException ex) {
+    public ResponseEntity<?> handleTokenRevoked(TokenRevokedException ex) {
+        return respond(ex, HttpStatus.UNAUTHORIZED);
+    }
+
+    @ExceptionHandler(TooManyLoginAttemptsException.class)
+    public ResponseEntity<byte[]> handleTooManyLoginAttempts(TooManyLoginAttemptsException ex) {
+        long retryAfterSeconds = Math.max(1, (ex.getRetryAfter().toMillis() + 999) / 1000);
         return ResponseEntity
-                .status(HttpStatus.UNAUTHORIZED)
-                .body(new ErrorResponse(ex.getMessage(), ex.getCode(), HttpStatus.UNAUTHORIZED.value()));
+                .status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds))
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(tooManyLoginAttemptsBody);
+    }
+
+    @ExceptionHandler(IdempotencyKeyInProgressException.class)
+    public ResponseEntity<ErrorResponse> handleIdempotencyKeyInProgress(IdempotencyKeyInProgressException ex) {
+        return ResponseEntity
+                .status(HttpStatus.CONFLICT)
+                .body(new ErrorResponse(ex.getMessage(), ex.getCode(), HttpStatus.CONFLICT.value()));
+    }
+
+    @ExceptionHandler(IdempotencyKeyReusedException.class)
+    public ResponseEntity<ErrorResponse> handleIdempotencyKeyReused(IdempotencyKeyReusedException ex) {
+        return ResponseEntity
+                .status(HttpStatus.UNPROCESSABLE_ENTITY)
+                .body(new ErrorResponse(ex.getMessage(), ex.getCode(), HttpStatus.UNPROCESSABLE_ENTITY.value()));
     }
 
     @ExceptionHandler(SessionNotFoundException.class)
@@ -90,6 +128,13 @@ public class GlobalExceptionHandler {
                 .body(new ErrorResponse(message, "VALIDATION_ERROR", HttpStatus.BAD_REQUEST.value()));
     }
 
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    public ResponseEntity<ErrorResponse> handleNotReadable(HttpMessageNotReadableException ex) {
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(new ErrorResponse("Malformed request body", "MALFORMED_REQUEST", HttpStatus.BAD_REQUEST.value()));
+    }
+
     @ExceptionHandler(AuthenticationException.class)
     public ResponseEntity<ErrorResponse> handleAuthentication(AuthenticationException ex) {
         return ResponseEntity
@@ -110,4 +155,20 @@ public class GlobalExceptionHandler {
                 .status(HttpStatus.INTERNAL_SERVER_ERROR)
                 .body(new ErrorResponse("An unexpected error occurred", "INTERNAL_ERROR", HttpStatus.INTERNAL_SERVER_ERROR.value()));
     }
+
+    private void prerender(ObjectMapper objectMapper, DomainException ex, HttpStatus status)
+            throws JsonProcessingException {
+        prerenderedBodies.put(ex, objectMapper.writeValueAsBytes(
+                new ErrorResponse(ex.getMessage(), ex.getCode(), status.value())));
+    }
+
+    private ResponseEntity<?> respond(DomainException ex, HttpStatus status) {
+        byte[] body = prerenderedBodies.get(ex);
+        if (body != null) {
+            return ResponseEntity.status(status).contentType(MediaType.APPLICATION_JSON).body(body);
+        }
+        return ResponseEntity
+                .status(status)
+                .body(new ErrorResponse(ex.getMessage(), ex.getCode(), status.value()));
+    }
 }
@@ -5,19 +5,44 @@ import org.springframework.stereotype.Component;
 @Component
 public class InputSanitizer {
 
+    /**
+     * Trims and HTML-escapes {@code & < > " ' /} in a single pass. Input that needs no escaping is returned
+     * without copying.
+     */
     public String sanitize(String input) {
         if (input == null || input.isBlank()) {
             return input;
         }
 
-        return input
-                .replace("<", "&lt;")
-                .replace(">", "&gt;")
-                .replace("\"", "&quot;")
-                .replace("'", "&#x27;")
-                .replace("/", "&#x2F;")
-                .replace("&", "&amp;")
-                .trim();
+        int start = 0;
+        int end = input.length();
+        while (start < end && input.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && input.charAt(end - 1) <= ' ') {
+            end--;
+        }
+
+        int first = start;
+        while (first < end && entity(input.charAt(first)) == null) {
+            first++;
+        }
+        if (first == end) {
+            return input.substring(start, end);
+        }
+
+        StringBuilder escaped = new StringBuilder(end - start + 16);
+        escaped.append(input, start, first);
+        for (int i = first; i < end; i++) {
+            char c = input.charAt(i);
+            String entity = entity(c);
+            if (entity != null) {
+                escaped.append(entity);
+            } else {
+                escaped.append(c);
+            }
+        }
+        return escaped.toString();
     }
 
     public String sanitizeAndLimit(String input, int maxLength) {
@@ -27,5 +52,16 @@ public class InputSanitizer {
         }
         return sanitized;
     }
-}
 
+    private static String entity(char c) {
+        return switch (c) {
+            case '&' -> "&amp;";
+            case '<' -> "&lt;";
+            case '>' -> "&gt;";
+            case '"' -> "&quot;";
+            case '\'' -> "&#x27;";
+            case '/' -> "&#x2F;";
+            default -> null;
+        };
+    }
+}
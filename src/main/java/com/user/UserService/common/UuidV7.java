@@ -0,0 +1,52 @@
+package com.user.UserService.common;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * RFC 9562 version 7 UUIDs: a 48-bit Unix millisecond timestamp followed by random bits, so keys
+ * generated close together land next to each other in a primary-key B-tree instead of on random pages.
+ * <p>
+ * The 12-bit {@code rand_a} field is used as a counter (RFC 9562, method 1), which keeps ids
+ * strictly increasing within a millisecond and across all threads of this JVM. When the counter
+ * overflows, or the clock steps backwards, the timestamp is advanced logically rather than reused.
+ * The remaining 62 bits come from {@link ThreadLocalRandom}: ids must be unique, not unguessable,
+ * and must never be used as secrets.
+ */
+public final class UuidV7 {
+
+    private static final int COUNTER_BITS = 12;
+    private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+    // New milliseconds start the counter in the lower half so that it can absorb bursts before overflowing.
+    private static final int COUNTER_SEED_BOUND = 1 << (COUNTER_BITS - 1);
+    private static final long VERSION = 0x7000L;
+    private static final long VARIANT = 0x8000_0000_0000_0000L;
+    private static final long VARIANT_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+
+    // Last issued (timestamp << COUNTER_BITS | counter).
+    private static final AtomicLong STATE = new AtomicLong();
+
+    private UuidV7() {
+    }
+
+    public static UUID generate() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long now = System.currentTimeMillis();
+        long next;
+        long previous;
+        do {
+            previous = STATE.get();
+            if (now > previous >>> COUNTER_BITS) {
+                next = (now << COUNTER_BITS) | random.nextInt(COUNTER_SEED_BOUND);
+            } else {
+                next = previous + 1;
+            }
+        } while (!STATE.compareAndSet(previous, next));
+
+        long timestamp = next >>> COUNTER_BITS;
+        long mostSignificantBits = (timestamp << 16) | VERSION | (next & COUNTER_MASK);
+        long leastSignificantBits = (random.nextLong() & VARIANT_MASK) | VARIANT;
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+}
@@ -0,0 +1,29 @@
+package com.user.UserService.config;
+
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.user.UserService.user.web.json.DtoSerializerModule;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Modules picked up by Boot's auto-configured ObjectMapper, and therefore by Spring MVC's JSON message converter.
+ */
+@Configuration
+public class JacksonConfig {
+
+    /**
+     * Replaces reflective property access with generated lambdas for every type without a dedicated serializer.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "json", name = "blackbird", havingValue = "true", matchIfMissing = true)
+    public BlackbirdModule blackbirdModule() {
+        return new BlackbirdModule();
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "json", name = "specialized-serializers", havingValue = "true", matchIfMissing = true)
+    public DtoSerializerModule dtoSerializerModule() {
+        return new DtoSerializerModule();
+    }
+}
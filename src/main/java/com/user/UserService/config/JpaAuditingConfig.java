@@ -0,0 +1,12 @@
+package com.user.UserService.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+
+/**
+ * Kept off the application class so that web slice tests, which load no JPA, can start without it.
+ */
+@Configuration
+@EnableJpaAuditing
+public class JpaAuditingConfig {
+}
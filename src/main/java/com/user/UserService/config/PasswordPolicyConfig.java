@@ -0,0 +1,30 @@
+package com.user.UserService.config;
+
+import com.user.UserService.user.domain.service.BreachedPasswordFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+@Slf4j
+@Configuration
+public class PasswordPolicyConfig {
+
+    /**
+     * Mapped once at startup; a configured but unreadable filter fails startup rather than silently
+     * accepting breached passwords.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "password-policy", name = "breached-filter")
+    public BreachedPasswordFilter breachedPasswordFilter(@Value("${password-policy.breached-filter}") Path file)
+            throws IOException {
+        BreachedPasswordFilter filter = BreachedPasswordFilter.open(file);
+        log.info("Breached password filter {}: {} entries, {} bits, {} hashes",
+                file, filter.entries(), filter.bits(), filter.hashes());
+        return filter;
+    }
+}
@@ -1,6 +1,7 @@
 package com.user.UserService.config;
 
 import com.user.UserService.security.CurrentUserArgumentResolver;
+import com.user.UserService.security.client.ClientContextArgumentResolver;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
@@ -13,10 +14,12 @@ import java.util.List;
 public class WebConfig implements WebMvcConfigurer {
 
     private final CurrentUserArgumentResolver currentUserArgumentResolver;
+    private final ClientContextArgumentResolver clientContextArgumentResolver;
 
     @Override
     public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
         resolvers.add(currentUserArgumentResolver);
+        resolvers.add(clientContextArgumentResolver);
     }
 }
 
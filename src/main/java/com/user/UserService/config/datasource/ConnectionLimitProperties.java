@@ -0,0 +1,23 @@
+package com.user.UserService.config.datasource;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+
+/**
+ * Bound from {@code datasource.concurrency-limit} by {@link ConnectionLimitingPostProcessor} and, for the routed
+ * pools, {@link ReplicaDataSourceConfig}. Each pool admits as many callers as its {@code maximum-pool-size}.
+ */
+@Data
+public class ConnectionLimitProperties {
+    private boolean enabled = false;
+    private Duration acquireTimeout = Duration.ofSeconds(30);
+
+    static ConnectionLimitProperties bind(Environment environment) {
+        return Binder.get(environment)
+                .bind("datasource.concurrency-limit", ConnectionLimitProperties.class)
+                .orElseGet(ConnectionLimitProperties::new);
+    }
+}
@@ -0,0 +1,147 @@
+package com.user.UserService.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Admits at most {@code maxConcurrent} callers to the wrapped pool, in arrival order. With virtual threads
+ * thousands of requests can ask for a connection at the same moment; parking them on a fair semaphore is
+ * cheap and keeps the pool's own hand-off queue short. The permit is returned when the connection is closed.
+ * A thread that already holds a permit is let through for further connections, such as one opened in an
+ * after-commit callback while the transaction's connection is still bound, instead of queueing behind itself.
+ */
+public class ConnectionLimitingDataSource extends DelegatingDataSource implements MeterBinder {
+
+    private static final int HIKARI_DEFAULT_POOL_SIZE = 10;
+
+    private final String pool;
+    private final Semaphore permits;
+    private final Duration acquireTimeout;
+    private final ThreadLocal<AtomicInteger> held = ThreadLocal.withInitial(AtomicInteger::new);
+
+    public ConnectionLimitingDataSource(DataSource target, String pool, int maxConcurrent, Duration acquireTimeout) {
+        super(target);
+        this.pool = pool;
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.acquireTimeout = acquireTimeout;
+    }
+
+    /**
+     * Limits {@code target} to its own maximum pool size.
+     */
+    public static ConnectionLimitingDataSource forPool(HikariDataSource target, String pool, Duration acquireTimeout) {
+        // An unset size reads as -1 until Hikari resolves it to its default when the pool starts.
+        int maximumPoolSize = target.getMaximumPoolSize() > 0 ? target.getMaximumPoolSize() : HIKARI_DEFAULT_POOL_SIZE;
+        return new ConnectionLimitingDataSource(target, pool, maximumPoolSize, acquireTimeout);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        AtomicInteger holder = acquire();
+        try {
+            return limited(obtainTargetDataSource().getConnection(), holder);
+        } catch (SQLException | RuntimeException e) {
+            release(holder);
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        AtomicInteger holder = acquire();
+        try {
+            return limited(obtainTargetDataSource().getConnection(username, password), holder);
+        } catch (SQLException | RuntimeException e) {
+            release(holder);
+            throw e;
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("datasource.concurrency.waiting", permits, Semaphore::getQueueLength)
+                .description("Callers queued for a database connection permit")
+                .tag("pool", pool)
+                .register(registry);
+        Gauge.builder("datasource.concurrency.available", permits, Semaphore::availablePermits)
+                .tag("pool", pool)
+                .register(registry);
+    }
+
+    /**
+     * Returns the calling thread's count of connections open through this data source, already incremented.
+     * Only the first of them takes a permit.
+     */
+    private AtomicInteger acquire() throws SQLException {
+        AtomicInteger holder = held.get();
+        if (holder.getAndUpdate(open -> open > 0 ? open + 1 : open) == 0) {
+            acquirePermit();
+            holder.incrementAndGet();
+        }
+        return holder;
+    }
+
+    // The holder is captured with the connection, so a connection closed on another thread still settles it.
+    private void release(AtomicInteger holder) {
+        if (holder.decrementAndGet() == 0) {
+            permits.release();
+        }
+    }
+
+    private void acquirePermit() throws SQLException {
+        try {
+            if (!permits.tryAcquire(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new SQLTransientConnectionException(
+                        "No database connection permit available within " + acquireTimeout.toMillis() + "ms");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a database connection permit", e);
+        }
+    }
+
+    private Connection limited(Connection target, AtomicInteger holder) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(
+                ConnectionProxy.class.getClassLoader(),
+                new Class<?>[]{ConnectionProxy.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getTargetConnection" -> target;
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "close" -> {
+                        try {
+                            target.close();
+                        } finally {
+                            if (released.compareAndSet(false, true)) {
+                                release(holder);
+                            }
+                        }
+                        yield null;
+                    }
+                    default -> {
+                        try {
+                            yield method.invoke(target, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getTargetException();
+                        }
+                    }
+                });
+    }
+}
@@ -0,0 +1,34 @@
+package com.user.UserService.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+/**
+ * Wraps the application {@code dataSource} pool in a {@link ConnectionLimitingDataSource} when
+ * {@code datasource.concurrency-limit.enabled} is set, which by default follows {@code spring.threads.virtual.enabled}.
+ * With read replicas the {@code dataSource} bean is the routing proxy instead, and {@link ReplicaDataSourceConfig}
+ * limits each pool behind it.
+ */
+@Component
+public class ConnectionLimitingPostProcessor implements BeanPostProcessor, EnvironmentAware {
+
+    private static final String DATA_SOURCE_BEAN = "dataSource";
+
+    private ConnectionLimitProperties properties = new ConnectionLimitProperties();
+
+    @Override
+    public void setEnvironment(Environment environment) {
+        properties = ConnectionLimitProperties.bind(environment);
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (properties.isEnabled() && DATA_SOURCE_BEAN.equals(beanName) && bean instanceof HikariDataSource pool) {
+            return ConnectionLimitingDataSource.forPool(pool, ReplicaRoutingDataSource.PRIMARY, properties.getAcquireTimeout());
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,33 @@
+package com.user.UserService.config.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * Pins the read-only transactions an action starts to the primary. Meant for reads whose result outlives the
+ * request, such as cache fills: an invalidation broadcast to another instance can arrive before a replica has
+ * replayed the write behind it, and a fill from that replica would keep the old value for the whole TTL.
+ * Without replicas configured this has no effect.
+ */
+public final class PrimaryReads {
+
+    private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+
+    private PrimaryReads() {
+    }
+
+    public static <T> T call(Supplier<T> action) {
+        if (PINNED.get() != null) {
+            return action.get();
+        }
+        PINNED.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            PINNED.remove();
+        }
+    }
+
+    static boolean pinned() {
+        return PINNED.get() != null;
+    }
+}
@@ -0,0 +1,68 @@
+package com.user.UserService.config.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.user.UserService.user.domain.event.UserLoggedInEvent;
+import com.user.UserService.user.domain.event.UserRegisteredEvent;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+import java.util.UUID;
+
+/**
+ * Short-lived per-user markers set whenever a user's data is written, so that their following reads are
+ * served by the primary until replicas have had time to replay the change. Authenticated writes are picked
+ * up when the read-write transaction commits; registration and login are anonymous requests and are
+ * tracked through their domain events instead. Markers are local to this instance; reads that other
+ * instances cache are pinned to the primary with {@link PrimaryReads} instead.
+ */
+@Component
+@ConditionalOnProperty(prefix = "datasource.replicas", name = "enabled", havingValue = "true")
+public class ReadYourWritesTracker implements TransactionExecutionListener {
+
+    private final Cache<UUID, Boolean> recentWriters;
+
+    public ReadYourWritesTracker(ReplicaProperties properties) {
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(properties.getReadYourWritesWindow())
+                .build();
+    }
+
+    public boolean recentlyWrote(UUID userId) {
+        return recentWriters.getIfPresent(userId) != null;
+    }
+
+    public void markWrite(UUID userId) {
+        recentWriters.put(userId, Boolean.TRUE);
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+        if (commitFailure == null && !transaction.isReadOnly()) {
+            UUID userId = currentUserId();
+            if (userId != null) {
+                markWrite(userId);
+            }
+        }
+    }
+
+    @EventListener
+    public void onUserRegistered(UserRegisteredEvent event) {
+        markWrite(event.userId());
+    }
+
+    @EventListener
+    public void onUserLoggedIn(UserLoggedInEvent event) {
+        markWrite(event.userId());
+    }
+
+    static UUID currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.getPrincipal() instanceof UUID userId ? userId : null;
+    }
+}
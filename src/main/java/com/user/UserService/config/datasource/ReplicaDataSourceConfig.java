@@ -0,0 +1,74 @@
+package com.user.UserService.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Replaces the auto-configured pool with primary/replica routing when {@code datasource.replicas.enabled}
+ * is set. The primary pool is still configured through {@code spring.datasource.*}.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.replicas", name = "enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        if (StringUtils.hasText(properties.getName())) {
+            dataSource.setPoolName(properties.getName());
+        }
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaPool replicaPool(ReplicaProperties properties,
+                                   DataSourceProperties primaryProperties,
+                                   MeterRegistry meterRegistry) {
+        return new ReplicaPool(properties, primaryProperties, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource,
+                                 ReplicaPool replicaPool,
+                                 ReadYourWritesTracker readYourWritesTracker,
+                                 MeterRegistry meterRegistry,
+                                 Environment environment) {
+        Map<String, HikariDataSource> pools = new LinkedHashMap<>(replicaPool.dataSources());
+        pools.put(ReplicaRoutingDataSource.PRIMARY, primaryDataSource);
+
+        // Limited per pool, so reads on a replica never take the primary's permits.
+        ConnectionLimitProperties limits = ConnectionLimitProperties.bind(environment);
+        Map<Object, Object> targets = new LinkedHashMap<>();
+        pools.forEach((name, pool) -> {
+            if (limits.isEnabled()) {
+                ConnectionLimitingDataSource limited =
+                        ConnectionLimitingDataSource.forPool(pool, name, limits.getAcquireTimeout());
+                limited.bindTo(meterRegistry);
+                targets.put(name, limited);
+            } else {
+                targets.put(name, pool);
+            }
+        });
+
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(replicaPool, readYourWritesTracker, meterRegistry);
+        routing.setTargetDataSources(targets);
+        routing.setDefaultTargetDataSource(targets.get(ReplicaRoutingDataSource.PRIMARY));
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+}
@@ -0,0 +1,172 @@
+package com.user.UserService.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.SmartLifecycle;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Connection pools for the read replicas plus their last observed health. Each replica is probed on a
+ * fixed interval; it only receives reads while the probe succeeds and its replay lag is within
+ * {@code maxLag}. Replicas start out unhealthy until the first probe has passed.
+ */
+@Slf4j
+public class ReplicaPool implements SmartLifecycle {
+
+    // Zero when the replica has replayed everything it received while still streaming, so an idle primary does
+    // not look like lag. With the WAL receiver gone nothing new arrives, so the age of the last replayed
+    // transaction counts instead. status is only visible with pg_read_all_stats; without it a running receiver
+    // is taken as streaming.
+    private static final String LAG_QUERY = """
+            SELECT CASE
+                WHEN NOT pg_is_in_recovery() THEN 0
+                WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn()
+                    AND EXISTS (SELECT 1 FROM pg_stat_wal_receiver WHERE status = 'streaming' OR status IS NULL)
+                    THEN 0
+                ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+            END""";
+
+    private final ReplicaProperties properties;
+    private final Map<String, Replica> replicas = new LinkedHashMap<>();
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private volatile List<String> healthy = List.of();
+    private ScheduledExecutorService scheduler;
+
+    public ReplicaPool(ReplicaProperties properties, DataSourceProperties primary, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        int index = 0;
+        for (ReplicaProperties.Node node : properties.getNodes()) {
+            String name = node.getName() != null ? node.getName() : "replica-" + index;
+            index++;
+
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setPoolName(name);
+            dataSource.setJdbcUrl(node.getUrl());
+            dataSource.setUsername(node.getUsername() != null ? node.getUsername() : primary.determineUsername());
+            dataSource.setPassword(node.getPassword() != null ? node.getPassword() : primary.determinePassword());
+            dataSource.setMaximumPoolSize(properties.getMaximumPoolSize());
+            dataSource.setReadOnly(true);
+            // Do not fail startup on an unreachable replica; the health probe keeps it out of rotation.
+            dataSource.setInitializationFailTimeout(-1);
+            dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+
+            Replica replica = new Replica(name, dataSource);
+            replicas.put(name, replica);
+            Gauge.builder("datasource.replica.lag", replica, r -> r.lagSeconds)
+                    .tag("replica", name)
+                    .baseUnit("seconds")
+                    .register(meterRegistry);
+            Gauge.builder("datasource.replica.healthy", replica, r -> r.healthy ? 1 : 0)
+                    .tag("replica", name)
+                    .register(meterRegistry);
+        }
+    }
+
+    public Map<String, HikariDataSource> dataSources() {
+        Map<String, HikariDataSource> dataSources = new LinkedHashMap<>();
+        replicas.forEach((name, replica) -> dataSources.put(name, replica.dataSource));
+        return dataSources;
+    }
+
+    /**
+     * Round-robins over the replicas that passed their last probe.
+     */
+    public Optional<String> nextHealthy() {
+        List<String> candidates = healthy;
+        if (candidates.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(candidates.get(Math.floorMod(nextReplica.getAndIncrement(), candidates.size())));
+    }
+
+    void checkReplicas() {
+        List<String> nowHealthy = new ArrayList<>(replicas.size());
+        for (Replica replica : replicas.values()) {
+            boolean wasHealthy = replica.healthy;
+            probe(replica);
+            if (replica.healthy) {
+                nowHealthy.add(replica.name);
+            }
+            if (wasHealthy != replica.healthy) {
+                log.info("Read replica {} is now {} (lag {}s)",
+                        replica.name, replica.healthy ? "in rotation" : "out of rotation", replica.lagSeconds);
+            }
+        }
+        healthy = List.copyOf(nowHealthy);
+    }
+
+    private void probe(Replica replica) {
+        try (Connection connection = replica.dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout((int) Math.max(1, properties.getCheckTimeout().toSeconds()));
+            try (ResultSet rs = statement.executeQuery(LAG_QUERY)) {
+                rs.next();
+                replica.lagSeconds = rs.getDouble(1);
+            }
+            replica.healthy = replica.lagSeconds <= properties.getMaxLag().toMillis() / 1000.0;
+        } catch (SQLException | RuntimeException e) {
+            replica.healthy = false;
+            log.debug("Read replica {} probe failed", replica.name, e);
+        }
+    }
+
+    @Override
+    public void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-health");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = properties.getCheckInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(this::checkReplicas, 0, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    /**
+     * Invoked as the bean's destroy method, after the web server has drained in-flight requests.
+     */
+    public void close() {
+        replicas.values().forEach(replica -> replica.dataSource.close());
+    }
+
+    @Override
+    public boolean isRunning() {
+        return scheduler != null;
+    }
+
+    private static final class Replica {
+        private final String name;
+        private final HikariDataSource dataSource;
+        private volatile boolean healthy;
+        private volatile double lagSeconds;
+
+        private Replica(String name, HikariDataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+    }
+}
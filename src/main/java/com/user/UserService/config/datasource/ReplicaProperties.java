@@ -0,0 +1,34 @@
+package com.user.UserService.config.datasource;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "datasource.replicas")
+public class ReplicaProperties {
+    private boolean enabled = false;
+    private List<Node> nodes = new ArrayList<>();
+    private int maximumPoolSize = 10;
+    /** Replicas further behind the primary than this are skipped until they catch up. */
+    private Duration maxLag = Duration.ofSeconds(5);
+    private Duration checkInterval = Duration.ofSeconds(5);
+    private Duration checkTimeout = Duration.ofSeconds(2);
+    /** How long a user's read-only transactions stay on the primary after that user wrote. */
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+
+    @Data
+    public static class Node {
+        private String name;
+        private String url;
+        /** Defaults to spring.datasource.username. */
+        private String username;
+        /** Defaults to spring.datasource.password. */
+        private String password;
+    }
+}
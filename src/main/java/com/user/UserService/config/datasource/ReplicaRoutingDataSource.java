@@ -0,0 +1,52 @@
+package com.user.UserService.config.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Sends read-only transactions to a healthy replica and everything else to the primary. Must sit behind a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}: the read-only flag is only
+ * known once the transaction has started, after the transaction manager asked for a connection.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+
+    private final ReplicaPool replicaPool;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final Counter primaryReads;
+    private final Counter replicaReads;
+
+    public ReplicaRoutingDataSource(ReplicaPool replicaPool,
+                                    ReadYourWritesTracker readYourWritesTracker,
+                                    MeterRegistry meterRegistry) {
+        this.replicaPool = replicaPool;
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.primaryReads = meterRegistry.counter("datasource.routing.reads", "target", PRIMARY);
+        this.replicaReads = meterRegistry.counter("datasource.routing.reads", "target", "replica");
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+        UUID userId = ReadYourWritesTracker.currentUserId();
+        if (PrimaryReads.pinned() || userId != null && readYourWritesTracker.recentlyWrote(userId)) {
+            primaryReads.increment();
+            return PRIMARY;
+        }
+        Optional<String> replica = replicaPool.nextHealthy();
+        if (replica.isEmpty()) {
+            primaryReads.increment();
+            return PRIMARY;
+        }
+        replicaReads.increment();
+        return replica.get();
+    }
+}
@@ -1,10 +1,12 @@
 package com.user.UserService.security;
 
+import com.user.UserService.user.domain.exception.InvalidTokenException;
 import org.springframework.core.MethodParameter;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.RequestAttributes;
 import org.springframework.web.context.request.NativeWebRequest;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.method.support.ModelAndViewContainer;
@@ -17,15 +19,31 @@ public class CurrentUserArgumentResolver implements HandlerMethodArgumentResolve
     @Override
     public boolean supportsParameter(MethodParameter parameter) {
         return parameter.hasParameterAnnotation(CurrentUser.class) &&
-               parameter.getParameterType().equals(UUID.class);
+               (parameter.getParameterType().equals(UUID.class) ||
+                parameter.getParameterType().equals(TokenClaims.class));
     }
 
+    /**
+     * Prefers the claims bound to the request by {@link JwtAuthenticationFilter}, which do not depend on
+     * thread-local state; the security context is only consulted for authentications created elsewhere.
+     */
     @Override
     public Object resolveArgument(MethodParameter parameter,
                                   ModelAndViewContainer mavContainer,
                                   NativeWebRequest webRequest,
                                   WebDataBinderFactory binderFactory) {
+        Object requestClaims = webRequest.getAttribute(TokenClaims.REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (requestClaims instanceof TokenClaims claims) {
+            return parameter.getParameterType().equals(TokenClaims.class) ? claims : claims.userId();
+        }
+
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (parameter.getParameterType().equals(TokenClaims.class)) {
+            if (authentication != null && authentication.getDetails() instanceof TokenClaims claims) {
+                return claims;
+            }
+            throw new InvalidTokenException("Access token claims not available");
+        }
         if (authentication != null && authentication.getPrincipal() instanceof UUID) {
             return authentication.getPrincipal();
         }
@@ -39,4 +57,3 @@ public class CurrentUserArgumentResolver implements HandlerMethodArgumentResolve
         return null;
     }
 }
-
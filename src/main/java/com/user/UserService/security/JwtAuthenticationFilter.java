@@ -9,13 +9,19 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.context.RequestAttributeSecurityContextRepository;
+import org.springframework.security.web.context.SecurityContextRepository;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.time.Instant;
 import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 @Component
@@ -23,6 +29,9 @@ import java.util.UUID;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final TokenGenerator tokenGenerator;
+    // Keeps the context on the request, so the async dispatch completing a streamed response is authorized
+    // against it instead of a token that may have expired while streaming.
+    private final SecurityContextRepository securityContextRepository = new RequestAttributeSecurityContextRepository();
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -43,17 +52,22 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 UUID userId = UUID.fromString(claims.getSubject());
 
                 @SuppressWarnings("unchecked")
-                List<String> roles = claims.get("roles", List.class);
+                List<String> roles = claims.get(TokenGenerator.ROLES_CLAIM, List.class);
                 Collection<SimpleGrantedAuthority> authorities = roles != null
                         ? roles.stream()
                             .map(role -> new SimpleGrantedAuthority("ROLE_" + role))
                             .toList()
                         : List.of();
 
+                TokenClaims tokenClaims = toTokenClaims(userId, claims, roles);
                 UsernamePasswordAuthenticationToken authentication =
                         new UsernamePasswordAuthenticationToken(userId, null, authorities);
+                authentication.setDetails(tokenClaims);
+                request.setAttribute(TokenClaims.REQUEST_ATTRIBUTE, tokenClaims);
 
-                SecurityContextHolder.getContext().setAuthentication(authentication);
+                SecurityContext context = SecurityContextHolder.getContext();
+                context.setAuthentication(authentication);
+                securityContextRepository.saveContext(context, request, response);
             }
         } catch (Exception e) {
             SecurityContextHolder.clearContext();
@@ -61,5 +75,17 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         filterChain.doFilter(request, response);
     }
+
+    private TokenClaims toTokenClaims(UUID userId, Claims claims, List<String> roles) {
+        Set<String> roleNames = roles != null ? new LinkedHashSet<>(roles) : Set.of();
+        Number createdAt = claims.get(TokenGenerator.CREATED_AT_CLAIM, Number.class);
+        return new TokenClaims(
+                userId,
+                claims.get(TokenGenerator.EMAIL_CLAIM, String.class),
+                roleNames,
+                claims.get(TokenGenerator.FULL_NAME_CLAIM, String.class),
+                createdAt != null ? Instant.ofEpochSecond(createdAt.longValue()) : null
+        );
+    }
 }
 
@@ -11,4 +11,15 @@ public class JwtProperties {
     private String secret;
     private long accessTokenExpirationSeconds = 900;
     private long refreshTokenExpirationSeconds = 604800;
+    private ProfileClaims profileClaims = new ProfileClaims();
+
+    /**
+     * Optional profile fields embedded in access tokens so {@code GET /users/me/claims}
+     * can answer without a database round trip, at the cost of larger tokens.
+     */
+    @Data
+    public static class ProfileClaims {
+        private boolean fullName = false;
+        private boolean createdAt = false;
+    }
 }
@@ -1,7 +1,13 @@
 package com.user.UserService.security;
 
+import com.user.UserService.security.client.ClientContext;
+import com.user.UserService.security.client.ClientContextResolver;
+import com.user.UserService.security.heavyhitter.HeavyHitterProperties;
+import com.user.UserService.security.heavyhitter.HeavyHitters;
 import io.github.bucket4j.Bandwidth;
 import io.github.bucket4j.Bucket;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -11,6 +17,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -18,7 +25,28 @@ import java.util.concurrent.ConcurrentHashMap;
 @Component
 public class RateLimitingFilter extends OncePerRequestFilter {
 
+    private static final byte[] TOO_MANY_REQUESTS_BODY =
+            "{\"error\":\"Too many requests\",\"code\":\"RATE_LIMIT_EXCEEDED\",\"status\":429}"
+                    .getBytes(StandardCharsets.UTF_8);
+
     private final Map<String, Bucket> cache = new ConcurrentHashMap<>();
+    private final Map<String, Bucket> hotCache = new ConcurrentHashMap<>();
+    private final ClientContextResolver clientContextResolver;
+    private final HeavyHitters heavyHitters;
+    private final HeavyHitterProperties heavyHitterProperties;
+    private final Counter rejected;
+    private final Counter hotRejected;
+
+    public RateLimitingFilter(ClientContextResolver clientContextResolver,
+                              HeavyHitters heavyHitters,
+                              HeavyHitterProperties heavyHitterProperties,
+                              MeterRegistry meterRegistry) {
+        this.clientContextResolver = clientContextResolver;
+        this.heavyHitters = heavyHitters;
+        this.heavyHitterProperties = heavyHitterProperties;
+        this.rejected = meterRegistry.counter("rate.limit.rejected", "tier", "normal");
+        this.hotRejected = meterRegistry.counter("rate.limit.rejected", "tier", "hot");
+    }
 
     @Override
     @SuppressWarnings("NullableProblems")
@@ -28,13 +56,24 @@ public class RateLimitingFilter extends OncePerRequestFilter {
         String path = request.getRequestURI();
         
         if (path.startsWith("/auth/")) {
-            String clientId = getClientId(request);
-            Bucket bucket = cache.computeIfAbsent(clientId, k -> createBucket());
+            ClientContext client = clientContextResolver.contextOf(request);
+            String clientId = client.ipAddress();
+            boolean hot = heavyHitters.recordAuthRequest(clientId, client.userAgent());
+            Bucket bucket = cache.computeIfAbsent(clientId, k -> createBucket(10));
 
-            if (!bucket.tryConsume(1)) {
+            boolean limited = !bucket.tryConsume(1);
+            if (limited) {
+                rejected.increment();
+            } else if (hot && !hotCache.computeIfAbsent(clientId,
+                    k -> createBucket(heavyHitterProperties.getHotRequestsPerMinute())).tryConsume(1)) {
+                hotRejected.increment();
+                limited = true;
+            }
+            if (limited) {
                 response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
                 response.setContentType("application/json");
-                response.getWriter().write("{\"error\":\"Too many requests\",\"code\":\"RATE_LIMIT_EXCEEDED\",\"status\":429}");
+                response.setContentLength(TOO_MANY_REQUESTS_BODY.length);
+                response.getOutputStream().write(TOO_MANY_REQUESTS_BODY);
                 return;
             }
         }
@@ -42,17 +81,9 @@ public class RateLimitingFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
-    private String getClientId(HttpServletRequest request) {
-        String xForwardedFor = request.getHeader("X-Forwarded-For");
-        if (xForwardedFor != null && !xForwardedFor.isEmpty()) {
-            return xForwardedFor.split(",")[0].trim();
-        }
-        return request.getRemoteAddr();
-    }
-
     @SuppressWarnings("deprecation")
-    private Bucket createBucket() {
-        Bandwidth limit = Bandwidth.simple(10, Duration.ofMinutes(1));
+    private Bucket createBucket(int requestsPerMinute) {
+        Bandwidth limit = Bandwidth.simple(requestsPerMinute, Duration.ofMinutes(1));
         return Bucket.builder()
                 .addLimit(limit)
                 .build();
@@ -1,36 +1,45 @@
 package com.user.UserService.security;
 
+import com.user.UserService.security.event.SecurityEventHandler;
 import com.user.UserService.user.domain.event.UserLoggedInEvent;
 import com.user.UserService.user.domain.event.UserRegisteredEvent;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
+/**
+ * Writes the security audit log. Runs on the event pipeline's consumer threads, after the transaction committed.
+ */
 @Slf4j
 @Component
-public class SecurityEventListener {
-
-    @EventListener
-    public void onUserRegistered(UserRegisteredEvent event) {
-        log.info("Security Event: User registered - userId={}, email={}", 
-                event.userId(), 
-                maskEmail(event.email()));
-    }
+public class SecurityEventListener implements SecurityEventHandler {
 
-    @EventListener
-    public void onUserLoggedIn(UserLoggedInEvent event) {
-        log.info("Security Event: User logged in - userId={}, email={}, ipAddress={}", 
-                event.userId(), 
-                maskEmail(event.email()),
-                event.ipAddress());
+    @Override
+    public void handle(List<Object> events) {
+        if (!log.isInfoEnabled()) {
+            return;
+        }
+        for (Object event : events) {
+            switch (event) {
+                case UserRegisteredEvent registered -> log.info("Security Event: User registered - userId={}, email={}",
+                        registered.userId(),
+                        maskEmail(registered.email()));
+                case UserLoggedInEvent loggedIn -> log.info("Security Event: User logged in - userId={}, email={}, ipAddress={}",
+                        loggedIn.userId(),
+                        maskEmail(loggedIn.email()),
+                        loggedIn.ipAddress());
+                default -> {
+                }
+            }
+        }
     }
 
-    private String maskEmail(String email) {
-        if (email == null || !email.contains("@")) {
+    static String maskEmail(String email) {
+        int at = email == null ? -1 : email.indexOf('@');
+        if (at < 0) {
             return "***";
         }
-        String[] parts = email.split("@");
-        return parts[0].substring(0, Math.min(2, parts[0].length())) + "***@" + parts[1];
+        return email.substring(0, Math.min(2, at)) + "***" + email.substring(at);
     }
 }
-
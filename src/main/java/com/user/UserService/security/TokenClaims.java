@@ -0,0 +1,23 @@
+package com.user.UserService.security;
+
+import java.time.Instant;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Verified access-token claims, attached to the {@code Authentication} as details by {@link JwtAuthenticationFilter}.
+ * {@code fullName} and {@code createdAt} are null unless enabled under {@code security.jwt.profile-claims}.
+ */
+public record TokenClaims(
+        UUID userId,
+        String email,
+        Set<String> roles,
+        String fullName,
+        Instant createdAt
+) {
+
+    /**
+     * Request attribute carrying the claims for the rest of the request, independent of the executing thread.
+     */
+    public static final String REQUEST_ATTRIBUTE = TokenClaims.class.getName();
+}
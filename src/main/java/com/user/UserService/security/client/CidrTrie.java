@@ -0,0 +1,139 @@
+package com.user.UserService.security.client;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * A set of CIDR blocks compiled into two prefix tries, one per address family, that branch on a whole byte per
+ * level: a lookup is at most 4 array reads for IPv4 and 16 for IPv6. A block whose length is not a multiple of
+ * eight is expanded into every byte value it covers at its last level, so matching never needs a bit mask.
+ * IPv4 addresses are matched against IPv4 blocks, including IPv4-mapped ones such as {@code ::ffff:10.0.0.0/104}.
+ */
+public final class CidrTrie {
+
+    private static final int MATCH = -1;
+
+    // Node n occupies entries [n * 256, n * 256 + 256): 0 for no child, MATCH, or the index of the child node.
+    private final int[] ipv4;
+    private final int[] ipv6;
+
+    private CidrTrie(int[] ipv4, int[] ipv6) {
+        this.ipv4 = ipv4;
+        this.ipv6 = ipv6;
+    }
+
+    /**
+     * @param blocks CIDR blocks such as {@code 10.0.0.0/8} or {@code fc00::/7}; a bare address is a single host
+     * @throws IllegalArgumentException if a block cannot be parsed
+     */
+    public static CidrTrie compile(Collection<String> blocks) {
+        List<int[]> ipv4 = new ArrayList<>(List.of(new int[256]));
+        List<int[]> ipv6 = new ArrayList<>(List.of(new int[256]));
+        for (String block : blocks) {
+            String trimmed = block.trim();
+            int slash = trimmed.indexOf('/');
+            IpAddress address = IpAddress.parse(trimmed, 0, slash < 0 ? trimmed.length() : slash);
+            if (address == null) {
+                throw new IllegalArgumentException("Invalid CIDR block: " + block);
+            }
+            boolean dotted = trimmed.indexOf(':') < 0;
+            int length = prefixLength(trimmed, slash, dotted ? 32 : 128);
+            if (dotted) {
+                insert(ipv4, bytes(address.ipv4(), 4), length);
+            } else if (address.isIpv4() && length >= 96) {
+                insert(ipv4, bytes(address.ipv4(), 4), length - 96);
+            } else {
+                byte[] prefix = new byte[16];
+                System.arraycopy(bytes(address.high(), 8), 0, prefix, 0, 8);
+                System.arraycopy(bytes(address.low(), 8), 0, prefix, 8, 8);
+                insert(ipv6, prefix, length);
+            }
+        }
+        return new CidrTrie(flatten(ipv4), flatten(ipv6));
+    }
+
+    public boolean contains(IpAddress address) {
+        if (address.isIpv4()) {
+            int value = address.ipv4();
+            int node = 0;
+            for (int shift = 24; shift >= 0; shift -= 8) {
+                int entry = ipv4[node << 8 | value >>> shift & 0xFF];
+                if (entry <= 0) {
+                    return entry == MATCH;
+                }
+                node = entry;
+            }
+            return false;
+        }
+        int node = 0;
+        for (int index = 0; index < 16; index++) {
+            long word = index < 8 ? address.high() : address.low();
+            int entry = ipv6[node << 8 | (int) (word >>> 56 - 8 * (index & 7)) & 0xFF];
+            if (entry <= 0) {
+                return entry == MATCH;
+            }
+            node = entry;
+        }
+        return false;
+    }
+
+    private static int prefixLength(String block, int slash, int maximum) {
+        if (slash < 0) {
+            return maximum;
+        }
+        try {
+            int length = Integer.parseInt(block, slash + 1, block.length(), 10);
+            if (length < 0 || length > maximum) {
+                throw new IllegalArgumentException("Invalid CIDR prefix length: " + block);
+            }
+            return length;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid CIDR prefix length: " + block);
+        }
+    }
+
+    private static void insert(List<int[]> nodes, byte[] prefix, int length) {
+        int node = 0;
+        int fullBytes = length / 8;
+        int remainingBits = length % 8;
+        for (int i = 0; i < fullBytes; i++) {
+            int[] table = nodes.get(node);
+            int value = prefix[i] & 0xFF;
+            if (table[value] == MATCH) {
+                return;
+            }
+            if (i == fullBytes - 1 && remainingBits == 0) {
+                table[value] = MATCH;
+                return;
+            }
+            if (table[value] == 0) {
+                nodes.add(new int[256]);
+                table[value] = nodes.size() - 1;
+            }
+            node = table[value];
+        }
+        // A shorter block replaces any longer ones below it, which it covers anyway.
+        int[] table = nodes.get(node);
+        int first = prefix[fullBytes] & 0xFF & 0xFF << 8 - remainingBits;
+        for (int value = first; value < first + (1 << 8 - remainingBits); value++) {
+            table[value] = MATCH;
+        }
+    }
+
+    private static byte[] bytes(long value, int count) {
+        byte[] bytes = new byte[count];
+        for (int i = 0; i < count; i++) {
+            bytes[i] = (byte) (value >>> 8 * (count - 1 - i));
+        }
+        return bytes;
+    }
+
+    private static int[] flatten(List<int[]> nodes) {
+        int[] flat = new int[nodes.size() << 8];
+        for (int i = 0; i < nodes.size(); i++) {
+            System.arraycopy(nodes.get(i), 0, flat, i << 8, 256);
+        }
+        return flat;
+    }
+}
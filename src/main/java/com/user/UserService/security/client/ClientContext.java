@@ -0,0 +1,35 @@
+package com.user.UserService.security.client;
+
+/**
+ * Who sent the current request, resolved once by {@link ClientContextFilter} and stored as a request attribute.
+ * {@code ipHigh} and {@code ipLow} hold the address as 128 bits (IPv4 in its IPv4-mapped form, see
+ * {@link IpAddress}); both are zero when the address that had to be used could not be parsed.
+ */
+public record ClientContext(
+        String ipAddress,
+        long ipHigh,
+        long ipLow,
+        String userAgent
+) {
+
+    public static final String REQUEST_ATTRIBUTE = ClientContext.class.getName();
+
+    // Longest textual IPv6 address; also the width of the ip_address audit column.
+    private static final int MAX_ADDRESS_LENGTH = 45;
+
+    public static ClientContext of(String ipAddress, String userAgent) {
+        return of(ipAddress, IpAddress.parse(ipAddress), userAgent);
+    }
+
+    static ClientContext of(String ipAddress, IpAddress parsed, String userAgent) {
+        if (parsed == null) {
+            return new ClientContext(ipAddress.length() > MAX_ADDRESS_LENGTH
+                    ? ipAddress.substring(0, MAX_ADDRESS_LENGTH) : ipAddress, 0, 0, userAgent);
+        }
+        return new ClientContext(ipAddress, parsed.high(), parsed.low(), userAgent);
+    }
+
+    public IpAddress ip() {
+        return new IpAddress(ipHigh, ipLow);
+    }
+}
@@ -0,0 +1,31 @@
+package com.user.UserService.security.client;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * First filter of the security chain: resolves the {@link ClientContext} once, for the rate limiter, controllers
+ * and services alike.
+ */
+@Component
+@RequiredArgsConstructor
+public class ClientContextFilter extends OncePerRequestFilter {
+
+    private final ClientContextResolver clientContextResolver;
+
+    @Override
+    @SuppressWarnings("NullableProblems")
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        clientContextResolver.contextOf(request);
+        filterChain.doFilter(request, response);
+    }
+}
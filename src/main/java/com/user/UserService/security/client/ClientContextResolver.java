@@ -0,0 +1,104 @@
+package com.user.UserService.security.client;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.Enumeration;
+
+/**
+ * Resolves the client address the way a chain of proxies reports it. The connection's peer is the client unless
+ * it is a trusted proxy; then X-Forwarded-For is walked from the right, skipping entries that are trusted proxies
+ * themselves, and the first other entry is the client. Entries left of it were written by the client and are not
+ * believed. X-Real-IP is only consulted when a trusted proxy sent no X-Forwarded-For.
+ */
+@Component
+public class ClientContextResolver {
+
+    private final CidrTrie trustedProxies;
+
+    public ClientContextResolver(ClientContextProperties properties) {
+        this.trustedProxies = CidrTrie.compile(properties.getTrustedProxies());
+    }
+
+    /**
+     * The context stored on the request by {@link ClientContextFilter}, resolved now if the filter has not run.
+     */
+    public ClientContext contextOf(HttpServletRequest request) {
+        if (request.getAttribute(ClientContext.REQUEST_ATTRIBUTE) instanceof ClientContext context) {
+            return context;
+        }
+        ClientContext context = resolve(request);
+        request.setAttribute(ClientContext.REQUEST_ATTRIBUTE, context);
+        return context;
+    }
+
+    ClientContext resolve(HttpServletRequest request) {
+        String userAgent = request.getHeader("User-Agent");
+        String peer = request.getRemoteAddr();
+        IpAddress peerAddress = IpAddress.parse(peer);
+        if (peerAddress == null || !trustedProxies.contains(peerAddress)) {
+            return ClientContext.of(peer, peerAddress, userAgent);
+        }
+
+        String forwardedFor = forwardedFor(request);
+        if (forwardedFor != null) {
+            ClientContext client = fromForwardedFor(forwardedFor, userAgent);
+            if (client != null) {
+                return client;
+            }
+        }
+        String realIp = request.getHeader("X-Real-IP");
+        if (realIp != null && !realIp.isBlank()) {
+            String trimmed = realIp.strip();
+            return ClientContext.of(trimmed, IpAddress.parse(trimmed), userAgent);
+        }
+        return ClientContext.of(peer, peerAddress, userAgent);
+    }
+
+    // Null if the header holds no entries.
+    private ClientContext fromForwardedFor(String forwardedFor, String userAgent) {
+        String leftmost = null;
+        IpAddress leftmostAddress = null;
+        int end = forwardedFor.length();
+        while (end >= 0) {
+            int comma = forwardedFor.lastIndexOf(',', end - 1);
+            int start = comma + 1;
+            int stop = end;
+            while (start < stop && forwardedFor.charAt(start) == ' ') {
+                start++;
+            }
+            while (stop > start && forwardedFor.charAt(stop - 1) == ' ') {
+                stop--;
+            }
+            if (start < stop) {
+                IpAddress address = IpAddress.parse(forwardedFor, start, stop);
+                String entry = forwardedFor.substring(start, stop);
+                if (address == null || !trustedProxies.contains(address)) {
+                    return ClientContext.of(entry, address, userAgent);
+                }
+                leftmost = entry;
+                leftmostAddress = address;
+            }
+            end = comma;
+        }
+        // Every hop is a trusted proxy, so the request started inside the trusted network.
+        return leftmost == null ? null : ClientContext.of(leftmost, leftmostAddress, userAgent);
+    }
+
+    // Proxies may append their own header instead of extending the existing one; read together they form one list.
+    private static String forwardedFor(HttpServletRequest request) {
+        Enumeration<String> headers = request.getHeaders("X-Forwarded-For");
+        if (headers == null || !headers.hasMoreElements()) {
+            return null;
+        }
+        String first = headers.nextElement();
+        if (!headers.hasMoreElements()) {
+            return first;
+        }
+        StringBuilder joined = new StringBuilder(first);
+        while (headers.hasMoreElements()) {
+            joined.append(',').append(headers.nextElement());
+        }
+        return joined.toString();
+    }
+}
@@ -0,0 +1,138 @@
+package com.user.UserService.security.client;
+
+/**
+ * An IP address as 128 bits. IPv4 addresses are held in their IPv4-mapped IPv6 form, {@code ::ffff:a.b.c.d}, so
+ * both families compare and hash alike.
+ */
+public record IpAddress(long high, long low) {
+
+    private static final long IPV4_MAPPED = 0xFFFFL << 32;
+
+    public static IpAddress ofIpv4(int address) {
+        return new IpAddress(0, IPV4_MAPPED | address & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Parses a textual IPv4 or IPv6 address in {@code text[start, end)}, without going through
+     * {@code InetAddress}, which may resolve host names. An IPv6 zone ({@code %eth0}) is ignored.
+     *
+     * @return the address, or null if the text is not one
+     */
+    public static IpAddress parse(String text, int start, int end) {
+        int zone = text.indexOf('%', start);
+        if (zone >= 0 && zone < end) {
+            end = zone;
+        }
+        if (start >= end) {
+            return null;
+        }
+        int colon = text.indexOf(':', start);
+        if (colon < 0 || colon >= end) {
+            long ipv4 = parseIpv4(text, start, end);
+            return ipv4 < 0 ? null : ofIpv4((int) ipv4);
+        }
+        return parseIpv6(text, start, end);
+    }
+
+    public static IpAddress parse(String text) {
+        return parse(text, 0, text.length());
+    }
+
+    public boolean isIpv4() {
+        return high == 0 && (low & ~0xFFFFFFFFL) == IPV4_MAPPED;
+    }
+
+    public int ipv4() {
+        return (int) low;
+    }
+
+    // The address as an unsigned 32-bit value, or -1 if the text is not a dotted quad.
+    private static long parseIpv4(String text, int start, int end) {
+        long address = 0;
+        int octets = 0;
+        int octet = 0;
+        int digits = 0;
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (c >= '0' && c <= '9' && digits < 3) {
+                octet = octet * 10 + (c - '0');
+                digits++;
+            } else if (c == '.' && digits > 0 && octet <= 255 && octets < 3) {
+                address = address << 8 | octet;
+                octets++;
+                octet = 0;
+                digits = 0;
+            } else {
+                return -1;
+            }
+        }
+        if (digits == 0 || octet > 255 || octets != 3) {
+            return -1;
+        }
+        return address << 8 | octet;
+    }
+
+    private static IpAddress parseIpv6(String text, int start, int end) {
+        int[] groups = new int[8];
+        int count = 0;
+        // Index of the group the "::" stands in front of, or -1 without one.
+        int gap = -1;
+        int i = start;
+        if (text.startsWith("::", start)) {
+            gap = 0;
+            i += 2;
+        }
+        while (i < end) {
+            int groupStart = i;
+            int group = 0;
+            int digits = 0;
+            int nibble;
+            while (i < end && digits <= 4 && (nibble = Character.digit(text.charAt(i), 16)) >= 0) {
+                group = group << 4 | nibble;
+                digits++;
+                i++;
+            }
+            if (i < end && text.charAt(i) == '.') {
+                long ipv4 = parseIpv4(text, groupStart, end);
+                if (ipv4 < 0 || count > 6) {
+                    return null;
+                }
+                groups[count++] = (int) (ipv4 >>> 16);
+                groups[count++] = (int) (ipv4 & 0xFFFF);
+                break;
+            }
+            if (digits == 0 || digits > 4 || count == 8) {
+                return null;
+            }
+            groups[count++] = group;
+            if (i == end) {
+                break;
+            }
+            if (text.charAt(i++) != ':' || i == end) {
+                return null;
+            }
+            if (text.charAt(i) == ':') {
+                if (gap >= 0) {
+                    return null;
+                }
+                gap = count;
+                i++;
+            }
+        }
+        if (gap < 0 ? count != 8 : count == 8) {
+            return null;
+        }
+
+        long high = 0;
+        long low = 0;
+        for (int group = 0; group < count; group++) {
+            int position = gap >= 0 && group >= gap ? group + 8 - count : group;
+            if (position < 4) {
+                high |= (long) groups[group] << 48 - 16 * position;
+            } else {
+                low |= (long) groups[group] << 48 - 16 * (position - 4);
+            }
+        }
+        return new IpAddress(high, low);
+    }
+}
@@ -0,0 +1,13 @@
+package com.user.UserService.security.event;
+
+/**
+ * What the publishing thread does when its shard of the event buffer is full.
+ */
+public enum OverflowPolicy {
+    /** Discard the new event and count it under {@code security.events.dropped}. */
+    DROP,
+    /** Wait up to {@code block-timeout} for space, then drop. Adds that wait to the request. */
+    BLOCK,
+    /** Run the handlers on the publishing thread; nothing is lost, but the request pays for it. */
+    CALLER_RUNS
+}
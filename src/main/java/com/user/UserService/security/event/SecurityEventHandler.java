@@ -0,0 +1,13 @@
+package com.user.UserService.security.event;
+
+import java.util.List;
+
+/**
+ * Receives security events from {@link SecurityEventPipeline}, in publication order per user.
+ * Called from the pipeline's consumer threads, and from request threads under {@link OverflowPolicy#CALLER_RUNS},
+ * so implementations must be thread-safe.
+ */
+public interface SecurityEventHandler {
+
+    void handle(List<Object> events);
+}
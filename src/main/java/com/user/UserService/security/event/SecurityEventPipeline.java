@@ -0,0 +1,227 @@
+package com.user.UserService.security.event;
+
+import com.user.UserService.common.MpscRingBuffer;
+import com.user.UserService.user.domain.event.UserLoggedInEvent;
+import com.user.UserService.user.domain.event.UserLoginFailedEvent;
+import com.user.UserService.user.domain.event.UserRegisteredEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Moves security event handling off the request thread. Events are taken once their transaction has committed,
+ * so rolled-back registrations and logins are never reported, and pushed onto a bounded ring buffer; consumer
+ * threads drain it in batches and pass each batch to every {@link SecurityEventHandler}. Failed login attempts
+ * roll their transaction back, so they are taken once it has completed instead.
+ * <p>
+ * The buffer is sharded by user id, one shard per consumer, which keeps each user's events in order. Publishing
+ * never takes a lock; when a shard is full the configured {@link OverflowPolicy} applies. Before start and after
+ * shutdown, events are handled on the publishing thread.
+ */
+@Slf4j
+@Component
+public class SecurityEventPipeline implements SmartLifecycle {
+
+    // Bounds the time an event can sit unnoticed if a wake-up is missed.
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final SecurityEventProperties properties;
+    private final List<SecurityEventHandler> handlers;
+    private final Shard[] shards;
+    private final Counter published;
+    private final Counter dropped;
+    private final Counter callerRuns;
+    private final Timer lag;
+    private volatile boolean running;
+
+    public SecurityEventPipeline(SecurityEventProperties properties,
+                                 List<SecurityEventHandler> handlers,
+                                 MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.handlers = List.copyOf(handlers);
+        this.shards = new Shard[Math.max(1, properties.getConsumers())];
+        for (int i = 0; i < shards.length; i++) {
+            shards[i] = new Shard(new MpscRingBuffer<>(properties.getCapacity()));
+        }
+        this.published = meterRegistry.counter("security.events.published");
+        this.dropped = meterRegistry.counter("security.events.dropped");
+        this.callerRuns = meterRegistry.counter("security.events.caller.runs");
+        this.lag = Timer.builder("security.events.lag")
+                .description("Time from commit until the handlers saw the event")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("security.events.backlog", this, SecurityEventPipeline::backlog)
+                .description("Events buffered but not yet handled")
+                .register(meterRegistry);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserRegistered(UserRegisteredEvent event) {
+        publish(event.userId(), event);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserLoggedIn(UserLoggedInEvent event) {
+        publish(event.userId(), event);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void onUserLoginFailed(UserLoginFailedEvent event) {
+        publish(event.userId(), event);
+    }
+
+    void publish(UUID key, Object event) {
+        published.increment();
+        Envelope envelope = new Envelope(event, System.nanoTime());
+        if (!running) {
+            dispatch(List.of(envelope));
+            return;
+        }
+
+        Shard shard = shards[key == null ? 0 : Math.floorMod(key.hashCode(), shards.length)];
+        if (shard.buffer.offer(envelope) || (properties.getOverflow() == OverflowPolicy.BLOCK && awaitSpace(shard, envelope))) {
+            shard.wake();
+            return;
+        }
+
+        if (properties.getOverflow() == OverflowPolicy.CALLER_RUNS) {
+            callerRuns.increment();
+            dispatch(List.of(envelope));
+        } else {
+            dropped.increment();
+            log.debug("Security event buffer full, dropped {}", event.getClass().getSimpleName());
+        }
+    }
+
+    private boolean awaitSpace(Shard shard, Envelope envelope) {
+        long deadline = System.nanoTime() + properties.getBlockTimeout().toNanos();
+        while (System.nanoTime() < deadline) {
+            shard.wake();
+            LockSupport.parkNanos(BLOCK_PARK_NANOS);
+            if (shard.buffer.offer(envelope)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void consume(Shard shard) {
+        int batchSize = Math.max(1, properties.getBatchSize());
+        List<Envelope> batch = new ArrayList<>(batchSize);
+        while (running || !shard.buffer.isEmpty()) {
+            if (shard.buffer.drain(batch::add, batchSize) == 0) {
+                shard.idle = true;
+                if (running && shard.buffer.isEmpty()) {
+                    LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                }
+                shard.idle = false;
+                continue;
+            }
+            dispatch(batch);
+            batch.clear();
+        }
+    }
+
+    private void dispatch(List<Envelope> batch) {
+        long now = System.nanoTime();
+        List<Object> events = new ArrayList<>(batch.size());
+        for (Envelope envelope : batch) {
+            lag.record(now - envelope.enqueuedAt, TimeUnit.NANOSECONDS);
+            events.add(envelope.event);
+        }
+        List<Object> view = List.copyOf(events);
+        for (SecurityEventHandler handler : handlers) {
+            try {
+                handler.handle(view);
+            } catch (RuntimeException e) {
+                log.warn("Security event handler {} failed on a batch of {}", handler.getClass().getSimpleName(), view.size(), e);
+            }
+        }
+    }
+
+    private int backlog() {
+        int backlog = 0;
+        for (Shard shard : shards) {
+            backlog += shard.buffer.size();
+        }
+        return backlog;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        for (int i = 0; i < shards.length; i++) {
+            Shard shard = shards[i];
+            shard.consumer = Thread.ofPlatform()
+                    .name("security-events-" + i)
+                    .daemon(true)
+                    .start(() -> consume(shard));
+        }
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        long deadline = System.nanoTime() + properties.getShutdownTimeout().toNanos();
+        for (Shard shard : shards) {
+            if (shard.consumer == null) {
+                continue;
+            }
+            LockSupport.unpark(shard.consumer);
+            try {
+                shard.consumer.join(Math.max(1, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (shard.consumer.isAlive()) {
+                log.warn("Security event consumer {} did not drain within {}, {} events left",
+                        shard.consumer.getName(), properties.getShutdownTimeout(), shard.buffer.size());
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Started before and stopped after the web server, so in-flight requests can still publish during shutdown.
+     */
+    @Override
+    public int getPhase() {
+        return 0;
+    }
+
+    private record Envelope(Object event, long enqueuedAt) {
+    }
+
+    private static final class Shard {
+        private final MpscRingBuffer<Envelope> buffer;
+        private volatile Thread consumer;
+        private volatile boolean idle;
+
+        private Shard(MpscRingBuffer<Envelope> buffer) {
+            this.buffer = buffer;
+        }
+
+        private void wake() {
+            if (idle) {
+                LockSupport.unpark(consumer);
+            }
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.user.UserService.security.event;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "security.events")
+public class SecurityEventProperties {
+    /** Slots per consumer; rounded up to a power of two. */
+    private int capacity = 8_192;
+    /** Consumer threads, each draining its own buffer. Events of one user always go to the same consumer. */
+    private int consumers = 1;
+    /** Events handed to the handlers in one call. */
+    private int batchSize = 256;
+    private OverflowPolicy overflow = OverflowPolicy.DROP;
+    /** Longest a publisher waits for space under {@link OverflowPolicy#BLOCK}. */
+    private Duration blockTimeout = Duration.ofMillis(10);
+    /** How long shutdown waits for the consumers to drain what is already buffered. */
+    private Duration shutdownTimeout = Duration.ofSeconds(5);
+}
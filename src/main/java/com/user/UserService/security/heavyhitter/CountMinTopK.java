@@ -0,0 +1,159 @@
+package com.user.UserService.security.heavyhitter;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Streaming top-K in constant memory: a count-min sketch estimates how often each key was offered, and a set of
+ * at most {@code k} candidate keys remembers which keys currently have the highest estimates. Estimates are exact
+ * up to 128 apart from hash collisions, which a wider sketch makes rarer, and within about a tenth beyond.
+ * <p>
+ * {@link #offer} is lock-free: it bumps one counter per row and only takes the admission lock when a key that
+ * is not yet a candidate outgrows the smallest candidate. {@link #decay} halves every counter, so traffic fades
+ * out geometrically and an estimate approximates the last two decay intervals.
+ */
+public final class CountMinTopK {
+
+    private static final int EXACT = 128;
+
+    private final int k;
+    private final int depth;
+    private final int width;
+    private final int mask;
+    private final AtomicIntegerArray counters;
+    private final Set<String> candidates = ConcurrentHashMap.newKeySet();
+    private final ReentrantLock admission = new ReentrantLock();
+    // Estimate a key must beat to replace the smallest candidate once all k slots are taken, zero before. The
+    // margin keeps a long tail of similar keys from evicting each other on every offer. Only rises between decays,
+    // so a stale read merely sends a key through admit() where it is compared against fresh estimates.
+    private volatile int floor;
+
+    public CountMinTopK(int k, int depth, int requestedWidth) {
+        if (k < 1 || depth < 1 || requestedWidth < 2) {
+            throw new IllegalArgumentException("Sketch needs k >= 1, depth >= 1 and width >= 2");
+        }
+        this.k = k;
+        this.depth = depth;
+        this.width = Integer.highestOneBit(requestedWidth - 1) << 1;
+        this.mask = width - 1;
+        this.counters = new AtomicIntegerArray(depth * width);
+    }
+
+    /**
+     * Counts one occurrence of {@code key} and returns its new estimate.
+     */
+    public int offer(String key) {
+        int h1 = hash(key);
+        int h2 = Integer.reverse(h1) * 0x85EBCA6B | 1;
+        int estimate = estimate(h1, h2);
+        // Up to EXACT a key is counted one by one. Beyond that it is counted in power-of-two steps, taken with the
+        // inverse probability, which keeps estimates unbiased within about a tenth while the counters of a hot key
+        // are mostly read rather than written, so threads hammering the same key do not fight over its cache lines.
+        int step = estimate < EXACT ? 1 : Integer.highestOneBit(estimate / EXACT);
+        if (step == 1 || ThreadLocalRandom.current().nextInt(step) == 0) {
+            estimate = Integer.MAX_VALUE;
+            for (int row = 0, offset = 0; row < depth; row++, offset += width) {
+                estimate = Math.min(estimate, counters.addAndGet(offset + (h1 + row * h2 & mask), step));
+            }
+        }
+        if (estimate > floor && !candidates.contains(key)) {
+            admit(key);
+        }
+        return estimate;
+    }
+
+    public int estimate(String key) {
+        int h1 = hash(key);
+        return estimate(h1, Integer.reverse(h1) * 0x85EBCA6B | 1);
+    }
+
+    /**
+     * The candidates with their current estimates, highest first.
+     */
+    public List<HeavyHitter> top() {
+        List<HeavyHitter> top = new ArrayList<>(k);
+        for (String key : candidates) {
+            int estimate = estimate(key);
+            if (estimate > 0) {
+                top.add(new HeavyHitter(key, estimate));
+            }
+        }
+        top.sort(Comparator.comparingInt(HeavyHitter::estimate).reversed());
+        return top;
+    }
+
+    /**
+     * Halves every counter and drops candidates whose estimate fell to zero.
+     */
+    public void decay() {
+        for (int i = 0; i < counters.length(); i++) {
+            counters.getAndUpdate(i, count -> count >>> 1);
+        }
+        admission.lock();
+        try {
+            candidates.removeIf(key -> estimate(key) == 0);
+            floor = candidates.size() < k ? 0 : withMargin(smallest().estimate());
+        } finally {
+            admission.unlock();
+        }
+    }
+
+    private void admit(String key) {
+        admission.lock();
+        try {
+            if (candidates.contains(key)) {
+                return;
+            }
+            if (candidates.size() < k) {
+                candidates.add(key);
+                return;
+            }
+            HeavyHitter smallest = smallest();
+            if (estimate(key) > withMargin(smallest.estimate())) {
+                candidates.remove(smallest.key());
+                candidates.add(key);
+                smallest = smallest();
+            }
+            floor = withMargin(smallest.estimate());
+        } finally {
+            admission.unlock();
+        }
+    }
+
+    // Caller holds the admission lock and candidates is not empty.
+    private HeavyHitter smallest() {
+        String smallestKey = null;
+        int smallestEstimate = Integer.MAX_VALUE;
+        for (String candidate : candidates) {
+            int estimate = estimate(candidate);
+            if (estimate < smallestEstimate) {
+                smallestKey = candidate;
+                smallestEstimate = estimate;
+            }
+        }
+        return new HeavyHitter(smallestKey, smallestEstimate);
+    }
+
+    private int estimate(int h1, int h2) {
+        int estimate = Integer.MAX_VALUE;
+        for (int row = 0, offset = 0; row < depth; row++, offset += width) {
+            estimate = Math.min(estimate, counters.get(offset + (h1 + row * h2 & mask)));
+        }
+        return estimate;
+    }
+
+    private static int withMargin(int estimate) {
+        return estimate + (estimate >>> 3);
+    }
+
+    private static int hash(String key) {
+        int h = key.hashCode() * 0x9E3779B9;
+        return h ^ h >>> 16;
+    }
+}
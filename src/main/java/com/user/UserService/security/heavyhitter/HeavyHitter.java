@@ -0,0 +1,7 @@
+package com.user.UserService.security.heavyhitter;
+
+/**
+ * A key among the most frequent of its dimension, with its decayed occurrence count.
+ */
+public record HeavyHitter(String key, int estimate) {
+}
@@ -0,0 +1,26 @@
+package com.user.UserService.security.heavyhitter;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "heavy-hitters")
+public class HeavyHitterProperties {
+    private boolean enabled = true;
+    /** Keys reported per dimension. */
+    private int topK = 20;
+    /** Rows of each count-min sketch; every row lowers the odds of an overestimate. */
+    private int depth = 4;
+    /** Counters per row, rounded up to a power of two; wider rows collide less. */
+    private int width = 4096;
+    /** Every count is halved this often, so an estimate mostly reflects the last two intervals. */
+    private Duration decayInterval = Duration.ofSeconds(30);
+    /** Estimated /auth requests from one client above which it gets the tighter rate limit below. */
+    private int hotThreshold = 100;
+    /** Rate limit for /auth requests from a client above the hot threshold, on top of the regular one. */
+    private int hotRequestsPerMinute = 2;
+}
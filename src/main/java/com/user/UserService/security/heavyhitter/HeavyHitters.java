@@ -0,0 +1,129 @@
+package com.user.UserService.security.heavyhitter;
+
+import com.user.UserService.user.domain.event.UserLoginFailedEvent;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Who is hammering the auth endpoints right now, in constant memory. One {@link CountMinTopK} per dimension:
+ * client IPs and user agents of every {@code /auth/} request, fed by the rate limiter, and normalized emails of
+ * failed logins. A background thread decays all three every {@code decay-interval}.
+ * <p>
+ * IPs whose estimate passes {@code hot-threshold} are reported back to the rate limiter, which then holds them
+ * to {@code hot-requests-per-minute} as well.
+ */
+@Component
+public class HeavyHitters implements SmartLifecycle {
+
+    private final HeavyHitterProperties properties;
+    private final CountMinTopK clientIps;
+    private final CountMinTopK userAgents;
+    private final CountMinTopK failedLoginEmails;
+    private volatile Thread decayer;
+    private volatile boolean running;
+
+    public HeavyHitters(HeavyHitterProperties properties) {
+        this.properties = properties;
+        this.clientIps = sketch(properties);
+        this.userAgents = sketch(properties);
+        this.failedLoginEmails = sketch(properties);
+    }
+
+    /**
+     * Counts an {@code /auth/} request.
+     *
+     * @return whether the client is hot and due the tighter rate limit
+     */
+    public boolean recordAuthRequest(String clientIp, String userAgent) {
+        if (!properties.isEnabled()) {
+            return false;
+        }
+        // Keyed by the header's hash in the sketch; only the few top-K candidates keep the string itself.
+        if (userAgent != null) {
+            userAgents.offer(userAgent);
+        }
+        return clientIps.offer(clientIp) > properties.getHotThreshold();
+    }
+
+    @EventListener
+    public void onUserLoginFailed(UserLoginFailedEvent event) {
+        if (properties.isEnabled()) {
+            failedLoginEmails.offer(event.email());
+        }
+    }
+
+    public Report report() {
+        return new Report(properties.getDecayInterval().toSeconds(),
+                clientIps.top(), failedLoginEmails.top(), userAgents.top());
+    }
+
+    void decay() {
+        clientIps.decay();
+        userAgents.decay();
+        failedLoginEmails.decay();
+    }
+
+    private void run() {
+        long intervalNanos = properties.getDecayInterval().toNanos();
+        long next = System.nanoTime() + intervalNanos;
+        while (running) {
+            LockSupport.parkNanos(this, next - System.nanoTime());
+            if (running && System.nanoTime() - next >= 0) {
+                decay();
+                next += intervalNanos;
+            }
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        if (properties.isEnabled()) {
+            decayer = Thread.ofPlatform().name("heavy-hitters-decay").daemon(true).start(this::run);
+        }
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread current = decayer;
+        if (current != null) {
+            LockSupport.unpark(current);
+            try {
+                current.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return 0;
+    }
+
+    private static CountMinTopK sketch(HeavyHitterProperties properties) {
+        return new CountMinTopK(properties.getTopK(), properties.getDepth(), properties.getWidth());
+    }
+
+    /**
+     * Estimates are occurrences, halved every {@code decayIntervalSeconds}.
+     */
+    public record Report(
+            long decayIntervalSeconds,
+            List<HeavyHitter> clientIps,
+            List<HeavyHitter> failedLoginEmails,
+            List<HeavyHitter> userAgents
+    ) {
+    }
+}
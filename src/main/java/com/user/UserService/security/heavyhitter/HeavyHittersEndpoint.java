@@ -0,0 +1,22 @@
+package com.user.UserService.security.heavyhitter;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@code GET /actuator/heavyhitters}; admin-only like every actuator endpoint other than health and info.
+ */
+@Component
+@Endpoint(id = "heavyhitters")
+@RequiredArgsConstructor
+public class HeavyHittersEndpoint {
+
+    private final HeavyHitters heavyHitters;
+
+    @ReadOperation
+    public HeavyHitters.Report heavyHitters() {
+        return heavyHitters.report();
+    }
+}
@@ -0,0 +1,84 @@
+package com.user.UserService.user.audit;
+
+import com.user.UserService.common.UuidV7;
+import com.user.UserService.security.event.SecurityEventHandler;
+import com.user.UserService.security.event.SecurityEventPipeline;
+import com.user.UserService.user.domain.event.UserLoggedInEvent;
+import com.user.UserService.user.domain.event.UserLoginFailedEvent;
+import com.user.UserService.user.repository.LoginAuditEntry;
+import com.user.UserService.user.repository.LoginAuditRepository;
+import com.user.UserService.user.service.DeviceSessionService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Records login attempts in {@code login_audit} without the login request ever waiting on the database.
+ * Attempts reach it through {@link SecurityEventPipeline}, and each batch the pipeline hands over is written with
+ * multi-row INSERTs, so rows per round trip grow with the login rate. Attempts the pipeline drops when its buffer
+ * is full are counted there, under {@code security.events.dropped}.
+ */
+@Slf4j
+@Component
+public class LoginAuditWriter implements SecurityEventHandler {
+
+    private static final int USER_AGENT_LENGTH = 500;
+
+    private final LoginAuditRepository loginAuditRepository;
+    private final Counter written;
+    private final Counter failed;
+    private final Timer flushTimer;
+
+    public LoginAuditWriter(LoginAuditRepository loginAuditRepository, MeterRegistry meterRegistry) {
+        this.loginAuditRepository = loginAuditRepository;
+        this.written = meterRegistry.counter("login.audit.written");
+        this.failed = meterRegistry.counter("login.audit.failed");
+        this.flushTimer = meterRegistry.timer("login.audit.flush");
+    }
+
+    @Override
+    public void handle(List<Object> events) {
+        List<LoginAuditEntry> batch = new ArrayList<>(events.size());
+        for (Object event : events) {
+            switch (event) {
+                case UserLoggedInEvent loggedIn -> batch.add(entry(loggedIn.userId(), loggedIn.email(),
+                        loggedIn.loggedInAt(), loggedIn.ipAddress(), loggedIn.userAgent(), true, null));
+                case UserLoginFailedEvent loginFailed -> batch.add(entry(loginFailed.userId(), loginFailed.email(),
+                        loginFailed.attemptedAt(), loginFailed.ipAddress(), loginFailed.userAgent(), false,
+                        loginFailed.reason()));
+                default -> {
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            flush(batch);
+        }
+    }
+
+    private void flush(List<LoginAuditEntry> batch) {
+        try {
+            flushTimer.record(() -> loginAuditRepository.insertAll(batch));
+            written.increment(batch.size());
+        } catch (RuntimeException e) {
+            failed.increment(batch.size());
+            log.warn("Could not write {} login audit records", batch.size(), e);
+        }
+    }
+
+    // Parsing the user agent happens here, on the pipeline's consumer thread, instead of on the login path.
+    private static LoginAuditEntry entry(UUID userId, String email, Instant occurredAt,
+                                         String ipAddress, String userAgent, boolean success, String failureReason) {
+        String truncated = userAgent != null && userAgent.length() > USER_AGENT_LENGTH
+                ? userAgent.substring(0, USER_AGENT_LENGTH)
+                : userAgent;
+        return new LoginAuditEntry(UuidV7.generate(), userId, email, occurredAt, ipAddress, truncated,
+                DeviceSessionService.extractDeviceName(truncated), success, failureReason);
+    }
+}
@@ -0,0 +1,122 @@
+package com.user.UserService.user.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+
+/**
+ * Fans profile invalidations out to every replica through Postgres {@code LISTEN/NOTIFY}.
+ * The listener holds its own connection outside the Hikari pool so it never starves request traffic.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "cache.user-profile.notifications", name = "enabled", havingValue = "true")
+public class PostgresUserProfileInvalidationChannel implements UserProfileInvalidationChannel, SmartLifecycle {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSourceProperties dataSourceProperties;
+    private final UserProfileCache userProfileCache;
+    private final UserProfileCacheProperties.Notifications properties;
+
+    private volatile boolean running;
+    private Thread listenerThread;
+
+    public PostgresUserProfileInvalidationChannel(JdbcTemplate jdbcTemplate,
+                                                  DataSourceProperties dataSourceProperties,
+                                                  UserProfileCache userProfileCache,
+                                                  UserProfileCacheProperties cacheProperties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dataSourceProperties = dataSourceProperties;
+        this.userProfileCache = userProfileCache;
+        this.properties = cacheProperties.getNotifications();
+    }
+
+    @Override
+    public void publish(UUID userId) {
+        try {
+            jdbcTemplate.query("SELECT pg_notify(?, ?)", rs -> null, properties.getChannel(), userId.toString());
+        } catch (RuntimeException e) {
+            log.warn("Failed to broadcast profile invalidation for userId={}", userId, e);
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        listenerThread = new Thread(this::listen, "user-profile-invalidation");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void listen() {
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(
+                    dataSourceProperties.determineUrl(),
+                    dataSourceProperties.determineUsername(),
+                    dataSourceProperties.determinePassword())) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + properties.getChannel());
+                }
+                // Anything published while we were disconnected was missed.
+                userProfileCache.evictAll();
+
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                int timeoutMillis = (int) properties.getPollTimeout().toMillis();
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(timeoutMillis);
+                    if (notifications == null) {
+                        continue;
+                    }
+                    for (PGNotification notification : notifications) {
+                        evict(notification.getParameter());
+                    }
+                }
+            } catch (SQLException e) {
+                if (running) {
+                    log.warn("Profile invalidation listener disconnected, reconnecting", e);
+                    sleepBeforeReconnect();
+                }
+            }
+        }
+    }
+
+    private void evict(String payload) {
+        try {
+            userProfileCache.evict(UUID.fromString(payload));
+        } catch (IllegalArgumentException e) {
+            log.warn("Ignoring malformed profile invalidation payload: {}", payload);
+        }
+    }
+
+    private void sleepBeforeReconnect() {
+        try {
+            Thread.sleep(properties.getReconnectDelay().toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.user.UserService.user.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+
+/**
+ * Bounded, TTL'd cache of {@link UserProfileSnapshot}s keyed by user id.
+ * Entries are evicted locally by {@link UserProfileInvalidator} after a write commits
+ * and on other replicas by {@link PostgresUserProfileInvalidationChannel}.
+ * <p>
+ * A load may have read the row before a write committed and finish after that write's eviction. Every eviction
+ * therefore bumps a generation, striped by user id, and a load only fills the cache if its stripe's generation is
+ * unchanged since the load started; otherwise the caller still gets the loaded value, but it is not kept.
+ */
+@Component
+public class UserProfileCache {
+
+    static final String CACHE_NAME = "userProfile";
+    private static final int GENERATION_STRIPES = 256;
+
+    private final Cache<UUID, UserProfileSnapshot> cache;
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    public UserProfileCache(UserProfileCacheProperties properties, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public UserProfileSnapshot get(UUID userId, Function<UUID, UserProfileSnapshot> loader) {
+        UserProfileSnapshot cached = cache.getIfPresent(userId);
+        if (cached != null) {
+            return cached;
+        }
+        int stripe = stripe(userId);
+        long generation = generations.get(stripe);
+        UserProfileSnapshot loaded = loader.apply(userId);
+        if (loaded == null) {
+            return null;
+        }
+        // Checked under the entry's lock, so an eviction either sees this entry or makes the check fail.
+        cache.asMap().compute(userId, (id, current) -> generations.get(stripe) == generation ? loaded : current);
+        return loaded;
+    }
+
+    public void evict(UUID userId) {
+        generations.incrementAndGet(stripe(userId));
+        cache.invalidate(userId);
+    }
+
+    public void evictAll() {
+        for (int i = 0; i < GENERATION_STRIPES; i++) {
+            generations.incrementAndGet(i);
+        }
+        cache.invalidateAll();
+    }
+
+    private static int stripe(UUID userId) {
+        return userId.hashCode() & (GENERATION_STRIPES - 1);
+    }
+}
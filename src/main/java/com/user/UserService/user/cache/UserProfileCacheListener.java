@@ -0,0 +1,26 @@
+package com.user.UserService.user.cache;
+
+import com.user.UserService.user.domain.entity.User;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA entity listener that invalidates cached profiles whenever a user (including its role mask) is written.
+ */
+@Component
+public class UserProfileCacheListener {
+
+    private final ObjectProvider<UserProfileInvalidator> invalidator;
+
+    public UserProfileCacheListener(ObjectProvider<UserProfileInvalidator> invalidator) {
+        this.invalidator = invalidator;
+    }
+
+    @PostUpdate
+    @PostRemove
+    public void onWrite(User user) {
+        invalidator.ifAvailable(i -> i.invalidate(user.getId()));
+    }
+}
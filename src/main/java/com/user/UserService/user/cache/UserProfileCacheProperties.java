@@ -0,0 +1,24 @@
+package com.user.UserService.user.cache;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "cache.user-profile")
+public class UserProfileCacheProperties {
+    private long maximumSize = 10_000;
+    private Duration ttl = Duration.ofMinutes(5);
+    private Notifications notifications = new Notifications();
+
+    @Data
+    public static class Notifications {
+        private boolean enabled = false;
+        private String channel = "user_profile_invalidation";
+        private Duration pollTimeout = Duration.ofSeconds(5);
+        private Duration reconnectDelay = Duration.ofSeconds(5);
+    }
+}
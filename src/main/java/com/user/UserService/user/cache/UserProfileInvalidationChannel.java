@@ -0,0 +1,11 @@
+package com.user.UserService.user.cache;
+
+import java.util.UUID;
+
+/**
+ * Broadcasts profile invalidations to the other replicas sharing the database.
+ */
+public interface UserProfileInvalidationChannel {
+
+    void publish(UUID userId);
+}
@@ -0,0 +1,38 @@
+package com.user.UserService.user.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.UUID;
+
+@Component
+@RequiredArgsConstructor
+public class UserProfileInvalidator {
+
+    private final UserProfileCache userProfileCache;
+    private final ObjectProvider<UserProfileInvalidationChannel> invalidationChannel;
+
+    public void invalidate(UUID userId) {
+        if (userId == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidateNow(userId);
+                }
+            });
+        } else {
+            invalidateNow(userId);
+        }
+    }
+
+    private void invalidateNow(UUID userId) {
+        userProfileCache.evict(userId);
+        invalidationChannel.ifAvailable(channel -> channel.publish(userId));
+    }
+}
@@ -0,0 +1,12 @@
+package com.user.UserService.user.cache;
+
+import com.user.UserService.user.web.dto.UserResponse;
+
+import java.time.Instant;
+
+/**
+ * A cached profile together with the {@code updated_at} it was read at, so that the body and the ETag served
+ * for it always describe the same version.
+ */
+public record UserProfileSnapshot(UserResponse profile, Instant updatedAt) {
+}
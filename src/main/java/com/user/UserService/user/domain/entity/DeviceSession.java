@@ -1,5 +1,6 @@
 package com.user.UserService.user.domain.entity;
 
+import com.user.UserService.common.UuidV7;
 import jakarta.persistence.*;
 import lombok.*;
 import org.springframework.data.annotation.CreatedDate;
@@ -57,7 +58,7 @@ public class DeviceSession {
     @PrePersist
     protected void onCreate() {
         if (id == null) {
-            id = UUID.randomUUID();
+            id = UuidV7.generate();
         }
         if (createdAt == null) {
             createdAt = Instant.now();
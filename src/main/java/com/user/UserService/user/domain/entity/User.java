@@ -1,5 +1,7 @@
 package com.user.UserService.user.domain.entity;
 
+import com.user.UserService.common.UuidV7;
+import com.user.UserService.user.cache.UserProfileCacheListener;
 import com.user.UserService.user.domain.value.Role;
 import jakarta.persistence.*;
 import lombok.*;
@@ -8,8 +10,7 @@ import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.Instant;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.EnumSet;
 import java.util.UUID;
 
 @Getter
@@ -19,13 +20,13 @@ import java.util.UUID;
 @Builder
 @Entity
 @Table(name = "users")
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({AuditingEntityListener.class, UserProfileCacheListener.class})
 public class User {
 
     @Id
     private UUID id;
 
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false)
     private String email;
 
     @Column(name = "password_hash", nullable = false)
@@ -34,9 +35,8 @@ public class User {
     @Column(name = "full_name", nullable = false)
     private String fullName;
 
-    @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.EAGER)
-    @Builder.Default
-    private Set<UserRole> roles = new HashSet<>();
+    @Column(name = "roles", nullable = false)
+    private int roleMask;
 
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
@@ -52,7 +52,7 @@ public class User {
     @PrePersist
     protected void onCreate() {
         if (id == null) {
-            id = UUID.randomUUID();
+            id = UuidV7.generate();
         }
         if (createdAt == null) {
             createdAt = Instant.now();
@@ -76,23 +76,19 @@ public class User {
     }
 
     public void addRole(Role role) {
-        UserRole userRole = UserRole.builder()
-                .user(this)
-                .role(role)
-                .build();
-        roles.add(userRole);
+        roleMask |= role.mask();
+    }
+
+    public void removeRole(Role role) {
+        roleMask &= ~role.mask();
     }
 
     public boolean hasRole(Role role) {
-        return roles.stream().anyMatch(ur -> ur.getRole() == role);
+        return (roleMask & role.mask()) != 0;
     }
 
-    public Set<Role> getRoleSet() {
-        Set<Role> result = new HashSet<>();
-        for (UserRole ur : roles) {
-            result.add(ur.getRole());
-        }
-        return result;
+    public EnumSet<Role> getRoleSet() {
+        return Role.fromMask(roleMask);
     }
 }
 
@@ -0,0 +1,25 @@
+package com.user.UserService.user.domain.event;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A rejected login. {@code userId} is null when no active user has the attempted email, and for attempts refused
+ * by the lockout, which are turned away before the user is looked up.
+ */
+public record UserLoginFailedEvent(
+        UUID userId,
+        String email,
+        String ipAddress,
+        String userAgent,
+        String reason,
+        Instant attemptedAt
+) {
+    public static final String UNKNOWN_EMAIL = "UNKNOWN_EMAIL";
+    public static final String BAD_PASSWORD = "BAD_PASSWORD";
+    public static final String LOCKED_OUT = "LOCKED_OUT";
+
+    public static UserLoginFailedEvent of(UUID userId, String email, String ipAddress, String userAgent, String reason) {
+        return new UserLoginFailedEvent(userId, email, ipAddress, userAgent, reason, Instant.now());
+    }
+}
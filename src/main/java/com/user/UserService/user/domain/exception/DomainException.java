@@ -1,11 +1,17 @@
 package com.user.UserService.user.domain.exception;
 
+/**
+ * Base class for expected business failures. These are mapped to responses by the global handler and never
+ * logged with a stack trace, so none is captured: filling it in through the servlet and security filter
+ * chain dominated the cost of a rejected login. Suppression is disabled as well, which makes instances
+ * immutable and lets subclasses with a constant message share one instance.
+ */
 public abstract class DomainException extends RuntimeException {
 
     private final String code;
 
     protected DomainException(String message, String code) {
-        super(message);
+        super(message, null, false, false);
         this.code = code;
     }
 
@@ -13,4 +19,3 @@ public abstract class DomainException extends RuntimeException {
         return code;
     }
 }
-
@@ -0,0 +1,10 @@
+package com.user.UserService.user.domain.exception;
+
+public class IdempotencyKeyInProgressException extends DomainException {
+
+    public static final IdempotencyKeyInProgressException INSTANCE = new IdempotencyKeyInProgressException();
+
+    public IdempotencyKeyInProgressException() {
+        super("A request with this Idempotency-Key is still in progress", "IDEMPOTENCY_KEY_IN_PROGRESS");
+    }
+}
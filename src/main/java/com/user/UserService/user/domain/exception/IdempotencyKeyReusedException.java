@@ -0,0 +1,10 @@
+package com.user.UserService.user.domain.exception;
+
+public class IdempotencyKeyReusedException extends DomainException {
+
+    public static final IdempotencyKeyReusedException INSTANCE = new IdempotencyKeyReusedException();
+
+    public IdempotencyKeyReusedException() {
+        super("Idempotency-Key was already used for a different request", "IDEMPOTENCY_KEY_REUSED");
+    }
+}
@@ -2,6 +2,8 @@ package com.user.UserService.user.domain.exception;
 
 public class InvalidCredentialsException extends DomainException {
 
+    public static final InvalidCredentialsException INSTANCE = new InvalidCredentialsException();
+
     public InvalidCredentialsException() {
         super("Invalid email or password", "INVALID_CREDENTIALS");
     }
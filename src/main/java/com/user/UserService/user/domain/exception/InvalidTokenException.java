@@ -2,6 +2,8 @@ package com.user.UserService.user.domain.exception;
 
 public class InvalidTokenException extends DomainException {
 
+    public static final InvalidTokenException INSTANCE = new InvalidTokenException();
+
     public InvalidTokenException() {
         super("Invalid token", "INVALID_TOKEN");
     }
@@ -2,6 +2,8 @@ package com.user.UserService.user.domain.exception;
 
 public class TokenExpiredException extends DomainException {
 
+    public static final TokenExpiredException INSTANCE = new TokenExpiredException();
+
     public TokenExpiredException() {
         super("Token has expired", "TOKEN_EXPIRED");
     }
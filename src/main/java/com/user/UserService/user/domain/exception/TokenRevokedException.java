@@ -2,6 +2,8 @@ package com.user.UserService.user.domain.exception;
 
 public class TokenRevokedException extends DomainException {
 
+    public static final TokenRevokedException INSTANCE = new TokenRevokedException();
+
     public TokenRevokedException() {
         super("Token has been revoked", "TOKEN_REVOKED");
     }
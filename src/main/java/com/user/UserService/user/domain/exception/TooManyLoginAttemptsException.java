@@ -0,0 +1,17 @@
+package com.user.UserService.user.domain.exception;
+
+import java.time.Duration;
+
+public class TooManyLoginAttemptsException extends DomainException {
+
+    private final Duration retryAfter;
+
+    public TooManyLoginAttemptsException(Duration retryAfter) {
+        super("Too many failed login attempts; try again later", "TOO_MANY_LOGIN_ATTEMPTS");
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
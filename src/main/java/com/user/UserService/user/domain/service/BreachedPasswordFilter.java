@@ -0,0 +1,138 @@
+package com.user.UserService.user.domain.service;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Read-only Bloom filter over the SHA-1 hashes of breached passwords, memory-mapped from a file written by
+ * {@link BreachedPasswordFilterBuilder}. The bit array stays in the page cache instead of the heap; a lookup
+ * is one SHA-1 digest plus {@code hashes} single-byte reads.
+ *
+ * <p>File layout (big-endian): magic {@code BPWF}, format version, number of hash functions, a reserved int,
+ * the number of bits and the number of entries as longs, then the bit array. Bit {@code i} is bit
+ * {@code i % 8} of byte {@code i / 8}. Index {@code j} of an entry is {@code (h1 + j * h2) mod bits}, where
+ * {@code h1} and {@code h2} are the first two big-endian longs of its SHA-1 digest.
+ */
+public final class BreachedPasswordFilter {
+
+    static final int MAGIC = 0x42505746;
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 32;
+    // Largest power of two a single MappedByteBuffer can address.
+    static final int CHUNK_SHIFT = 30;
+    static final int CHUNK_MASK = (1 << CHUNK_SHIFT) - 1;
+
+    private static final MessageDigest SHA1 = sha1();
+
+    private final MappedByteBuffer[] chunks;
+    private final long bits;
+    private final int hashes;
+    private final long entries;
+
+    private BreachedPasswordFilter(MappedByteBuffer[] chunks, long bits, int hashes, long entries) {
+        this.chunks = chunks;
+        this.bits = bits;
+        this.hashes = hashes;
+        this.entries = entries;
+    }
+
+    public static BreachedPasswordFilter open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_BYTES) {
+                throw new IOException("Not a breached password filter: " + file);
+            }
+            ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_BYTES);
+            if (header.getInt() != MAGIC) {
+                throw new IOException("Not a breached password filter: " + file);
+            }
+            int version = header.getInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported breached password filter version " + version + ": " + file);
+            }
+            int hashes = header.getInt();
+            header.getInt();
+            long bits = header.getLong();
+            long entries = header.getLong();
+            long bytes = dataBytes(bits);
+            if (hashes < 1 || bits < 1 || channel.size() < HEADER_BYTES + bytes) {
+                throw new IOException("Corrupt breached password filter: " + file);
+            }
+
+            MappedByteBuffer[] chunks = new MappedByteBuffer[(int) ((bytes + CHUNK_MASK) >>> CHUNK_SHIFT)];
+            for (int i = 0; i < chunks.length; i++) {
+                long offset = (long) i << CHUNK_SHIFT;
+                chunks[i] = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_BYTES + offset,
+                        Math.min(1L << CHUNK_SHIFT, bytes - offset));
+            }
+            return new BreachedPasswordFilter(chunks, bits, hashes, entries);
+        }
+    }
+
+    /**
+     * True if the password is in the corpus, or is a false positive at the rate the filter was built for.
+     */
+    public boolean mightContain(String password) {
+        return mightContainDigest(digest(password.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    boolean mightContainDigest(byte[] sha1) {
+        long h1 = readLong(sha1, 0);
+        long h2 = readLong(sha1, 8);
+        for (int j = 0; j < hashes; j++) {
+            long index = Long.remainderUnsigned(h1 + j * h2, bits);
+            long offset = index >>> 3;
+            if ((chunks[(int) (offset >>> CHUNK_SHIFT)].get((int) (offset & CHUNK_MASK)) & (1 << (index & 7))) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public long entries() {
+        return entries;
+    }
+
+    public long bits() {
+        return bits;
+    }
+
+    public int hashes() {
+        return hashes;
+    }
+
+    static long dataBytes(long bits) {
+        return (bits + 7) >>> 3;
+    }
+
+    static long readLong(byte[] bytes, int offset) {
+        long value = 0;
+        for (int i = offset; i < offset + 8; i++) {
+            value = value << 8 | (bytes[i] & 0xFF);
+        }
+        return value;
+    }
+
+    static byte[] digest(byte[] input) {
+        try {
+            // Cloning a configured instance skips the provider lookup of MessageDigest.getInstance.
+            return ((MessageDigest) SHA1.clone()).digest(input);
+        } catch (CloneNotSupportedException e) {
+            return sha1().digest(input);
+        }
+    }
+
+    private static MessageDigest sha1() {
+        try {
+            return MessageDigest.getInstance("SHA-1");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-1 not available", e);
+        }
+    }
+}
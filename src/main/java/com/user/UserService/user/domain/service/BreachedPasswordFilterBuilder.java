@@ -0,0 +1,156 @@
+package com.user.UserService.user.domain.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+import static com.user.UserService.user.domain.service.BreachedPasswordFilter.CHUNK_MASK;
+import static com.user.UserService.user.domain.service.BreachedPasswordFilter.CHUNK_SHIFT;
+import static com.user.UserService.user.domain.service.BreachedPasswordFilter.HEADER_BYTES;
+
+/**
+ * Offline compiler from a breached-password corpus to a {@link BreachedPasswordFilter} file. The corpus has
+ * one hex SHA-1 per line, optionally followed by {@code :count} as in the Have I Been Pwned downloads; blank
+ * lines and lines starting with {@code #} are skipped. The corpus is read twice, once to size the filter for
+ * the requested false-positive rate and once to set the bits, which go straight into a memory-mapped output
+ * file so the heap stays small for corpora of any size.
+ *
+ * <pre>
+ * java -cp app.jar -Dloader.main=com.user.UserService.user.domain.service.BreachedPasswordFilterBuilder \
+ *     org.springframework.boot.loader.launch.PropertiesLauncher pwned-passwords-sha1.txt breached.bloom 0.001
+ * </pre>
+ */
+public final class BreachedPasswordFilterBuilder {
+
+    public static final double DEFAULT_FALSE_POSITIVE_RATE = 0.001;
+
+    private static final int MAX_HASHES = 30;
+
+    private BreachedPasswordFilterBuilder() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2 || args.length > 3) {
+            System.err.println("Usage: BreachedPasswordFilterBuilder <sha1-corpus> <filter-file> [false-positive-rate]");
+            System.exit(2);
+        }
+        double falsePositiveRate = args.length == 3 ? Double.parseDouble(args[2]) : DEFAULT_FALSE_POSITIVE_RATE;
+        long started = System.nanoTime();
+        BreachedPasswordFilter filter = build(Path.of(args[0]), Path.of(args[1]), falsePositiveRate);
+        System.out.printf("%d entries, %d bits (%.1f MiB), %d hashes, built in %.1fs%n",
+                filter.entries(), filter.bits(), BreachedPasswordFilter.dataBytes(filter.bits()) / 1048576.0,
+                filter.hashes(), (System.nanoTime() - started) / 1e9);
+    }
+
+    /**
+     * Builds the filter file, replacing {@code output} atomically, and returns it opened.
+     */
+    public static BreachedPasswordFilter build(Path corpus, Path output, double falsePositiveRate) throws IOException {
+        if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+            throw new IllegalArgumentException("False positive rate must be between 0 and 1: " + falsePositiveRate);
+        }
+        long entries = countEntries(corpus);
+        long bits = Math.max(64, (long) Math.ceil(-Math.max(entries, 1) * Math.log(falsePositiveRate)
+                / (Math.log(2) * Math.log(2))));
+        int hashes = (int) Math.max(1, Math.min(MAX_HASHES, Math.round((double) bits / Math.max(entries, 1) * Math.log(2))));
+        long bytes = BreachedPasswordFilter.dataBytes(bits);
+
+        Path absolute = output.toAbsolutePath();
+        if (absolute.getParent() != null) {
+            Files.createDirectories(absolute.getParent());
+        }
+        Path temporary = absolute.resolveSibling(absolute.getFileName() + ".tmp");
+        Files.deleteIfExists(temporary);
+        try (RandomAccessFile file = new RandomAccessFile(temporary.toFile(), "rw");
+             FileChannel channel = file.getChannel()) {
+            file.setLength(HEADER_BYTES + bytes);
+            MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES);
+            header.putInt(BreachedPasswordFilter.MAGIC)
+                    .putInt(BreachedPasswordFilter.VERSION)
+                    .putInt(hashes)
+                    .putInt(0)
+                    .putLong(bits)
+                    .putLong(entries);
+            header.force();
+
+            MappedByteBuffer[] chunks = new MappedByteBuffer[(int) ((bytes + CHUNK_MASK) >>> CHUNK_SHIFT)];
+            for (int i = 0; i < chunks.length; i++) {
+                long offset = (long) i << CHUNK_SHIFT;
+                chunks[i] = channel.map(FileChannel.MapMode.READ_WRITE, HEADER_BYTES + offset,
+                        Math.min(1L << CHUNK_SHIFT, bytes - offset));
+            }
+            addEntries(corpus, chunks, bits, hashes);
+            for (MappedByteBuffer chunk : chunks) {
+                chunk.force();
+            }
+        }
+        Files.move(temporary, absolute, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return BreachedPasswordFilter.open(absolute);
+    }
+
+    private static long countEntries(Path corpus) throws IOException {
+        long entries = 0;
+        try (BufferedReader reader = Files.newBufferedReader(corpus, StandardCharsets.US_ASCII)) {
+            long lineNumber = 0;
+            byte[] digest = new byte[20];
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                lineNumber++;
+                if (parse(line, digest, lineNumber)) {
+                    entries++;
+                }
+            }
+        }
+        return entries;
+    }
+
+    private static void addEntries(Path corpus, MappedByteBuffer[] chunks, long bits, int hashes) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(corpus, StandardCharsets.US_ASCII)) {
+            long lineNumber = 0;
+            byte[] digest = new byte[20];
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                lineNumber++;
+                if (!parse(line, digest, lineNumber)) {
+                    continue;
+                }
+                long h1 = BreachedPasswordFilter.readLong(digest, 0);
+                long h2 = BreachedPasswordFilter.readLong(digest, 8);
+                for (int j = 0; j < hashes; j++) {
+                    long index = Long.remainderUnsigned(h1 + j * h2, bits);
+                    long offset = index >>> 3;
+                    MappedByteBuffer chunk = chunks[(int) (offset >>> CHUNK_SHIFT)];
+                    int position = (int) (offset & CHUNK_MASK);
+                    chunk.put(position, (byte) (chunk.get(position) | 1 << (index & 7)));
+                }
+            }
+        }
+    }
+
+    private static boolean parse(String line, byte[] digest, long lineNumber) {
+        int start = 0;
+        int end = line.length();
+        while (start < end && line.charAt(start) <= ' ') {
+            start++;
+        }
+        if (start == end || line.charAt(start) == '#') {
+            return false;
+        }
+        if (end - start < 40 || (end - start > 40 && line.charAt(start + 40) != ':' && line.charAt(start + 40) > ' ')) {
+            throw new IllegalArgumentException("Line " + lineNumber + " is not a hex SHA-1 hash");
+        }
+        for (int i = 0; i < 20; i++) {
+            int high = Character.digit(line.charAt(start + 2 * i), 16);
+            int low = Character.digit(line.charAt(start + 2 * i + 1), 16);
+            if (high < 0 || low < 0) {
+                throw new IllegalArgumentException("Line " + lineNumber + " is not a hex SHA-1 hash");
+            }
+            digest[i] = (byte) (high << 4 | low);
+        }
+        return true;
+    }
+}
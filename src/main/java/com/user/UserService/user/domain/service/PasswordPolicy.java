@@ -1,56 +1,104 @@
 package com.user.UserService.user.domain.service;
 
 import com.user.UserService.user.domain.exception.WeakPasswordException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.regex.Pattern;
-
 @Component
 public class PasswordPolicy {
 
     private static final int MIN_LENGTH = 8;
     private static final int MAX_LENGTH = 128;
-    private static final Pattern UPPERCASE_PATTERN = Pattern.compile("[A-Z]");
-    private static final Pattern LOWERCASE_PATTERN = Pattern.compile("[a-z]");
-    private static final Pattern DIGIT_PATTERN = Pattern.compile("[0-9]");
-    private static final Pattern SPECIAL_CHAR_PATTERN = Pattern.compile("[!@#$%^&*()_+\\-=\\[\\]{};':\"\\\\|,.<>/?]");
 
-    public void validate(String password) {
-        List<String> violations = new ArrayList<>();
+    private static final int UPPERCASE = 1;
+    private static final int LOWERCASE = 2;
+    private static final int DIGIT = 4;
+    private static final int SPECIAL = 8;
+    private static final int ALL_CLASSES = UPPERCASE | LOWERCASE | DIGIT | SPECIAL;
+
+    private static final byte[] CLASSES = new byte[128];
+
+    static {
+        for (char c = 'A'; c <= 'Z'; c++) {
+            CLASSES[c] = UPPERCASE;
+        }
+        for (char c = 'a'; c <= 'z'; c++) {
+            CLASSES[c] = LOWERCASE;
+        }
+        for (char c = '0'; c <= '9'; c++) {
+            CLASSES[c] = DIGIT;
+        }
+        for (char c : "!@#$%^&*()_+-=[]{};':\"\\|,.<>/?".toCharArray()) {
+            CLASSES[c] = SPECIAL;
+        }
+    }
+
+    @Nullable
+    private final BreachedPasswordFilter breachedPasswords;
+
+    public PasswordPolicy() {
+        this(null);
+    }
 
+    /**
+     * @param breachedPasswords rejects passwords from known breaches; {@code null} when no filter is configured
+     */
+    @Autowired
+    public PasswordPolicy(@Nullable BreachedPasswordFilter breachedPasswords) {
+        this.breachedPasswords = breachedPasswords;
+    }
+
+    public void validate(String password) {
         if (password == null || password.isEmpty()) {
             throw new WeakPasswordException("Password cannot be empty");
         }
 
-        if (password.length() < MIN_LENGTH) {
-            violations.add("Password must be at least " + MIN_LENGTH + " characters long");
+        int length = password.length();
+        int classes = 0;
+        for (int i = 0; i < length && classes != ALL_CLASSES; i++) {
+            char c = password.charAt(i);
+            if (c < 128) {
+                classes |= CLASSES[c];
+            }
         }
 
-        if (password.length() > MAX_LENGTH) {
-            violations.add("Password must not exceed " + MAX_LENGTH + " characters");
+        if (classes != ALL_CLASSES || length < MIN_LENGTH || length > MAX_LENGTH) {
+            throw new WeakPasswordException(describeViolations(length, classes));
         }
 
-        if (!UPPERCASE_PATTERN.matcher(password).find()) {
-            violations.add("Password must contain at least one uppercase letter");
+        if (breachedPasswords != null && breachedPasswords.mightContain(password)) {
+            throw new WeakPasswordException("Password has appeared in a data breach; choose a different one");
         }
+    }
 
-        if (!LOWERCASE_PATTERN.matcher(password).find()) {
-            violations.add("Password must contain at least one lowercase letter");
+    private static String describeViolations(int length, int classes) {
+        StringBuilder violations = new StringBuilder(128);
+        if (length < MIN_LENGTH) {
+            appendViolation(violations, "Password must be at least " + MIN_LENGTH + " characters long");
         }
-
-        if (!DIGIT_PATTERN.matcher(password).find()) {
-            violations.add("Password must contain at least one digit");
+        if (length > MAX_LENGTH) {
+            appendViolation(violations, "Password must be maximum " + MAX_LENGTH + " characters long");
         }
-
-        if (!SPECIAL_CHAR_PATTERN.matcher(password).find()) {
-            violations.add("Password must contain at least one special character");
+        if ((classes & UPPERCASE) == 0) {
+            appendViolation(violations, "Password must contain at least one uppercase letter");
         }
+        if ((classes & LOWERCASE) == 0) {
+            appendViolation(violations, "Password must contain at least one lowercase letter");
+        }
+        if ((classes & DIGIT) == 0) {
+            appendViolation(violations, "Password must contain at least one digit");
+        }
+        if ((classes & SPECIAL) == 0) {
+            appendViolation(violations, "Password must contain at least one special character");
+        }
+        return violations.toString();
+    }
 
+    private static void appendViolation(StringBuilder violations, String violation) {
         if (!violations.isEmpty()) {
-            throw new WeakPasswordException(String.join("; ", violations));
+            violations.append("; ");
         }
+        violations.append(violation);
     }
 }
-
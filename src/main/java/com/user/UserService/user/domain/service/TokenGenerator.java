@@ -1,9 +1,11 @@
 package com.user.UserService.user.domain.service;
 
+import com.user.UserService.common.UuidV7;
 import com.user.UserService.user.domain.entity.User;
 import com.user.UserService.user.domain.value.Role;
 import com.user.UserService.security.JwtProperties;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtBuilder;
 import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
@@ -22,6 +24,11 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class TokenGenerator {
 
+    public static final String EMAIL_CLAIM = "email";
+    public static final String ROLES_CLAIM = "roles";
+    public static final String FULL_NAME_CLAIM = "name";
+    public static final String CREATED_AT_CLAIM = "created_at";
+
     private final JwtProperties jwtProperties;
 
     public String generateAccessToken(User user) {
@@ -32,10 +39,20 @@ public class TokenGenerator {
                 .map(Role::name)
                 .collect(Collectors.toSet());
 
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
                 .subject(user.getId().toString())
-                .claim("email", user.getEmail())
-                .claim("roles", roles)
+                .claim(EMAIL_CLAIM, user.getEmail())
+                .claim(ROLES_CLAIM, roles);
+
+        JwtProperties.ProfileClaims profileClaims = jwtProperties.getProfileClaims();
+        if (profileClaims.isFullName()) {
+            builder.claim(FULL_NAME_CLAIM, user.getFullName());
+        }
+        if (profileClaims.isCreatedAt() && user.getCreatedAt() != null) {
+            builder.claim(CREATED_AT_CLAIM, user.getCreatedAt().getEpochSecond());
+        }
+
+        return builder
                 .issuedAt(Date.from(now))
                 .expiration(Date.from(expiry))
                 .signWith(getSigningKey())
@@ -46,7 +63,9 @@ public class TokenGenerator {
         Instant now = Instant.now();
         Instant expiry = now.plusSeconds(jwtProperties.getRefreshTokenExpirationSeconds());
 
+        // The id keeps tokens issued to the same user within one second distinct; they are stored by hash.
         return Jwts.builder()
+                .id(UuidV7.generate().toString())
                 .subject(userId.toString())
                 .claim("type", "refresh")
                 .issuedAt(Date.from(now))
@@ -1,13 +1,31 @@
 package com.user.UserService.user.domain.value;
 
 import java.util.Objects;
-import java.util.regex.Pattern;
 
 public final class Email {
 
-    private static final Pattern EMAIL_PATTERN = Pattern.compile(
-            "^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,}$"
-    );
+    private static final byte LOCAL = 1;
+    private static final byte DOMAIN = 2;
+    private static final byte LETTER = 4;
+    private static final byte UPPER = 8;
+
+    // Character classes for ASCII; anything outside the table is rejected.
+    private static final byte[] CLASSES = new byte[128];
+
+    static {
+        for (char c = 'a'; c <= 'z'; c++) {
+            CLASSES[c] = LOCAL | DOMAIN | LETTER;
+            CLASSES[Character.toUpperCase(c)] = LOCAL | DOMAIN | LETTER | UPPER;
+        }
+        for (char c = '0'; c <= '9'; c++) {
+            CLASSES[c] = LOCAL | DOMAIN;
+        }
+        CLASSES['.'] = LOCAL | DOMAIN;
+        CLASSES['-'] = LOCAL | DOMAIN;
+        CLASSES['_'] = LOCAL;
+        CLASSES['%'] = LOCAL;
+        CLASSES['+'] = LOCAL;
+    }
 
     private final String value;
 
@@ -15,15 +33,68 @@ public final class Email {
         this.value = value;
     }
 
+    /**
+     * Trims, validates and lower-cases in one scan: a non-empty local part of letters, digits and
+     * {@code ._%+-}, a single {@code @}, and a domain of letters, digits, dots and hyphens that ends in
+     * {@code .tld} with an alphabetic top-level label. The input is returned as is when already normalized.
+     */
     public static Email of(String value) {
-        if (value == null || value.isBlank()) {
-            throw new IllegalArgumentException("Email cannot be null or blank");
+        if (value == null) {
+            throw new IllegalArgumentException("Email cannot be null");
+        }
+        int start = 0;
+        int end = value.length();
+        while (start < end && value.charAt(start) <= ' ') {
+            start++;
         }
-        String normalized = value.trim().toLowerCase();
-        if (!EMAIL_PATTERN.matcher(normalized).matches()) {
-            throw new IllegalArgumentException("Invalid email format");
+        while (end > start && value.charAt(end - 1) <= ' ') {
+            end--;
+        }
+
+        int at = -1;
+        int lastDot = -1;
+        boolean alphabeticLabel = false;
+        boolean upper = false;
+        for (int i = start; i < end; i++) {
+            char c = value.charAt(i);
+            if (c == '@') {
+                if (at >= 0) {
+                    throw invalid();
+                }
+                at = i;
+                continue;
+            }
+            int classes = c < 128 ? CLASSES[c] : 0;
+            if ((classes & (at < 0 ? LOCAL : DOMAIN)) == 0) {
+                throw invalid();
+            }
+            upper |= (classes & UPPER) != 0;
+            if (at >= 0) {
+                if (c == '.') {
+                    lastDot = i;
+                    alphabeticLabel = true;
+                } else if ((classes & LETTER) == 0) {
+                    alphabeticLabel = false;
+                }
+            }
         }
-        return new Email(normalized);
+        if (at <= start || lastDot <= at + 1 || lastDot == end - 1 || !alphabeticLabel) {
+            throw invalid();
+        }
+
+        if (!upper) {
+            return new Email(start == 0 && end == value.length() ? value : value.substring(start, end));
+        }
+        char[] normalized = new char[end - start];
+        for (int i = start; i < end; i++) {
+            char c = value.charAt(i);
+            normalized[i - start] = c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+        }
+        return new Email(new String(normalized));
+    }
+
+    private static IllegalArgumentException invalid() {
+        return new IllegalArgumentException("Invalid email format");
     }
 
     public String getValue() {
@@ -48,4 +119,3 @@ public final class Email {
         return value;
     }
 }
-
@@ -1,18 +1,65 @@
 package com.user.UserService.user.domain.value;
 
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Locale;
+
 public enum Role {
-    USER,
-    ADMIN;
+    USER(0),
+    ADMIN(1),
+    // Other internal services calling /internal endpoints.
+    SERVICE(2);
+
+    private static final Role[] VALUES = values();
+
+    // Persisted in users.roles; never renumber an existing role.
+    private final int bit;
+
+    Role(int bit) {
+        this.bit = bit;
+    }
+
+    public int mask() {
+        return 1 << bit;
+    }
+
+    public static int toMask(Collection<Role> roles) {
+        int mask = 0;
+        for (Role role : roles) {
+            mask |= role.mask();
+        }
+        return mask;
+    }
+
+    public static EnumSet<Role> fromMask(int mask) {
+        EnumSet<Role> roles = EnumSet.noneOf(Role.class);
+        for (Role role : VALUES) {
+            if ((mask & role.mask()) != 0) {
+                roles.add(role);
+            }
+        }
+        return roles;
+    }
 
     public static Role fromString(String value) {
         if (value == null || value.isBlank()) {
             return USER;
         }
         try {
-            return Role.valueOf(value.toUpperCase());
+            return parse(value);
         } catch (IllegalArgumentException e) {
             return USER;
         }
     }
-}
 
+    /**
+     * Strict counterpart of {@link #fromString} for input that must name a role.
+     */
+    public static Role parse(String value) {
+        try {
+            return Role.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new IllegalArgumentException("Unknown role: " + value);
+        }
+    }
+}
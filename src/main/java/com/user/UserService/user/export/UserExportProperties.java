@@ -0,0 +1,13 @@
+package com.user.UserService.user.export;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "user-export")
+public class UserExportProperties {
+    /** Rows the JDBC driver fetches per round trip while the export cursor is open. */
+    private int fetchSize = 1_000;
+}
@@ -0,0 +1,129 @@
+package com.user.UserService.user.export;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.user.UserService.user.domain.value.Role;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.UUID;
+
+/**
+ * Streams every user followed by every device session as NDJSON, one {@code type}-tagged object per line.
+ * Rows are read through a forward-only cursor ({@code fetchSize} rows per round trip) inside one read-only,
+ * repeatable-read transaction, so both passes see the same snapshot and memory use does not grow with the
+ * table. Writes block on a slow client, which in turn stops the cursor from advancing.
+ */
+@Slf4j
+@Service
+public class UserExportService {
+
+    private static final String USERS_SQL =
+            "SELECT id, email, full_name, roles, created_at, updated_at, deleted_at FROM users";
+
+    private static final String SESSIONS_SQL = """
+            SELECT id, user_id, device_name, os, ip_address, user_agent, last_used_at, revoked, created_at, deleted_at
+            FROM device_sessions""";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    public UserExportService(DataSource dataSource,
+                             PlatformTransactionManager transactionManager,
+                             ObjectMapper objectMapper,
+                             UserExportProperties properties) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(properties.getFetchSize());
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.objectMapper = objectMapper;
+    }
+
+    public void export(OutputStream output) throws IOException {
+        long started = System.nanoTime();
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(output, JsonEncoding.UTF8)) {
+            generator.setRootValueSeparator(null);
+            long[] counts = transactionTemplate.execute(status -> new long[]{
+                    stream(USERS_SQL, generator, this::writeUser),
+                    stream(SESSIONS_SQL, generator, this::writeSession)
+            });
+            log.info("User export finished: users={}, sessions={}, elapsedMs={}",
+                    counts[0], counts[1], (System.nanoTime() - started) / 1_000_000);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private long stream(String sql, JsonGenerator generator, RowWriter writer) {
+        long[] rows = {0};
+        jdbcTemplate.query(sql, (RowCallbackHandler) rs -> {
+            try {
+                generator.writeStartObject();
+                writer.write(rs, generator);
+                generator.writeEndObject();
+                generator.writeRaw('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            rows[0]++;
+        });
+        return rows[0];
+    }
+
+    private void writeUser(ResultSet rs, JsonGenerator generator) throws SQLException, IOException {
+        generator.writeStringField("type", "user");
+        generator.writeStringField("id", rs.getObject("id", UUID.class).toString());
+        generator.writeStringField("email", rs.getString("email"));
+        generator.writeStringField("fullName", rs.getString("full_name"));
+        generator.writeArrayFieldStart("roles");
+        for (Role role : Role.fromMask(rs.getInt("roles"))) {
+            generator.writeString(role.name());
+        }
+        generator.writeEndArray();
+        writeTimestamp(generator, "createdAt", rs.getTimestamp("created_at"));
+        writeTimestamp(generator, "updatedAt", rs.getTimestamp("updated_at"));
+        writeTimestamp(generator, "deletedAt", rs.getTimestamp("deleted_at"));
+    }
+
+    private void writeSession(ResultSet rs, JsonGenerator generator) throws SQLException, IOException {
+        generator.writeStringField("type", "session");
+        generator.writeStringField("id", rs.getObject("id", UUID.class).toString());
+        generator.writeStringField("userId", rs.getObject("user_id", UUID.class).toString());
+        generator.writeStringField("deviceName", rs.getString("device_name"));
+        generator.writeStringField("os", rs.getString("os"));
+        generator.writeStringField("ipAddress", rs.getString("ip_address"));
+        generator.writeStringField("userAgent", rs.getString("user_agent"));
+        writeTimestamp(generator, "lastUsedAt", rs.getTimestamp("last_used_at"));
+        generator.writeBooleanField("revoked", rs.getBoolean("revoked"));
+        writeTimestamp(generator, "createdAt", rs.getTimestamp("created_at"));
+        writeTimestamp(generator, "deletedAt", rs.getTimestamp("deleted_at"));
+    }
+
+    private static void writeTimestamp(JsonGenerator generator, String field, Timestamp value) throws IOException {
+        if (value != null) {
+            generator.writeStringField(field, value.toInstant().toString());
+        } else {
+            generator.writeNullField(field);
+        }
+    }
+
+    @FunctionalInterface
+    private interface RowWriter {
+        void write(ResultSet rs, JsonGenerator generator) throws SQLException, IOException;
+    }
+}
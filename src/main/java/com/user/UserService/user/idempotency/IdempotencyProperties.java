@@ -0,0 +1,22 @@
+package com.user.UserService.user.idempotency;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "idempotency")
+public class IdempotencyProperties {
+    private boolean enabled = true;
+    /** How long a response is replayed to retries carrying the same key. */
+    private Duration ttl = Duration.ofMinutes(5);
+    /** Responses kept in memory per replica. */
+    private long maximumSize = 10_000;
+    /** How long a duplicate waits for the in-flight request with its key before it is answered with 409. */
+    private Duration inFlightTimeout = Duration.ofSeconds(10);
+    /** Also store responses, encrypted, in idempotency_keys so a retry routed to another replica is replayed. */
+    private boolean persistent = false;
+}
@@ -0,0 +1,287 @@
+package com.user.UserService.user.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.user.UserService.security.JwtProperties;
+import com.user.UserService.user.domain.exception.IdempotencyKeyInProgressException;
+import com.user.UserService.user.domain.exception.IdempotencyKeyReusedException;
+import com.user.UserService.user.repository.IdempotencyRepository;
+import com.user.UserService.user.web.dto.TokenResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.AEADBadTagException;
+import javax.crypto.Cipher;
+import javax.crypto.Mac;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Replays the response of an auth request to retries sent with the same {@code Idempotency-Key}, so a client
+ * that lost the response to a refresh or registration gets its tokens instead of a revoked-token 401 or a 409.
+ * A replay repeats neither password hashing nor database writes.
+ * <p>
+ * Responses live in memory for {@code ttl}. Duplicates arriving while the first request with their key is still
+ * running wait for its outcome (single-flight) rather than executing again; a failed request is not remembered,
+ * so it can be retried. A key reused for a different request, told apart by a fingerprint of the request, is
+ * rejected. With {@code persistent} set, responses are also written to {@code idempotency_keys} for retries that
+ * reach another replica. They hold live refresh tokens, so they are encrypted under a key derived from the
+ * idempotency key and the request, neither of which the table stores.
+ */
+@Slf4j
+@Component
+public class IdempotencyStore {
+
+    public static final String HEADER = "Idempotency-Key";
+
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final int IV_LENGTH = 12;
+    private static final int TAG_BITS = 128;
+
+    private final IdempotencyProperties properties;
+    private final IdempotencyRepository repository;
+    private final ObjectMapper objectMapper;
+    private final Mac hmacPrototype;
+    private final SecureRandom random = new SecureRandom();
+    private final Cache<String, Completed> completed;
+    private final ConcurrentHashMap<String, CompletableFuture<Completed>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong nextPrune = new AtomicLong();
+    private final Counter replayed;
+    private final Counter waited;
+
+    public IdempotencyStore(IdempotencyProperties properties,
+                            IdempotencyRepository repository,
+                            ObjectMapper objectMapper,
+                            JwtProperties jwtProperties,
+                            MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.repository = repository;
+        this.objectMapper = objectMapper;
+        this.hmacPrototype = hmacPrototype(jwtProperties.getSecret());
+        this.completed = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, completed, "idempotency");
+        this.replayed = meterRegistry.counter("idempotency.replayed");
+        this.waited = meterRegistry.counter("idempotency.waited");
+    }
+
+    /**
+     * Runs {@code action} unless a response for {@code key} is known, in which case that response is returned.
+     *
+     * @param key     the {@code Idempotency-Key} header; null runs the action unconditionally
+     * @param request the parts of the request that make it the same request, such as the submitted credentials
+     * @throws IllegalArgumentException           if the key is malformed
+     * @throws IdempotencyKeyReusedException      if the key was used for a different request
+     * @throws IdempotencyKeyInProgressException  if the request holding the key did not finish in time
+     */
+    public TokenResponse execute(IdempotentOperation operation, String key, Supplier<TokenResponse> action,
+                                 String... request) {
+        if (key == null || !properties.isEnabled()) {
+            return action.get();
+        }
+        validate(key);
+        String slot = Base64.getUrlEncoder().withoutPadding().encodeToString(hmac("key", operation.name(), key));
+        byte[] fingerprint = fingerprint(operation, request);
+
+        Completed done = completed.getIfPresent(slot);
+        if (done != null) {
+            return replay(done, fingerprint);
+        }
+        CompletableFuture<Completed> flight = new CompletableFuture<>();
+        CompletableFuture<Completed> leader = inFlight.putIfAbsent(slot, flight);
+        if (leader != null) {
+            waited.increment();
+            return replay(await(leader), fingerprint);
+        }
+        try {
+            // The previous holder of the slot publishes its response before leaving inFlight.
+            done = completed.getIfPresent(slot);
+            if (done == null) {
+                done = load(slot, key, fingerprint);
+            }
+            if (done != null) {
+                completed.put(slot, done);
+                flight.complete(done);
+                return replay(done, fingerprint);
+            }
+            done = new Completed(fingerprint, action.get());
+            completed.put(slot, done);
+            persist(slot, key, done);
+            flight.complete(done);
+            return done.response();
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(slot, flight);
+        }
+    }
+
+    private TokenResponse replay(Completed done, byte[] fingerprint) {
+        if (!MessageDigest.isEqual(done.fingerprint(), fingerprint)) {
+            throw IdempotencyKeyReusedException.INSTANCE;
+        }
+        replayed.increment();
+        return done.response();
+    }
+
+    private Completed await(CompletableFuture<Completed> leader) {
+        try {
+            return leader.get(properties.getInFlightTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            // Concurrent duplicates share the outcome of the first request, failures included.
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw IdempotencyKeyInProgressException.INSTANCE;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw IdempotencyKeyInProgressException.INSTANCE;
+        }
+    }
+
+    private Completed load(String slot, String key, byte[] fingerprint) {
+        if (!properties.isPersistent()) {
+            return null;
+        }
+        byte[] stored;
+        try {
+            stored = repository.find(slot, Instant.now());
+        } catch (DataAccessException e) {
+            log.warn("Could not read stored idempotent response", e);
+            return null;
+        }
+        if (stored == null) {
+            return null;
+        }
+        try {
+            Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+            cipher.init(Cipher.DECRYPT_MODE, responseKey(key, fingerprint),
+                    new GCMParameterSpec(TAG_BITS, stored, 0, IV_LENGTH));
+            byte[] json = cipher.doFinal(stored, IV_LENGTH, stored.length - IV_LENGTH);
+            return new Completed(fingerprint, objectMapper.readValue(json, TokenResponse.class));
+        } catch (AEADBadTagException e) {
+            // Encrypted under the fingerprint of another request.
+            throw IdempotencyKeyReusedException.INSTANCE;
+        } catch (GeneralSecurityException | IOException e) {
+            log.warn("Could not decode stored idempotent response", e);
+            return null;
+        }
+    }
+
+    private void persist(String slot, String key, Completed done) {
+        if (!properties.isPersistent()) {
+            return;
+        }
+        try {
+            byte[] iv = new byte[IV_LENGTH];
+            random.nextBytes(iv);
+            Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+            cipher.init(Cipher.ENCRYPT_MODE, responseKey(key, done.fingerprint()), new GCMParameterSpec(TAG_BITS, iv));
+            byte[] ciphertext = cipher.doFinal(objectMapper.writeValueAsBytes(done.response()));
+            byte[] stored = Arrays.copyOf(iv, IV_LENGTH + ciphertext.length);
+            System.arraycopy(ciphertext, 0, stored, IV_LENGTH, ciphertext.length);
+
+            Instant now = Instant.now();
+            repository.insert(slot, stored, now.plus(properties.getTtl()));
+            long next = nextPrune.get();
+            if (now.toEpochMilli() >= next
+                    && nextPrune.compareAndSet(next, now.plus(properties.getTtl()).toEpochMilli())) {
+                repository.deleteExpired(now);
+            }
+        } catch (DuplicateKeyException e) {
+            // Another replica ran the same request concurrently; either response is valid.
+        } catch (DataAccessException | GeneralSecurityException | IOException e) {
+            log.warn("Could not store idempotent response; retries on other replicas will not be replayed", e);
+        }
+    }
+
+    private static void validate(String key) {
+        if (key.isEmpty() || key.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException(HEADER + " must be 1 to " + MAX_KEY_LENGTH + " characters");
+        }
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            if (c <= ' ' || c > '~') {
+                throw new IllegalArgumentException(HEADER + " must be printable ASCII without spaces");
+            }
+        }
+    }
+
+    private byte[] fingerprint(IdempotentOperation operation, String[] request) {
+        String[] parts = new String[request.length + 2];
+        parts[0] = "request";
+        parts[1] = operation.name();
+        for (int i = 0; i < request.length; i++) {
+            parts[i + 2] = String.valueOf(request[i]);
+        }
+        return hmac(parts);
+    }
+
+    private SecretKeySpec responseKey(String key, byte[] fingerprint) {
+        return new SecretKeySpec(hmac("response", key, Base64.getEncoder().encodeToString(fingerprint)), "AES");
+    }
+
+    // Parts are separated by a NUL so that ("ab", "c") and ("a", "bc") differ.
+    private byte[] hmac(String... parts) {
+        Mac mac;
+        try {
+            mac = (Mac) hmacPrototype.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException("HmacSHA256 cannot be cloned", e);
+        }
+        for (int i = 0; i < parts.length; i++) {
+            if (i > 0) {
+                mac.update((byte) 0);
+            }
+            mac.update(parts[i].getBytes(StandardCharsets.UTF_8));
+        }
+        return mac.doFinal();
+    }
+
+    // Keyed with a subkey of the JWT secret, so that fingerprints of low-entropy requests such as a login cannot
+    // be brute-forced from the table, and so that replicas sharing the secret derive the same keys.
+    private static Mac hmacPrototype(String secret) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            byte[] subkey = mac.doFinal("idempotency".getBytes(StandardCharsets.UTF_8));
+            mac.init(new SecretKeySpec(subkey, "HmacSHA256"));
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 not available", e);
+        }
+    }
+
+    private record Completed(byte[] fingerprint, TokenResponse response) {
+    }
+}
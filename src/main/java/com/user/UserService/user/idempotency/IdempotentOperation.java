@@ -0,0 +1,10 @@
+package com.user.UserService.user.idempotency;
+
+/**
+ * Namespaces idempotency keys, so the same key sent to two endpoints refers to two requests.
+ */
+public enum IdempotentOperation {
+    REGISTER,
+    LOGIN,
+    REFRESH
+}
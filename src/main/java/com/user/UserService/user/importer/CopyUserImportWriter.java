@@ -0,0 +1,94 @@
+package com.user.UserService.user.importer;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * PostgreSQL writer: streams the chunk into a session-local staging table with {@code COPY}
+ * and moves it into {@code users} with a single {@code INSERT ... ON CONFLICT DO NOTHING},
+ * which also covers the partial unique index on active emails.
+ */
+final class CopyUserImportWriter implements UserImportWriter {
+
+    private static final String CREATE_STAGING = """
+            CREATE TEMP TABLE IF NOT EXISTS user_import_staging (
+                id UUID NOT NULL,
+                email VARCHAR(255) NOT NULL,
+                password_hash VARCHAR(255) NOT NULL,
+                full_name VARCHAR(255) NOT NULL,
+                roles INTEGER NOT NULL
+            ) ON COMMIT DELETE ROWS""";
+
+    private static final String COPY_STAGING =
+            "COPY user_import_staging (id, email, password_hash, full_name, roles) FROM STDIN (FORMAT csv)";
+
+    private static final String MERGE_STAGING = """
+            INSERT INTO users (id, email, password_hash, full_name, roles, created_at, updated_at)
+            SELECT id, email, password_hash, full_name, roles, ?, ?
+            FROM user_import_staging
+            ON CONFLICT DO NOTHING
+            RETURNING id""";
+
+    @Override
+    public Set<UUID> write(Connection connection, List<ImportedUser> users, Timestamp now) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(CREATE_STAGING);
+        }
+
+        CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+        try {
+            copyManager.copyIn(COPY_STAGING, new StringReader(toCsv(users)));
+        } catch (IOException e) {
+            throw new SQLException("COPY into user_import_staging failed", e);
+        }
+
+        Set<UUID> inserted = new HashSet<>(users.size() * 2);
+        try (PreparedStatement statement = connection.prepareStatement(MERGE_STAGING)) {
+            statement.setTimestamp(1, now);
+            statement.setTimestamp(2, now);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    inserted.add(resultSet.getObject(1, UUID.class));
+                }
+            }
+        }
+        return inserted;
+    }
+
+    private static String toCsv(List<ImportedUser> users) {
+        StringBuilder csv = new StringBuilder(users.size() * 160);
+        for (ImportedUser user : users) {
+            csv.append(user.id()).append(',');
+            appendQuoted(csv, user.email()).append(',');
+            appendQuoted(csv, user.passwordHash()).append(',');
+            appendQuoted(csv, user.fullName()).append(',');
+            csv.append(user.roleMask()).append('\n');
+        }
+        return csv.toString();
+    }
+
+    private static StringBuilder appendQuoted(StringBuilder csv, String value) {
+        csv.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                csv.append('"');
+            }
+            csv.append(c);
+        }
+        return csv.append('"');
+    }
+}
@@ -0,0 +1,15 @@
+package com.user.UserService.user.importer;
+
+/**
+ * A parsed input line: either a record or the reason the line could not be parsed.
+ */
+record ImportRow(long line, UserImportRecord record, String error) {
+
+    static ImportRow of(long line, UserImportRecord record) {
+        return new ImportRow(line, record, null);
+    }
+
+    static ImportRow malformed(long line, String error) {
+        return new ImportRow(line, null, error);
+    }
+}
@@ -0,0 +1,9 @@
+package com.user.UserService.user.importer;
+
+import java.util.UUID;
+
+/**
+ * A validated row ready to be written; {@code passwordHash} is always a BCrypt hash.
+ */
+record ImportedUser(long line, UUID id, String email, String passwordHash, String fullName, int roleMask) {
+}
@@ -0,0 +1,48 @@
+package com.user.UserService.user.importer;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Portable writer for databases without {@code COPY} (H2 in tests): one batched
+ * conditional INSERT per row.
+ */
+final class JdbcUserImportWriter implements UserImportWriter {
+
+    private static final String INSERT_IF_ABSENT = """
+            INSERT INTO users (id, email, password_hash, full_name, roles, created_at, updated_at)
+            SELECT ?, ?, ?, ?, ?, ?, ?
+            WHERE NOT EXISTS (SELECT 1 FROM users WHERE LOWER(email) = ? AND deleted_at IS NULL)""";
+
+    @Override
+    public Set<UUID> write(Connection connection, List<ImportedUser> users, Timestamp now) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_IF_ABSENT)) {
+            for (ImportedUser user : users) {
+                statement.setObject(1, user.id());
+                statement.setString(2, user.email());
+                statement.setString(3, user.passwordHash());
+                statement.setString(4, user.fullName());
+                statement.setInt(5, user.roleMask());
+                statement.setTimestamp(6, now);
+                statement.setTimestamp(7, now);
+                statement.setString(8, user.email());
+                statement.addBatch();
+            }
+            int[] counts = statement.executeBatch();
+
+            Set<UUID> inserted = new HashSet<>(users.size() * 2);
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] > 0) {
+                    inserted.add(users.get(i).id());
+                }
+            }
+            return inserted;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.user.UserService.user.importer;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "user-import")
+public class UserImportProperties {
+    /** Rows validated, hashed and written per transaction. */
+    private int chunkSize = 5_000;
+    /** Worker threads used for validation and BCrypt hashing; 0 means one per available processor. */
+    private int parallelism = 0;
+    /** How long one import may stream before the request times out. */
+    private Duration timeout = Duration.ofMinutes(30);
+}
@@ -0,0 +1,150 @@
+package com.user.UserService.user.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Reads NDJSON objects or CSV records one line at a time so an import never holds more
+ * than one chunk in memory. CSV input must start with a header naming the columns
+ * {@code email}, {@code password}, {@code password_hash}, {@code full_name} and {@code roles}
+ * (roles separated by {@code |}); only {@code email} is mandatory. Quoted fields may not span lines.
+ */
+public final class UserImportReader {
+
+    private static final String ROLE_SEPARATOR = "\\|";
+
+    private final BufferedReader reader;
+    private final ImportFormat format;
+    private final ObjectMapper objectMapper;
+    private long line;
+
+    private int emailColumn = -1;
+    private int passwordColumn = -1;
+    private int passwordHashColumn = -1;
+    private int fullNameColumn = -1;
+    private int rolesColumn = -1;
+
+    UserImportReader(InputStream input, ImportFormat format, ObjectMapper objectMapper) throws IOException {
+        this.reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        this.format = format;
+        this.objectMapper = objectMapper;
+        if (format == ImportFormat.CSV) {
+            readHeader();
+        }
+    }
+
+    List<ImportRow> nextChunk(int size) throws IOException {
+        List<ImportRow> rows = new ArrayList<>(size);
+        String text;
+        while (rows.size() < size && (text = reader.readLine()) != null) {
+            line++;
+            if (text.isBlank()) {
+                continue;
+            }
+            rows.add(format == ImportFormat.CSV ? parseCsv(text) : parseJson(text));
+        }
+        return rows;
+    }
+
+    private void readHeader() throws IOException {
+        String header = reader.readLine();
+        line++;
+        if (header == null) {
+            throw new IllegalArgumentException("CSV import requires a header row");
+        }
+        List<String> columns = splitCsv(header);
+        if (columns == null) {
+            throw new IllegalArgumentException("CSV header is malformed");
+        }
+        for (int i = 0; i < columns.size(); i++) {
+            switch (columns.get(i).trim().toLowerCase()) {
+                case "email" -> emailColumn = i;
+                case "password" -> passwordColumn = i;
+                case "password_hash" -> passwordHashColumn = i;
+                case "full_name" -> fullNameColumn = i;
+                case "roles" -> rolesColumn = i;
+                default -> {
+                }
+            }
+        }
+        if (emailColumn < 0) {
+            throw new IllegalArgumentException("CSV header must contain an email column");
+        }
+    }
+
+    private ImportRow parseJson(String text) {
+        try {
+            return ImportRow.of(line, objectMapper.readValue(text, UserImportRecord.class));
+        } catch (JsonProcessingException e) {
+            return ImportRow.malformed(line, "Malformed JSON: " + e.getOriginalMessage());
+        }
+    }
+
+    private ImportRow parseCsv(String text) {
+        List<String> fields = splitCsv(text);
+        if (fields == null) {
+            return ImportRow.malformed(line, "Malformed CSV: unterminated quoted field");
+        }
+        String roles = field(fields, rolesColumn);
+        return ImportRow.of(line, new UserImportRecord(
+                field(fields, emailColumn),
+                field(fields, passwordColumn),
+                field(fields, passwordHashColumn),
+                field(fields, fullNameColumn),
+                roles != null ? Arrays.asList(roles.split(ROLE_SEPARATOR)) : null
+        ));
+    }
+
+    private static String field(List<String> fields, int column) {
+        if (column < 0 || column >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(column);
+        return value.isEmpty() ? null : value;
+    }
+
+    /**
+     * RFC 4180 field splitting for a single physical line; returns {@code null} when a quote is left open.
+     */
+    static List<String> splitCsv(String text) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < text.length() && text.charAt(i + 1) == '"') {
+                        current.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        if (quoted) {
+            return null;
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+}
@@ -0,0 +1,16 @@
+package com.user.UserService.user.importer;
+
+import java.util.List;
+
+/**
+ * One user as supplied by the legacy export. Exactly one of {@code password} and
+ * {@code passwordHash} must be present; the latter must already be a BCrypt hash.
+ */
+public record UserImportRecord(
+        String email,
+        String password,
+        String passwordHash,
+        String fullName,
+        List<String> roles
+) {
+}
@@ -0,0 +1,248 @@
+package com.user.UserService.user.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.user.UserService.common.InputSanitizer;
+import com.user.UserService.common.UuidV7;
+import com.user.UserService.user.domain.exception.DomainException;
+import com.user.UserService.user.domain.service.PasswordPolicy;
+import com.user.UserService.user.domain.value.Email;
+import com.user.UserService.user.domain.value.Role;
+import com.user.UserService.user.web.dto.UserImportResult;
+import com.user.UserService.user.web.dto.UserImportSummary;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.regex.Pattern;
+
+/**
+ * Bulk user import for tenant migrations. Input is consumed in chunks; each chunk is validated
+ * and hashed in parallel on a dedicated fork-join pool, then written in its own transaction.
+ * One NDJSON result line is streamed per input row, followed by a {@code summary} line.
+ * Unlike registration, no tokens, sessions or registration events are produced.
+ */
+@Slf4j
+@Service
+public class UserImportService {
+
+    private static final Pattern BCRYPT_HASH = Pattern.compile("^\\$2[aby]?\\$\\d{2}\\$[./A-Za-z0-9]{53}$");
+    private static final int MAX_EMAIL_LENGTH = 255;
+    private static final int MAX_FULL_NAME_LENGTH = 255;
+    private static final byte[] NEWLINE = {'\n'};
+
+    private final PasswordEncoder passwordEncoder;
+    private final PasswordPolicy passwordPolicy;
+    private final InputSanitizer inputSanitizer;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final UserImportProperties properties;
+    private final ForkJoinPool hashingPool;
+    private final Counter createdCounter;
+    private final Counter duplicateCounter;
+    private final Counter invalidCounter;
+
+    public UserImportService(PasswordEncoder passwordEncoder,
+                             PasswordPolicy passwordPolicy,
+                             InputSanitizer inputSanitizer,
+                             JdbcTemplate jdbcTemplate,
+                             PlatformTransactionManager transactionManager,
+                             ObjectMapper objectMapper,
+                             UserImportProperties properties,
+                             MeterRegistry meterRegistry) {
+        this.passwordEncoder = passwordEncoder;
+        this.passwordPolicy = passwordPolicy;
+        this.inputSanitizer = inputSanitizer;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.hashingPool = new ForkJoinPool(properties.getParallelism() > 0
+                ? properties.getParallelism()
+                : Runtime.getRuntime().availableProcessors());
+        this.createdCounter = meterRegistry.counter("user.import.rows", "status", "created");
+        this.duplicateCounter = meterRegistry.counter("user.import.rows", "status", "duplicate");
+        this.invalidCounter = meterRegistry.counter("user.import.rows", "status", "invalid");
+    }
+
+    /**
+     * Opens the input eagerly so that a bad CSV header fails the request before any output is written.
+     */
+    public UserImportReader open(InputStream input, ImportFormat format) throws IOException {
+        return new UserImportReader(input, format, objectMapper);
+    }
+
+    public UserImportSummary importUsers(UserImportReader reader, OutputStream output) throws IOException {
+        long started = System.nanoTime();
+        long total = 0;
+        long created = 0;
+        long duplicates = 0;
+        long invalid = 0;
+
+        List<ImportRow> rows;
+        while (!(rows = reader.nextChunk(properties.getChunkSize())).isEmpty()) {
+            for (UserImportResult result : importChunk(rows)) {
+                switch (result.status()) {
+                    case CREATED -> created++;
+                    case DUPLICATE -> duplicates++;
+                    case INVALID -> invalid++;
+                }
+                writeLine(output, result);
+            }
+            total += rows.size();
+            output.flush();
+        }
+
+        long elapsedNanos = System.nanoTime() - started;
+        double usersPerSecond = elapsedNanos > 0 ? created * 1_000_000_000d / elapsedNanos : 0;
+        UserImportSummary summary = new UserImportSummary(
+                total, created, duplicates, invalid, elapsedNanos / 1_000_000, usersPerSecond);
+        writeLine(output, Map.of("summary", summary));
+        output.flush();
+
+        createdCounter.increment(created);
+        duplicateCounter.increment(duplicates);
+        invalidCounter.increment(invalid);
+        log.info("User import finished: total={}, created={}, duplicates={}, invalid={}, elapsedMs={}, usersPerSecond={}",
+                total, created, duplicates, invalid, summary.elapsedMillis(), String.format("%.1f", usersPerSecond));
+        return summary;
+    }
+
+    private List<UserImportResult> importChunk(List<ImportRow> rows) {
+        List<PreparedRow> prepared = hashingPool.submit(() -> rows.parallelStream().map(this::prepare).toList()).join();
+
+        List<ImportedUser> users = new ArrayList<>(prepared.size());
+        for (PreparedRow row : prepared) {
+            if (row.user() != null) {
+                users.add(row.user());
+            }
+        }
+
+        Set<UUID> inserted;
+        try {
+            inserted = users.isEmpty() ? Set.of() : write(users);
+        } catch (DataAccessException | TransactionException e) {
+            // Reported per row; the next chunk is written in a fresh transaction.
+            log.warn("User import chunk starting at line {} failed", rows.get(0).line(), e);
+            return prepared.stream()
+                    .map(row -> row.user() != null
+                            ? UserImportResult.invalid(row.user().line(), row.user().email(), "Chunk could not be written")
+                            : row.rejection())
+                    .toList();
+        }
+
+        List<UserImportResult> results = new ArrayList<>(prepared.size());
+        for (PreparedRow row : prepared) {
+            ImportedUser user = row.user();
+            if (user == null) {
+                results.add(row.rejection());
+            } else if (inserted.contains(user.id())) {
+                results.add(UserImportResult.created(user.line(), user.email(), user.id()));
+            } else {
+                results.add(UserImportResult.duplicate(user.line(), user.email()));
+            }
+        }
+        return results;
+    }
+
+    private Set<UUID> write(List<ImportedUser> users) {
+        Timestamp now = Timestamp.from(Instant.now());
+        return transactionTemplate.execute(status -> jdbcTemplate.execute((ConnectionCallback<Set<UUID>>) connection -> {
+            UserImportWriter writer = connection.isWrapperFor(PGConnection.class)
+                    ? new CopyUserImportWriter()
+                    : new JdbcUserImportWriter();
+            return writer.write(connection, users, now);
+        }));
+    }
+
+    private PreparedRow prepare(ImportRow row) {
+        if (row.error() != null) {
+            return PreparedRow.rejected(UserImportResult.invalid(row.line(), null, row.error()));
+        }
+        UserImportRecord record = row.record();
+        try {
+            Email email = Email.of(record.email());
+            if (email.getValue().length() > MAX_EMAIL_LENGTH) {
+                throw new IllegalArgumentException("Email must not exceed " + MAX_EMAIL_LENGTH + " characters");
+            }
+            String fullName = inputSanitizer.sanitizeAndLimit(record.fullName(), MAX_FULL_NAME_LENGTH);
+            if (fullName == null || fullName.isBlank()) {
+                throw new IllegalArgumentException("Full name is required");
+            }
+            return PreparedRow.accepted(new ImportedUser(row.line(), UuidV7.generate(), email.getValue(),
+                    passwordHash(record), fullName, roleMask(record.roles())));
+        } catch (IllegalArgumentException | DomainException e) {
+            return PreparedRow.rejected(UserImportResult.invalid(row.line(), record.email(), e.getMessage()));
+        }
+    }
+
+    private String passwordHash(UserImportRecord record) {
+        if (record.passwordHash() != null) {
+            if (record.password() != null) {
+                throw new IllegalArgumentException("Provide either password or passwordHash, not both");
+            }
+            if (!BCRYPT_HASH.matcher(record.passwordHash()).matches()) {
+                throw new IllegalArgumentException("passwordHash must be a BCrypt hash");
+            }
+            return record.passwordHash();
+        }
+        passwordPolicy.validate(record.password());
+        return passwordEncoder.encode(record.password());
+    }
+
+    private static int roleMask(List<String> roles) {
+        if (roles == null || roles.isEmpty()) {
+            return Role.USER.mask();
+        }
+        int mask = 0;
+        for (String role : roles) {
+            mask |= Role.parse(role).mask();
+        }
+        return mask;
+    }
+
+    private void writeLine(OutputStream output, Object value) throws IOException {
+        output.write(objectMapper.writeValueAsBytes(value));
+        output.write(NEWLINE);
+    }
+
+    /**
+     * Outcome of validation and hashing: exactly one of the two components is set.
+     */
+    private record PreparedRow(ImportedUser user, UserImportResult rejection) {
+
+        static PreparedRow accepted(ImportedUser user) {
+            return new PreparedRow(user, null);
+        }
+
+        static PreparedRow rejected(UserImportResult rejection) {
+            return new PreparedRow(null, rejection);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        hashingPool.shutdown();
+    }
+}
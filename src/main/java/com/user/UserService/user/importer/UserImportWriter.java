@@ -0,0 +1,17 @@
+package com.user.UserService.user.importer;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Writes one chunk of users on the caller's transactional connection, skipping rows whose
+ * email is already taken by an active user, and returns the ids that were actually inserted.
+ */
+interface UserImportWriter {
+
+    Set<UUID> write(Connection connection, List<ImportedUser> users, Timestamp now) throws SQLException;
+}
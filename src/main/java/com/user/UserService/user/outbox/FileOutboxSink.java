@@ -0,0 +1,52 @@
+package com.user.UserService.user.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Appends each batch to a local NDJSON file and forces it to disk before acknowledging. A stand-in for a real
+ * broker in development and tests.
+ */
+public class FileOutboxSink implements OutboxSink {
+
+    private final Path file;
+    private final ObjectMapper objectMapper;
+    // Not synchronized: a thread blocked in force() must not pin its carrier when running virtual.
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public FileOutboxSink(Path file, ObjectMapper objectMapper) {
+        this.file = file;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void publish(List<OutboxMessage> batch) {
+        ByteBuffer lines = ByteBuffer.wrap(OutboxNdjson.encode(objectMapper, batch));
+        lock.lock();
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            try (FileChannel channel = FileChannel.open(file,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+                while (lines.hasRemaining()) {
+                    channel.write(lines);
+                }
+                channel.force(false);
+            }
+        } catch (IOException e) {
+            throw new OutboxDeliveryException("Could not append outbox batch to " + file, e);
+        } finally {
+            lock.unlock();
+        }
+    }
+}
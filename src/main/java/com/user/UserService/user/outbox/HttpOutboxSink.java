@@ -0,0 +1,50 @@
+package com.user.UserService.user.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * POSTs each batch as NDJSON to a single endpoint; any 2xx response acknowledges the whole batch.
+ */
+public class HttpOutboxSink implements OutboxSink {
+
+    private final HttpClient client;
+    private final URI url;
+    private final Duration timeout;
+    private final ObjectMapper objectMapper;
+
+    public HttpOutboxSink(URI url, Duration timeout, ObjectMapper objectMapper) {
+        this.client = HttpClient.newBuilder().connectTimeout(timeout).build();
+        this.url = url;
+        this.timeout = timeout;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void publish(List<OutboxMessage> batch) {
+        HttpRequest request = HttpRequest.newBuilder(url)
+                .timeout(timeout)
+                .header("Content-Type", OutboxNdjson.MEDIA_TYPE)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(OutboxNdjson.encode(objectMapper, batch)))
+                .build();
+        HttpResponse<Void> response;
+        try {
+            response = client.send(request, HttpResponse.BodyHandlers.discarding());
+        } catch (IOException e) {
+            throw new OutboxDeliveryException("Outbox endpoint " + url + " unreachable", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OutboxDeliveryException("Interrupted while delivering outbox batch", e);
+        }
+        if (response.statusCode() / 100 != 2) {
+            throw new OutboxDeliveryException("Outbox endpoint " + url + " answered " + response.statusCode());
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.user.UserService.user.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@Configuration
+public class OutboxConfig {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public OutboxSink outboxSink(OutboxProperties properties, ObjectMapper objectMapper) {
+        OutboxProperties.Sink sink = properties.getSink();
+        return switch (sink.getType()) {
+            case FILE -> new FileOutboxSink(sink.getFile(), objectMapper);
+            case HTTP -> {
+                if (sink.getUrl() == null) {
+                    throw new IllegalStateException("outbox.sink.url is required for the HTTP outbox sink");
+                }
+                yield new HttpOutboxSink(sink.getUrl(), sink.getTimeout(), objectMapper);
+            }
+        };
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "outbox.relay", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public OutboxRelay outboxRelay(OutboxRepository outboxRepository,
+                                   OutboxSink outboxSink,
+                                   OutboxProperties properties,
+                                   PlatformTransactionManager transactionManager,
+                                   MeterRegistry meterRegistry) {
+        return new OutboxRelay(outboxRepository, outboxSink, properties.getRelay(), transactionManager, meterRegistry);
+    }
+}
@@ -0,0 +1,12 @@
+package com.user.UserService.user.outbox;
+
+public class OutboxDeliveryException extends RuntimeException {
+
+    public OutboxDeliveryException(String message) {
+        super(message);
+    }
+
+    public OutboxDeliveryException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,17 @@
+package com.user.UserService.user.outbox;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * One row of the outbox. {@code payload} is the event serialized as JSON.
+ */
+public record OutboxMessage(
+        UUID id,
+        UUID aggregateId,
+        String eventType,
+        String payload,
+        Instant createdAt,
+        int attempts
+) {
+}
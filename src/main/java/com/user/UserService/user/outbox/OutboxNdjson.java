@@ -0,0 +1,42 @@
+package com.user.UserService.user.outbox;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+/**
+ * Wire format shared by the sinks: one JSON envelope per line with the stored payload embedded verbatim.
+ */
+final class OutboxNdjson {
+
+    static final String MEDIA_TYPE = "application/x-ndjson";
+
+    private OutboxNdjson() {
+    }
+
+    static byte[] encode(ObjectMapper objectMapper, List<OutboxMessage> batch) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(batch.size() * 256);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(buffer, JsonEncoding.UTF8)) {
+            generator.setRootValueSeparator(null);
+            for (OutboxMessage message : batch) {
+                generator.writeStartObject();
+                generator.writeStringField("id", message.id().toString());
+                generator.writeStringField("type", message.eventType());
+                generator.writeStringField("aggregateId", message.aggregateId().toString());
+                generator.writeStringField("createdAt", message.createdAt().toString());
+                generator.writeFieldName("payload");
+                generator.writeRawValue(message.payload());
+                generator.writeEndObject();
+                generator.writeRaw('\n');
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+}
@@ -0,0 +1,44 @@
+package com.user.UserService.user.outbox;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "outbox")
+public class OutboxProperties {
+
+    private final Relay relay = new Relay();
+    private final Sink sink = new Sink();
+
+    @Data
+    public static class Relay {
+        private boolean enabled = true;
+        /** Rows claimed, delivered and deleted per round. */
+        private int batchSize = 500;
+        /** How long a claimed batch is hidden from other relays while it is delivered; longer than the sink timeout. */
+        private Duration lease = Duration.ofMinutes(1);
+        /** Wait before polling again once the outbox has been drained. */
+        private Duration pollInterval = Duration.ofMillis(500);
+        /** Delay before a batch the sink rejected is offered again. */
+        private Duration retryBackoff = Duration.ofSeconds(30);
+    }
+
+    @Data
+    public static class Sink {
+        private SinkType type = SinkType.FILE;
+        private Path file = Path.of("outbox.ndjson");
+        private URI url;
+        private Duration timeout = Duration.ofSeconds(10);
+    }
+
+    public enum SinkType {
+        FILE,
+        HTTP
+    }
+}
@@ -0,0 +1,130 @@
+package com.user.UserService.user.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drains the outbox into the {@link OutboxSink}. Each round leases a batch in a short transaction, delivers it
+ * with no transaction or connection held, and deletes it in a second short transaction. A crash in between leaves
+ * the rows to become due again once {@code lease} runs out. Full batches are followed immediately by the next one;
+ * otherwise the relay waits {@code poll-interval}. A rejected batch stays in the table and becomes due again
+ * after {@code retry-backoff}.
+ */
+@Slf4j
+public class OutboxRelay implements SmartLifecycle {
+
+    private final OutboxRepository outboxRepository;
+    private final OutboxSink sink;
+    private final OutboxProperties.Relay properties;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter relayed;
+    private final Counter failures;
+    private final Timer lag;
+    private final Timer batchTimer;
+    private volatile Thread worker;
+
+    public OutboxRelay(OutboxRepository outboxRepository,
+                       OutboxSink sink,
+                       OutboxProperties.Relay properties,
+                       PlatformTransactionManager transactionManager,
+                       MeterRegistry meterRegistry) {
+        this.outboxRepository = outboxRepository;
+        this.sink = sink;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.relayed = meterRegistry.counter("outbox.relay.messages");
+        this.failures = meterRegistry.counter("outbox.relay.failures");
+        this.lag = Timer.builder("outbox.relay.lag")
+                .description("Time from the outbox insert until the sink acknowledged the message")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("outbox.relay.batch")
+                .description("Claim, deliver and delete of one batch")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Runs one claim/deliver/delete round and returns how many messages were delivered.
+     */
+    public int relayBatch() {
+        return batchTimer.record(() -> {
+            Instant now = Instant.now();
+            List<OutboxMessage> batch = transactionTemplate.execute(status ->
+                    outboxRepository.claim(properties.getBatchSize(), now, now.plus(properties.getLease())));
+            if (batch == null || batch.isEmpty()) {
+                return 0;
+            }
+            List<UUID> ids = batch.stream().map(OutboxMessage::id).toList();
+            try {
+                sink.publish(batch);
+            } catch (RuntimeException e) {
+                failures.increment();
+                transactionTemplate.executeWithoutResult(status ->
+                        outboxRepository.reschedule(ids, Instant.now().plus(properties.getRetryBackoff())));
+                log.warn("Outbox sink rejected a batch of {}, retrying in {}", batch.size(), properties.getRetryBackoff(), e);
+                return 0;
+            }
+            transactionTemplate.executeWithoutResult(status -> outboxRepository.delete(ids));
+
+            Instant acknowledged = Instant.now();
+            for (OutboxMessage message : batch) {
+                lag.record(Duration.between(message.createdAt(), acknowledged));
+            }
+            relayed.increment(batch.size());
+            return batch.size();
+        });
+    }
+
+    private void run() {
+        long pollNanos = properties.getPollInterval().toNanos();
+        while (worker == Thread.currentThread()) {
+            int delivered;
+            try {
+                delivered = relayBatch();
+            } catch (RuntimeException e) {
+                log.warn("Outbox relay round failed", e);
+                delivered = 0;
+            }
+            if (delivered < properties.getBatchSize()) {
+                LockSupport.parkNanos(this, pollNanos);
+            }
+        }
+    }
+
+    @Override
+    public void start() {
+        worker = Thread.ofPlatform().name("outbox-relay").daemon(true).unstarted(this::run);
+        worker.start();
+    }
+
+    @Override
+    public void stop() {
+        Thread current = worker;
+        worker = null;
+        if (current != null) {
+            LockSupport.unpark(current);
+            try {
+                current.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return worker != null;
+    }
+}
@@ -0,0 +1,81 @@
+package com.user.UserService.user.outbox;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+@RequiredArgsConstructor
+public class OutboxRepository {
+
+    private static final RowMapper<OutboxMessage> ROW_MAPPER = (rs, rowNum) -> new OutboxMessage(
+            rs.getObject("id", UUID.class),
+            rs.getObject("aggregate_id", UUID.class),
+            rs.getString("event_type"),
+            rs.getString("payload"),
+            rs.getTimestamp("created_at").toInstant(),
+            rs.getInt("attempts")
+    );
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public void insert(OutboxMessage message) {
+        jdbcTemplate.update("""
+                        INSERT INTO outbox (id, aggregate_id, event_type, payload, created_at, available_at, attempts)
+                        VALUES (:id, :aggregateId, :eventType, :payload, :createdAt, :createdAt, :attempts)""",
+                new MapSqlParameterSource()
+                        .addValue("id", message.id())
+                        .addValue("aggregateId", message.aggregateId())
+                        .addValue("eventType", message.eventType())
+                        .addValue("payload", message.payload())
+                        .addValue("createdAt", Timestamp.from(message.createdAt()))
+                        .addValue("attempts", message.attempts()));
+    }
+
+    /**
+     * Leases up to {@code limit} due rows until {@code leaseUntil} by moving their {@code available_at}, so other
+     * relays pass them over once the calling transaction commits. Rows locked by a concurrent claim are skipped
+     * rather than waited on, so several instances drain the outbox side by side without handing out a row twice.
+     * A lease that runs out before the rows are deleted or rescheduled makes them due again.
+     */
+    public List<OutboxMessage> claim(int limit, Instant now, Instant leaseUntil) {
+        List<OutboxMessage> batch = jdbcTemplate.query("""
+                        SELECT id, aggregate_id, event_type, payload, created_at, attempts
+                        FROM outbox
+                        WHERE available_at <= :now
+                        ORDER BY available_at, id
+                        LIMIT :limit
+                        FOR UPDATE SKIP LOCKED""",
+                new MapSqlParameterSource()
+                        .addValue("now", Timestamp.from(now))
+                        .addValue("limit", limit),
+                ROW_MAPPER);
+        if (!batch.isEmpty()) {
+            jdbcTemplate.update("UPDATE outbox SET available_at = :leaseUntil WHERE id IN (:ids)",
+                    new MapSqlParameterSource()
+                            .addValue("ids", batch.stream().map(OutboxMessage::id).toList())
+                            .addValue("leaseUntil", Timestamp.from(leaseUntil)));
+        }
+        return batch;
+    }
+
+    public int delete(Collection<UUID> ids) {
+        return jdbcTemplate.update("DELETE FROM outbox WHERE id IN (:ids)", new MapSqlParameterSource("ids", ids));
+    }
+
+    public int reschedule(Collection<UUID> ids, Instant availableAt) {
+        return jdbcTemplate.update(
+                "UPDATE outbox SET attempts = attempts + 1, available_at = :availableAt WHERE id IN (:ids)",
+                new MapSqlParameterSource()
+                        .addValue("ids", ids)
+                        .addValue("availableAt", Timestamp.from(availableAt)));
+    }
+}
@@ -0,0 +1,13 @@
+package com.user.UserService.user.outbox;
+
+import java.util.List;
+
+/**
+ * Delivers relayed outbox messages downstream. A batch is acknowledged as a whole: returning normally deletes
+ * every message in it, throwing {@link OutboxDeliveryException} schedules all of them for another attempt.
+ * Delivery is therefore at-least-once and consumers must deduplicate on the message id.
+ */
+public interface OutboxSink {
+
+    void publish(List<OutboxMessage> batch);
+}
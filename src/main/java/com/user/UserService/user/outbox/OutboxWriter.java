@@ -0,0 +1,49 @@
+package com.user.UserService.user.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.user.UserService.common.UuidV7;
+import com.user.UserService.user.domain.event.UserLoggedInEvent;
+import com.user.UserService.user.domain.event.UserRegisteredEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Records lifecycle events in the outbox as part of the transaction that raised them. A failure here rolls
+ * the whole transaction back, so a committed user or login always has its outbox row.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxWriter {
+
+    public static final String USER_REGISTERED = "user.registered";
+    public static final String USER_LOGGED_IN = "user.logged_in";
+
+    private final OutboxRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onUserRegistered(UserRegisteredEvent event) {
+        append(event.userId(), USER_REGISTERED, event);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onUserLoggedIn(UserLoggedInEvent event) {
+        append(event.userId(), USER_LOGGED_IN, event);
+    }
+
+    private void append(UUID aggregateId, String eventType, Object event) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize " + eventType + " for the outbox", e);
+        }
+        outboxRepository.insert(new OutboxMessage(UuidV7.generate(), aggregateId, eventType, payload, Instant.now(), 0));
+    }
+}
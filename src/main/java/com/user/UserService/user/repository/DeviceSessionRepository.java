@@ -18,8 +18,11 @@ public interface DeviceSessionRepository extends JpaRepository<DeviceSession, UU
     @Query("SELECT ds FROM DeviceSession ds WHERE ds.id = :id AND ds.userId = :userId AND ds.deletedAt IS NULL")
     Optional<DeviceSession> findByIdAndUserId(@Param("id") UUID id, @Param("userId") UUID userId);
 
+    @Query("SELECT new com.user.UserService.user.repository.DeviceSessionsVersion(COUNT(ds), MAX(ds.updatedAt)) FROM DeviceSession ds WHERE ds.userId = :userId")
+    DeviceSessionsVersion findVersionByUserId(@Param("userId") UUID userId);
+
     @Modifying
-    @Query("UPDATE DeviceSession ds SET ds.revoked = true WHERE ds.userId = :userId")
+    @Query("UPDATE DeviceSession ds SET ds.revoked = true, ds.updatedAt = CURRENT_INSTANT WHERE ds.userId = :userId AND ds.revoked = false")
     void revokeAllByUserId(@Param("userId") UUID userId);
 
     List<DeviceSession> findByUserId(UUID userId);
@@ -0,0 +1,12 @@
+package com.user.UserService.user.repository;
+
+import java.time.Instant;
+
+/**
+ * Change marker for a user's device sessions, computed from the (user_id, updated_at) index alone.
+ */
+public record DeviceSessionsVersion(
+        Long sessionCount,
+        Instant lastUpdatedAt
+) {
+}
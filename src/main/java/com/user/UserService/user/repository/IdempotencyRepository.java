@@ -0,0 +1,43 @@
+package com.user.UserService.user.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Encrypted auth responses in {@code idempotency_keys}, keyed by the HMAC of their idempotency key.
+ */
+@Repository
+@RequiredArgsConstructor
+public class IdempotencyRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @return the stored response, or null if there is none or it has expired
+     */
+    public byte[] find(String keyHash, Instant now) {
+        List<byte[]> responses = jdbcTemplate.query(
+                "SELECT response FROM idempotency_keys WHERE key_hash = ? AND expires_at > ?",
+                (rs, rowNum) -> rs.getBytes("response"),
+                keyHash, Timestamp.from(now));
+        return responses.isEmpty() ? null : responses.get(0);
+    }
+
+    /**
+     * @throws DuplicateKeyException if another replica stored a response for the key first
+     */
+    public void insert(String keyHash, byte[] response, Instant expiresAt) {
+        jdbcTemplate.update("INSERT INTO idempotency_keys (key_hash, response, expires_at) VALUES (?, ?, ?)",
+                keyHash, response, Timestamp.from(expiresAt));
+    }
+
+    public int deleteExpired(Instant now) {
+        return jdbcTemplate.update("DELETE FROM idempotency_keys WHERE expires_at <= ?", Timestamp.from(now));
+    }
+}
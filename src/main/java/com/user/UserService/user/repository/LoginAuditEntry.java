@@ -0,0 +1,20 @@
+package com.user.UserService.user.repository;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * One row of {@code login_audit}. {@code failureReason} is null for successful logins.
+ */
+public record LoginAuditEntry(
+        UUID id,
+        UUID userId,
+        String email,
+        Instant occurredAt,
+        String ipAddress,
+        String userAgent,
+        String deviceName,
+        boolean success,
+        String failureReason
+) {
+}
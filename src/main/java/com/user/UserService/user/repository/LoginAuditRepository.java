@@ -0,0 +1,87 @@
+package com.user.UserService.user.repository;
+
+import com.user.UserService.common.KeysetCursor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Append-only access to {@code login_audit}: rows are inserted in bulk and read back per user, never changed.
+ */
+@Repository
+@RequiredArgsConstructor
+public class LoginAuditRepository {
+
+    private static final String INSERT_PREFIX = "INSERT INTO login_audit "
+            + "(id, user_id, email, occurred_at, ip_address, user_agent, device_name, success, failure_reason) VALUES ";
+    private static final String ROW_PLACEHOLDERS = "(?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final int COLUMNS = 9;
+    // Keeps a statement well under the PostgreSQL limit of 65535 bind parameters.
+    private static final int MAX_ROWS_PER_STATEMENT = 1_000;
+
+    private static final RowMapper<LoginAuditEntry> ROW_MAPPER = (rs, rowNum) -> new LoginAuditEntry(
+            rs.getObject("id", UUID.class),
+            rs.getObject("user_id", UUID.class),
+            rs.getString("email"),
+            rs.getTimestamp("occurred_at").toInstant(),
+            rs.getString("ip_address"),
+            rs.getString("user_agent"),
+            rs.getString("device_name"),
+            rs.getBoolean("success"),
+            rs.getString("failure_reason")
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Writes the entries with multi-row INSERTs, one round trip per {@value #MAX_ROWS_PER_STATEMENT} rows.
+     */
+    public void insertAll(List<LoginAuditEntry> entries) {
+        for (int from = 0; from < entries.size(); from += MAX_ROWS_PER_STATEMENT) {
+            List<LoginAuditEntry> chunk = entries.subList(from, Math.min(entries.size(), from + MAX_ROWS_PER_STATEMENT));
+            StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + chunk.size() * (ROW_PLACEHOLDERS.length() + 2))
+                    .append(INSERT_PREFIX);
+            Object[] args = new Object[chunk.size() * COLUMNS];
+            int i = 0;
+            for (LoginAuditEntry entry : chunk) {
+                if (i > 0) {
+                    sql.append(", ");
+                }
+                sql.append(ROW_PLACEHOLDERS);
+                args[i++] = entry.id();
+                args[i++] = entry.userId();
+                args[i++] = entry.email();
+                args[i++] = Timestamp.from(entry.occurredAt());
+                args[i++] = entry.ipAddress();
+                args[i++] = entry.userAgent();
+                args[i++] = entry.deviceName();
+                args[i++] = entry.success();
+                args[i++] = entry.failureReason();
+            }
+            jdbcTemplate.update(sql.toString(), args);
+        }
+    }
+
+    public List<LoginAuditEntry> findByUser(UUID userId, KeysetCursor after, int limit) {
+        List<Object> args = new ArrayList<>(4);
+        StringBuilder sql = new StringBuilder("""
+                SELECT id, user_id, email, occurred_at, ip_address, user_agent, device_name, success, failure_reason
+                FROM login_audit
+                WHERE user_id = ?""");
+        args.add(userId);
+        if (after != null) {
+            sql.append(" AND (occurred_at, id) < (?, ?)");
+            args.add(Timestamp.from(after.timestamp()));
+            args.add(after.id());
+        }
+        sql.append(" ORDER BY occurred_at DESC, id DESC LIMIT ?");
+        args.add(limit);
+        return jdbcTemplate.query(sql.toString(), ROW_MAPPER, args.toArray());
+    }
+}
@@ -0,0 +1,99 @@
+package com.user.UserService.user.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Shared failed-login counters in {@code login_throttle}. Deltas are merged with a batched UPDATE followed by
+ * an INSERT for accounts without a row, which works unchanged on PostgreSQL and H2.
+ */
+@Repository
+@RequiredArgsConstructor
+public class LoginThrottleRepository {
+
+    private static final String UPDATE = """
+            UPDATE login_throttle
+            SET failures = CASE WHEN ? THEN ? ELSE failures + ? END,
+                locked_until = CASE WHEN ? OR locked_until < ? THEN ? ELSE locked_until END,
+                last_failure_at = CASE WHEN ? OR last_failure_at < ? THEN ? ELSE last_failure_at END,
+                updated_at = ?
+            WHERE email = ?
+            """;
+    private static final String INSERT = """
+            INSERT INTO login_throttle (email, failures, locked_until, last_failure_at, updated_at)
+            VALUES (?, ?, ?, ?, ?)
+            """;
+
+    private static final RowMapper<LoginThrottleState> ROW_MAPPER = (rs, rowNum) -> new LoginThrottleState(
+            rs.getString("email"),
+            rs.getInt("failures"),
+            rs.getTimestamp("locked_until").toInstant(),
+            rs.getTimestamp("last_failure_at").toInstant(),
+            false
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Merges the states into their rows: failures are added (or replace the stored count on reset), and the
+     * later lockout and failure time win. Rows inserted concurrently by another replica surface as
+     * {@link DuplicateKeyException}; the caller retries them on its next round.
+     */
+    public void merge(List<LoginThrottleState> states, Instant now) {
+        Timestamp updatedAt = Timestamp.from(now);
+        int[] updated = jdbcTemplate.batchUpdate(UPDATE, states, states.size(), (ps, state) -> {
+            Timestamp lockedUntil = Timestamp.from(state.lockedUntil());
+            Timestamp lastFailureAt = Timestamp.from(state.lastFailureAt());
+            ps.setBoolean(1, state.reset());
+            ps.setInt(2, state.failures());
+            ps.setInt(3, state.failures());
+            ps.setBoolean(4, state.reset());
+            ps.setTimestamp(5, lockedUntil);
+            ps.setTimestamp(6, lockedUntil);
+            ps.setBoolean(7, state.reset());
+            ps.setTimestamp(8, lastFailureAt);
+            ps.setTimestamp(9, lastFailureAt);
+            ps.setTimestamp(10, updatedAt);
+            ps.setString(11, state.email());
+        })[0];
+
+        List<LoginThrottleState> missing = new ArrayList<>();
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] == 0) {
+                missing.add(states.get(i));
+            }
+        }
+        if (!missing.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT, missing, missing.size(), (ps, state) -> {
+                ps.setString(1, state.email());
+                ps.setInt(2, state.failures());
+                ps.setTimestamp(3, Timestamp.from(state.lockedUntil()));
+                ps.setTimestamp(4, Timestamp.from(state.lastFailureAt()));
+                ps.setTimestamp(5, updatedAt);
+            });
+        }
+    }
+
+    public void deleteAll(List<String> emails) {
+        jdbcTemplate.batchUpdate("DELETE FROM login_throttle WHERE email = ?", emails, emails.size(),
+                (ps, email) -> ps.setString(1, email));
+    }
+
+    public List<LoginThrottleState> findUpdatedSince(Instant since) {
+        return jdbcTemplate.query(
+                "SELECT email, failures, locked_until, last_failure_at FROM login_throttle WHERE updated_at > ?",
+                ROW_MAPPER, Timestamp.from(since));
+    }
+
+    public int deleteNotUpdatedSince(Instant cutoff) {
+        return jdbcTemplate.update("DELETE FROM login_throttle WHERE updated_at < ?", Timestamp.from(cutoff));
+    }
+}
@@ -0,0 +1,16 @@
+package com.user.UserService.user.repository;
+
+import java.time.Instant;
+
+/**
+ * Failed-login state of one account. When {@code reset} is set the stored row is replaced; otherwise
+ * {@code failures} is added to it.
+ */
+public record LoginThrottleState(
+        String email,
+        int failures,
+        Instant lockedUntil,
+        Instant lastFailureAt,
+        boolean reset
+) {
+}
@@ -0,0 +1,14 @@
+package com.user.UserService.user.repository;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record UserDirectoryEntry(
+        UUID id,
+        String email,
+        String fullName,
+        int roleMask,
+        Instant createdAt,
+        Instant deletedAt
+) {
+}
@@ -0,0 +1,18 @@
+package com.user.UserService.user.repository;
+
+import com.user.UserService.common.KeysetCursor;
+import com.user.UserService.user.domain.value.Role;
+
+/**
+ * Filters for the admin directory; {@code null} components are not applied.
+ * {@code emailPattern} and {@code fullNamePattern} are LIKE patterns, already escaped.
+ */
+public record UserDirectoryQuery(
+        String emailPattern,
+        String fullNamePattern,
+        Role role,
+        Boolean deleted,
+        KeysetCursor after,
+        int limit
+) {
+}
@@ -0,0 +1,86 @@
+package com.user.UserService.user.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Read-only listing of users for administrators and lookups by id for internal services. Plain JDBC so that
+ * only the projected columns are read and only the filters actually requested end up in the statement, keeping
+ * each variant index-friendly: ordering and keyset use idx_users_created_id, searches use the trigram indexes
+ * on PostgreSQL, lookups by id the primary key. On PostgreSQL, deleted users and holders of ADMIN or SERVICE are
+ * walked through partial indexes of their own (V15), which is why the role mask is inlined rather than bound.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserDirectoryRepository {
+
+    private static final RowMapper<UserDirectoryEntry> ROW_MAPPER = (rs, rowNum) -> {
+        Timestamp deletedAt = rs.getTimestamp("deleted_at");
+        return new UserDirectoryEntry(
+                rs.getObject("id", UUID.class),
+                rs.getString("email"),
+                rs.getString("full_name"),
+                rs.getInt("roles"),
+                rs.getTimestamp("created_at").toInstant(),
+                deletedAt != null ? deletedAt.toInstant() : null
+        );
+    };
+
+    // One statement and one plan whatever the batch size, unlike an IN list with a placeholder per id.
+    private static final String ACTIVE_BY_IDS_SQL = """
+            SELECT id, email, full_name, roles, created_at, deleted_at FROM users
+            WHERE id = ANY(?) AND deleted_at IS NULL""";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public List<UserDirectoryEntry> find(UserDirectoryQuery query) {
+        StringBuilder sql = new StringBuilder(
+                "SELECT id, email, full_name, roles, created_at, deleted_at FROM users WHERE 1 = 1");
+        MapSqlParameterSource params = new MapSqlParameterSource();
+
+        if (query.deleted() != null) {
+            sql.append(query.deleted() ? " AND deleted_at IS NOT NULL" : " AND deleted_at IS NULL");
+        }
+        if (query.role() != null) {
+            // A literal from the enum, never client input: a bound mask could not be matched to a partial index.
+            sql.append(" AND BITAND(roles, ").append(query.role().mask()).append(") <> 0");
+        }
+        if (query.emailPattern() != null || query.fullNamePattern() != null) {
+            sql.append(" AND (email LIKE :emailPattern OR full_name ILIKE :fullNamePattern)");
+            params.addValue("emailPattern", query.emailPattern());
+            params.addValue("fullNamePattern", query.fullNamePattern());
+        }
+        if (query.after() != null) {
+            sql.append(" AND (created_at, id) < (:afterCreatedAt, :afterId)");
+            params.addValue("afterCreatedAt", Timestamp.from(query.after().timestamp()));
+            params.addValue("afterId", query.after().id());
+        }
+        sql.append(" ORDER BY created_at DESC, id DESC LIMIT :limit");
+        params.addValue("limit", query.limit());
+
+        return jdbcTemplate.query(sql.toString(), params, ROW_MAPPER);
+    }
+
+    /**
+     * Hands each active user among {@code ids} to {@code sink} as its row is read; unknown and deleted ids are
+     * simply absent. The ids are bound as a single {@code uuid[]} parameter.
+     */
+    public void streamActiveByIds(Collection<UUID> ids, Consumer<UserDirectoryEntry> sink) {
+        jdbcTemplate.getJdbcTemplate().query(con -> {
+            PreparedStatement statement = con.prepareStatement(ACTIVE_BY_IDS_SQL);
+            statement.setArray(1, con.createArrayOf("uuid", ids.toArray()));
+            return statement;
+        }, (RowCallbackHandler) rs -> sink.accept(ROW_MAPPER.mapRow(rs, 0)));
+    }
+}
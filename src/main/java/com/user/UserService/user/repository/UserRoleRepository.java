@@ -1,10 +0,0 @@
-package com.user.UserService.user.repository;
-
-import com.user.UserService.user.domain.entity.UserRole;
-import org.springframework.data.jpa.repository.JpaRepository;
-
-import java.util.UUID;
-
-public interface UserRoleRepository extends JpaRepository<UserRole, UUID> {
-}
-
@@ -0,0 +1,176 @@
+package com.user.UserService.user.service;
+
+import com.user.UserService.user.domain.exception.DomainException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of register, login and refresh broken down by phase, plus failures by reason. Timers publish histogram
+ * buckets so percentiles can be aggregated across replicas, and every tag takes its values from a fixed set:
+ * the operation, the phase, and the code of the failure.
+ * <p>
+ * JPA defers the inserts of a flow until the transaction commits, so their cost is recorded as the
+ * {@code commit} phase rather than under {@code token_persist} or {@code session_persist}.
+ */
+@Component
+public class AuthMetrics {
+
+    public enum Operation {
+        REGISTER(Phase.PASSWORD_HASH, Phase.USER_PERSIST, Phase.EVENT_PUBLISH, Phase.TOKEN_MINT, Phase.TOKEN_PERSIST,
+                Phase.SESSION_PERSIST, Phase.COMMIT),
+        LOGIN(Phase.USER_LOOKUP, Phase.PASSWORD_VERIFY, Phase.EVENT_PUBLISH, Phase.TOKEN_MINT, Phase.TOKEN_PERSIST,
+                Phase.SESSION_PERSIST, Phase.COMMIT),
+        REFRESH(Phase.TOKEN_LOOKUP, Phase.TOKEN_REVOKE, Phase.USER_LOOKUP, Phase.TOKEN_MINT, Phase.TOKEN_PERSIST,
+                Phase.SESSION_PERSIST, Phase.COMMIT);
+
+        private final Set<Phase> phases;
+
+        Operation(Phase first, Phase... rest) {
+            this.phases = EnumSet.of(first, rest);
+        }
+    }
+
+    public enum Phase {
+        USER_LOOKUP, PASSWORD_VERIFY, PASSWORD_HASH, USER_PERSIST, TOKEN_LOOKUP, TOKEN_REVOKE, TOKEN_MINT,
+        TOKEN_PERSIST, SESSION_PERSIST, EVENT_PUBLISH, COMMIT
+    }
+
+    private static final String INVALID_ARGUMENT = "INVALID_ARGUMENT";
+    private static final String INTERNAL_ERROR = "INTERNAL_ERROR";
+    private static final String COMMIT_FAILED = "COMMIT_FAILED";
+
+    // Minting a token takes microseconds, hashing a password tens of milliseconds.
+    private static final Duration PHASE_MIN_EXPECTED = Duration.ofNanos(10_000);
+    private static final Duration MIN_EXPECTED = Duration.ofMillis(1);
+    private static final Duration MAX_EXPECTED = Duration.ofSeconds(10);
+
+    private final MeterRegistry meterRegistry;
+    private final Timer[][] phaseTimers = new Timer[Operation.values().length][Phase.values().length];
+    private final Timer[] succeeded = new Timer[Operation.values().length];
+    private final Timer[] failed = new Timer[Operation.values().length];
+    private final Map<Operation, Map<String, Counter>> failures = new EnumMap<>(Operation.class);
+
+    public AuthMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        for (Operation operation : Operation.values()) {
+            String operationTag = tag(operation);
+            for (Phase phase : operation.phases) {
+                phaseTimers[operation.ordinal()][phase.ordinal()] = Timer.builder("auth.phase")
+                        .description("Time spent in one phase of an auth flow")
+                        .tags("operation", operationTag, "phase", tag(phase))
+                        .publishPercentileHistogram()
+                        .minimumExpectedValue(PHASE_MIN_EXPECTED)
+                        .maximumExpectedValue(MAX_EXPECTED)
+                        .register(meterRegistry);
+            }
+            succeeded[operation.ordinal()] = operationTimer(operationTag, "success");
+            failed[operation.ordinal()] = operationTimer(operationTag, "failure");
+            failures.put(operation, new ConcurrentHashMap<>());
+        }
+    }
+
+    /**
+     * Records the time since {@code started}, a {@link System#nanoTime()} reading, against a phase of an operation.
+     */
+    public void record(Operation operation, Phase phase, long started) {
+        Timer timer = phaseTimers[operation.ordinal()][phase.ordinal()];
+        if (timer == null) {
+            throw new IllegalArgumentException(phase + " is not a phase of " + operation);
+        }
+        timer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Times the flush and commit of the current transaction as the {@code commit} phase of {@code operation}.
+     */
+    public void recordCommit(Operation operation) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private long started;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                started = System.nanoTime();
+            }
+
+            @Override
+            public void afterCommit() {
+                record(operation, Phase.COMMIT, started);
+            }
+        });
+    }
+
+    /**
+     * Records a flow that returned normally. Inside a transaction the outcome is only known once it completes,
+     * so it is recorded then, as a {@code COMMIT_FAILED} failure if the commit did not go through.
+     */
+    public void succeeded(Operation operation, long started) {
+        long elapsed = System.nanoTime() - started;
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            succeeded[operation.ordinal()].record(elapsed, TimeUnit.NANOSECONDS);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    succeeded[operation.ordinal()].record(elapsed, TimeUnit.NANOSECONDS);
+                } else {
+                    failed(operation, elapsed, COMMIT_FAILED);
+                }
+            }
+        });
+    }
+
+    public void failed(Operation operation, long started, RuntimeException failure) {
+        failed(operation, System.nanoTime() - started, reason(failure));
+    }
+
+    private void failed(Operation operation, long elapsed, String reason) {
+        failed[operation.ordinal()].record(elapsed, TimeUnit.NANOSECONDS);
+        failures.get(operation).computeIfAbsent(reason, r -> Counter.builder("auth.failures")
+                .description("Auth requests that failed, by the error code returned to the client")
+                .tags("operation", tag(operation), "reason", r)
+                .register(meterRegistry)).increment();
+    }
+
+    // Domain codes are constants of the exception classes, which keeps the reason tag bounded.
+    private static String reason(RuntimeException failure) {
+        if (failure instanceof DomainException domainException && domainException.getCode() != null) {
+            return domainException.getCode();
+        }
+        if (failure instanceof IllegalArgumentException) {
+            return INVALID_ARGUMENT;
+        }
+        return INTERNAL_ERROR;
+    }
+
+    private Timer operationTimer(String operation, String outcome) {
+        return Timer.builder("auth.operation")
+                .description("Time spent in an auth flow, excluding the commit")
+                .tags("operation", operation, "outcome", outcome)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(MIN_EXPECTED)
+                .maximumExpectedValue(MAX_EXPECTED)
+                .register(meterRegistry);
+    }
+
+    private static String tag(Enum<?> value) {
+        return value.name().toLowerCase(Locale.ROOT);
+    }
+}
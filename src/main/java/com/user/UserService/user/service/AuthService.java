@@ -1,134 +1,257 @@
 package com.user.UserService.user.service;
 
+import com.user.UserService.security.client.ClientContext;
 import com.user.UserService.user.domain.entity.RefreshToken;
 import com.user.UserService.user.domain.entity.User;
 import com.user.UserService.user.domain.event.UserLoggedInEvent;
+import com.user.UserService.user.domain.event.UserLoginFailedEvent;
 import com.user.UserService.user.domain.event.UserRegisteredEvent;
+import com.user.UserService.user.domain.exception.EmailAlreadyUsedException;
 import com.user.UserService.user.domain.exception.InvalidCredentialsException;
+import com.user.UserService.user.domain.exception.TooManyLoginAttemptsException;
 import com.user.UserService.user.domain.exception.UserNotFoundException;
-import com.user.UserService.user.domain.service.DomainUserValidator;
 import com.user.UserService.user.domain.service.PasswordPolicy;
+import com.user.UserService.user.domain.service.RefreshTokenHasher;
 import com.user.UserService.user.domain.service.TokenGenerator;
 import com.user.UserService.user.domain.value.Email;
 import com.user.UserService.user.domain.value.Role;
 import com.user.UserService.user.repository.RefreshTokenRepository;
 import com.user.UserService.user.repository.UserRepository;
+import com.user.UserService.user.service.AuthMetrics.Operation;
+import com.user.UserService.user.service.AuthMetrics.Phase;
+import com.user.UserService.user.throttle.LoginThrottle;
 import com.user.UserService.user.web.dto.LoginRequest;
 import com.user.UserService.user.web.dto.RegisterRequest;
 import com.user.UserService.user.web.dto.TokenResponse;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
-import java.util.Base64;
+import java.util.Locale;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 @Service
 @RequiredArgsConstructor
 public class AuthService {
 
+    // users_email_active_unique once V7 ran on PostgreSQL; V1's users_email_unique and users_email_key elsewhere.
+    private static final Set<String> EMAIL_CONSTRAINTS =
+            Set.of("users_email_active_unique", "users_email_unique", "users_email_key");
+
     private final UserRepository userRepository;
     private final RefreshTokenRepository refreshTokenRepository;
     private final PasswordEncoder passwordEncoder;
     private final PasswordPolicy passwordPolicy;
-    private final DomainUserValidator userValidator;
     private final TokenGenerator tokenGenerator;
     private final DeviceSessionService deviceSessionService;
     private final ApplicationEventPublisher eventPublisher;
     private final com.user.UserService.common.InputSanitizer inputSanitizer;
+    private final LoginThrottle loginThrottle;
+    private final AuthMetrics authMetrics;
+
+    @Transactional
+    public TokenResponse register(RegisterRequest request, ClientContext client) {
+        return timed(Operation.REGISTER, () -> doRegister(request, client));
+    }
 
     @Transactional
-    public TokenResponse register(RegisterRequest request, String ipAddress, String userAgent) {
+    public TokenResponse login(LoginRequest request, ClientContext client) {
+        return timed(Operation.LOGIN, () -> doLogin(request, client));
+    }
+
+    /**
+     * Reserves a login attempt with the throttle before any database work; pair it with
+     * {@link #releaseLoginAttempt(String)}. Refused attempts are reported like any other failed attempt so they
+     * reach the login audit.
+     *
+     * @throws TooManyLoginAttemptsException if the account is locked out or has too many attempts in flight
+     */
+    public void acquireLoginAttempt(String email, ClientContext client) {
+        try {
+            loginThrottle.acquire(email);
+        } catch (TooManyLoginAttemptsException e) {
+            eventPublisher.publishEvent(UserLoginFailedEvent.of(
+                    null, email, client.ipAddress(), client.userAgent(), UserLoginFailedEvent.LOCKED_OUT));
+            throw e;
+        }
+    }
+
+    public void releaseLoginAttempt(String email) {
+        loginThrottle.release(email);
+    }
+
+    @Transactional
+    public TokenResponse refresh(String refreshToken, ClientContext client) {
+        return timed(Operation.REFRESH, () -> doRefresh(refreshToken, client));
+    }
+
+    @Transactional
+    public void logout(UUID userId) {
+        refreshTokenRepository.revokeAllByUserId(userId);
+    }
+
+    private TokenResponse doRegister(RegisterRequest request, ClientContext client) {
         Email email = Email.of(request.email());
-        userValidator.validateEmailNotInUse(email);
         passwordPolicy.validate(request.password());
 
+        long started = System.nanoTime();
+        String passwordHash = passwordEncoder.encode(request.password());
+        authMetrics.record(Operation.REGISTER, Phase.PASSWORD_HASH, started);
+
         User user = User.builder()
                 .email(email.getValue())
-                .passwordHash(passwordEncoder.encode(request.password()))
+                .passwordHash(passwordHash)
                 .fullName(inputSanitizer.sanitizeAndLimit(request.fullName(), 255))
                 .build();
 
         user.addRole(Role.USER);
-        userRepository.save(user);
+        started = System.nanoTime();
+        insertUser(user);
+        authMetrics.record(Operation.REGISTER, Phase.USER_PERSIST, started);
 
-        eventPublisher.publishEvent(UserRegisteredEvent.of(user.getId(), user.getEmail(), user.getFullName()));
+        publish(Operation.REGISTER, UserRegisteredEvent.of(user.getId(), user.getEmail(), user.getFullName()));
 
-        return createTokensAndSession(user, ipAddress, userAgent);
+        return createTokensAndSession(Operation.REGISTER, user, client);
     }
 
-    @Transactional
-    public TokenResponse login(LoginRequest request, String ipAddress, String userAgent) {
+    private TokenResponse doLogin(LoginRequest request, ClientContext client) {
         Email email = Email.of(request.email());
 
-        User user = userRepository.findActiveByEmail(email.getValue())
-                .orElseThrow(InvalidCredentialsException::new);
+        long started = System.nanoTime();
+        User user = userRepository.findActiveByEmail(email.getValue()).orElse(null);
+        authMetrics.record(Operation.LOGIN, Phase.USER_LOOKUP, started);
+        if (user == null) {
+            // Counted like a wrong password, so lockouts do not reveal which emails are registered.
+            loginThrottle.recordFailure(email.getValue());
+            publish(Operation.LOGIN, UserLoginFailedEvent.of(
+                    null, email.getValue(), client.ipAddress(), client.userAgent(), UserLoginFailedEvent.UNKNOWN_EMAIL));
+            throw InvalidCredentialsException.INSTANCE;
+        }
 
-        if (!passwordEncoder.matches(request.password(), user.getPasswordHash())) {
-            throw new InvalidCredentialsException();
+        started = System.nanoTime();
+        long verificationStarted = loginThrottle.startVerification();
+        boolean passwordMatches = passwordEncoder.matches(request.password(), user.getPasswordHash());
+        loginThrottle.endVerification(verificationStarted);
+        authMetrics.record(Operation.LOGIN, Phase.PASSWORD_VERIFY, started);
+        if (!passwordMatches) {
+            loginThrottle.recordFailure(email.getValue());
+            publish(Operation.LOGIN, UserLoginFailedEvent.of(
+                    user.getId(), user.getEmail(), client.ipAddress(), client.userAgent(), UserLoginFailedEvent.BAD_PASSWORD));
+            throw InvalidCredentialsException.INSTANCE;
         }
 
-        eventPublisher.publishEvent(UserLoggedInEvent.of(user.getId(), user.getEmail(), ipAddress, userAgent));
+        loginThrottle.recordSuccess(email.getValue());
 
-        return createTokensAndSession(user, ipAddress, userAgent);
+        publish(Operation.LOGIN, UserLoggedInEvent.of(
+                user.getId(), user.getEmail(), client.ipAddress(), client.userAgent()));
+
+        return createTokensAndSession(Operation.LOGIN, user, client);
     }
 
-    @Transactional
-    public TokenResponse refresh(String refreshToken, String ipAddress, String userAgent) {
-        String tokenHash = hashToken(refreshToken);
+    private TokenResponse doRefresh(String refreshToken, ClientContext client) {
+        long started = System.nanoTime();
+        String tokenHash = RefreshTokenHasher.hash(refreshToken);
         RefreshToken storedToken = refreshTokenRepository.findByTokenHash(tokenHash)
-                .orElseThrow(() -> new com.user.UserService.user.domain.exception.InvalidTokenException());
+                .orElseThrow(() -> com.user.UserService.user.domain.exception.InvalidTokenException.INSTANCE);
+        authMetrics.record(Operation.REFRESH, Phase.TOKEN_LOOKUP, started);
 
         if (!storedToken.isValid()) {
             if (storedToken.isExpired()) {
-                throw new com.user.UserService.user.domain.exception.TokenExpiredException();
+                throw com.user.UserService.user.domain.exception.TokenExpiredException.INSTANCE;
             }
-            throw new com.user.UserService.user.domain.exception.TokenRevokedException();
+            throw com.user.UserService.user.domain.exception.TokenRevokedException.INSTANCE;
         }
 
+        started = System.nanoTime();
         storedToken.revoke();
         refreshTokenRepository.save(storedToken);
+        authMetrics.record(Operation.REFRESH, Phase.TOKEN_REVOKE, started);
 
+        started = System.nanoTime();
         User user = userRepository.findActiveById(storedToken.getUserId())
                 .orElseThrow(() -> UserNotFoundException.byId(storedToken.getUserId().toString()));
+        authMetrics.record(Operation.REFRESH, Phase.USER_LOOKUP, started);
 
-        return createTokensAndSession(user, ipAddress, userAgent);
+        return createTokensAndSession(Operation.REFRESH, user, client);
     }
 
-    @Transactional
-    public void logout(UUID userId) {
-        refreshTokenRepository.revokeAllByUserId(userId);
+    private TokenResponse timed(Operation operation, Supplier<TokenResponse> flow) {
+        long started = System.nanoTime();
+        try {
+            authMetrics.recordCommit(operation);
+            TokenResponse tokens = flow.get();
+            authMetrics.succeeded(operation, started);
+            return tokens;
+        } catch (RuntimeException e) {
+            authMetrics.failed(operation, started, e);
+            throw e;
+        }
+    }
+
+    private void publish(Operation operation, Object event) {
+        long started = System.nanoTime();
+        eventPublisher.publishEvent(event);
+        authMetrics.record(operation, Phase.EVENT_PUBLISH, started);
+    }
+
+    /**
+     * Relies on the users_email_active_unique index instead of a separate existence query,
+     * so concurrent registrations for the same email cannot both succeed.
+     */
+    private void insertUser(User user) {
+        try {
+            userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            if (isEmailTaken(e)) {
+                throw new EmailAlreadyUsedException(user.getEmail());
+            }
+            throw e;
+        }
     }
 
-    private TokenResponse createTokensAndSession(User user, String ipAddress, String userAgent) {
+    /**
+     * Only a violation of the email constraint means the email is taken; a primary key collision or any other
+     * unique index is rethrown as is.
+     */
+    private boolean isEmailTaken(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                String name = violation.getConstraintName().toLowerCase(Locale.ROOT);
+                // Reported schema-qualified by some dialects, e.g. public.users_email_unique.
+                return EMAIL_CONSTRAINTS.contains(name.substring(name.lastIndexOf('.') + 1));
+            }
+        }
+        return false;
+    }
+
+    private TokenResponse createTokensAndSession(Operation operation, User user, ClientContext client) {
+        long started = System.nanoTime();
         String accessToken = tokenGenerator.generateAccessToken(user);
         String refreshToken = tokenGenerator.generateRefreshToken(user.getId());
+        String refreshTokenHash = RefreshTokenHasher.hash(refreshToken);
+        authMetrics.record(operation, Phase.TOKEN_MINT, started);
 
+        started = System.nanoTime();
         RefreshToken refreshTokenEntity = RefreshToken.builder()
                 .userId(user.getId())
-                .tokenHash(hashToken(refreshToken))
+                .tokenHash(refreshTokenHash)
                 .expiry(tokenGenerator.getRefreshTokenExpiry())
                 .revoked(false)
                 .build();
         refreshTokenRepository.save(refreshTokenEntity);
+        authMetrics.record(operation, Phase.TOKEN_PERSIST, started);
 
-        deviceSessionService.createOrUpdateSession(user.getId(), ipAddress, userAgent);
+        started = System.nanoTime();
+        deviceSessionService.createOrUpdateSession(user.getId(), client);
+        authMetrics.record(operation, Phase.SESSION_PERSIST, started);
 
         return new TokenResponse(accessToken, refreshToken, "Bearer");
     }
-
-    private String hashToken(String token) {
-        try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            byte[] hash = digest.digest(token.getBytes());
-            return Base64.getEncoder().encodeToString(hash);
-        } catch (NoSuchAlgorithmException e) {
-            throw new RuntimeException("SHA-256 algorithm not available", e);
-        }
-    }
 }
 
@@ -1,5 +1,6 @@
 package com.user.UserService.user.service;
 
+import com.user.UserService.security.client.ClientContext;
 import com.user.UserService.user.domain.entity.DeviceSession;
 import com.user.UserService.user.repository.DeviceSessionRepository;
 import lombok.RequiredArgsConstructor;
@@ -16,13 +17,14 @@ public class DeviceSessionService {
     private final DeviceSessionRepository deviceSessionRepository;
 
     @Transactional
-    public DeviceSession createOrUpdateSession(UUID userId, String ipAddress, String userAgent) {
+    public DeviceSession createOrUpdateSession(UUID userId, ClientContext client) {
+        String userAgent = client.userAgent();
         String deviceName = extractDeviceName(userAgent);
         String os = extractOs(userAgent);
 
         DeviceSession session = DeviceSession.builder()
                 .userId(userId)
-                .ipAddress(ipAddress)
+                .ipAddress(client.ipAddress())
                 .userAgent(userAgent)
                 .deviceName(deviceName)
                 .os(os)
@@ -58,7 +60,7 @@ public class DeviceSessionService {
         deviceSessionRepository.revokeAllByUserId(userId);
     }
 
-    private String extractDeviceName(String userAgent) {
+    public static String extractDeviceName(String userAgent) {
         if (userAgent == null || userAgent.isBlank()) {
             return "Unknown";
         }
@@ -0,0 +1,54 @@
+package com.user.UserService.user.service;
+
+import com.user.UserService.common.KeysetCursor;
+import com.user.UserService.user.repository.LoginAuditEntry;
+import com.user.UserService.user.repository.LoginAuditRepository;
+import com.user.UserService.user.web.dto.LoginAttemptResponse;
+import com.user.UserService.user.web.dto.LoginHistoryResponse;
+import com.user.UserService.user.web.mapper.UserMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Reads the caller's own login attempts. Attempts reach {@code login_audit} through the security event pipeline,
+ * so the most recent one only appears once the pipeline has drained it. With the default {@code overflow: DROP},
+ * attempts arriving while the pipeline's buffer is full are not recorded at all; they are counted under
+ * {@code security.events.dropped}.
+ */
+@Service
+@RequiredArgsConstructor
+public class LoginHistoryService {
+
+    public static final int DEFAULT_LIMIT = 20;
+    public static final int MAX_LIMIT = 100;
+
+    private final LoginAuditRepository loginAuditRepository;
+    private final UserMapper userMapper;
+
+    @Transactional(readOnly = true)
+    public LoginHistoryResponse getLoginHistory(UUID userId, String cursor, Integer limit) {
+        int pageSize = limit != null ? limit : DEFAULT_LIMIT;
+        if (pageSize < 1 || pageSize > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_LIMIT);
+        }
+        KeysetCursor after = cursor != null && !cursor.isBlank() ? KeysetCursor.decode(cursor) : null;
+
+        List<LoginAuditEntry> entries = loginAuditRepository.findByUser(userId, after, pageSize + 1);
+        boolean hasMore = entries.size() > pageSize;
+        List<LoginAuditEntry> page = hasMore ? entries.subList(0, pageSize) : entries;
+
+        List<LoginAttemptResponse> logins = page.stream()
+                .map(userMapper::toLoginAttemptResponse)
+                .toList();
+        String nextCursor = null;
+        if (hasMore) {
+            LoginAuditEntry last = page.get(page.size() - 1);
+            nextCursor = new KeysetCursor(last.occurredAt(), last.id()).encode();
+        }
+        return new LoginHistoryResponse(logins, nextCursor);
+    }
+}
@@ -4,6 +4,7 @@ import com.user.UserService.user.domain.entity.RefreshToken;
 import com.user.UserService.user.domain.exception.InvalidTokenException;
 import com.user.UserService.user.domain.exception.TokenExpiredException;
 import com.user.UserService.user.domain.exception.TokenRevokedException;
+import com.user.UserService.user.domain.service.RefreshTokenHasher;
 import com.user.UserService.user.domain.service.TokenGenerator;
 import com.user.UserService.user.repository.RefreshTokenRepository;
 import io.jsonwebtoken.Claims;
@@ -11,9 +12,6 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
-import java.util.Base64;
 import java.util.UUID;
 
 @Service
@@ -37,24 +35,24 @@ public class TokenService {
 
     @Transactional
     public void validateRefreshToken(String refreshToken) {
-        String tokenHash = hashToken(refreshToken);
+        String tokenHash = RefreshTokenHasher.hash(refreshToken);
         RefreshToken storedToken = refreshTokenRepository.findByTokenHash(tokenHash)
-                .orElseThrow(InvalidTokenException::new);
+                .orElseThrow(() -> InvalidTokenException.INSTANCE);
 
         if (storedToken.isExpired()) {
-            throw new TokenExpiredException();
+            throw TokenExpiredException.INSTANCE;
         }
 
         if (storedToken.isRevoked()) {
-            throw new TokenRevokedException();
+            throw TokenRevokedException.INSTANCE;
         }
     }
 
     @Transactional
     public void revokeRefreshToken(String refreshToken) {
-        String tokenHash = hashToken(refreshToken);
+        String tokenHash = RefreshTokenHasher.hash(refreshToken);
         RefreshToken storedToken = refreshTokenRepository.findByTokenHash(tokenHash)
-                .orElseThrow(InvalidTokenException::new);
+                .orElseThrow(() -> InvalidTokenException.INSTANCE);
 
         storedToken.revoke();
         refreshTokenRepository.save(storedToken);
@@ -64,15 +62,5 @@ public class TokenService {
     public void revokeAllUserTokens(UUID userId) {
         refreshTokenRepository.revokeAllByUserId(userId);
     }
-
-    private String hashToken(String token) {
-        try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            byte[] hash = digest.digest(token.getBytes());
-            return Base64.getEncoder().encodeToString(hash);
-        } catch (NoSuchAlgorithmException e) {
-            throw new RuntimeException("SHA-256 algorithm not available", e);
-        }
-    }
 }
 
@@ -0,0 +1,71 @@
+package com.user.UserService.user.service;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.user.UserService.user.repository.UserDirectoryRepository;
+import com.user.UserService.user.web.mapper.UserMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Looks up many users by id for other services in one query, writing each user to the response as its row is
+ * read instead of collecting the batch first. The body is a {@code BatchGetUsersResponse}: requested ids that are
+ * unknown or deleted are listed under {@code missing} rather than failing the batch.
+ */
+@Service
+public class UserBatchLookupService {
+
+    private final UserDirectoryRepository userDirectoryRepository;
+    private final UserMapper userMapper;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    public UserBatchLookupService(UserDirectoryRepository userDirectoryRepository,
+                                  UserMapper userMapper,
+                                  ObjectMapper objectMapper,
+                                  PlatformTransactionManager transactionManager) {
+        this.userDirectoryRepository = userDirectoryRepository;
+        this.userMapper = userMapper;
+        this.objectMapper = objectMapper;
+        // Runs on the streaming thread, outside any request transaction; read-only lets it go to a replica.
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    public void batchGet(List<UUID> ids, OutputStream output) throws IOException {
+        Set<UUID> missing = new LinkedHashSet<>(ids);
+        List<UUID> distinct = List.copyOf(missing);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(output, JsonEncoding.UTF8)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("users");
+            transactionTemplate.executeWithoutResult(status ->
+                    userDirectoryRepository.streamActiveByIds(distinct, entry -> {
+                        missing.remove(entry.id());
+                        try {
+                            generator.writeObject(userMapper.toResponse(entry));
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    }));
+            generator.writeEndArray();
+            generator.writeArrayFieldStart("missing");
+            for (UUID id : missing) {
+                generator.writeString(id.toString());
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.user.UserService.user.service;
+
+import com.user.UserService.common.InputSanitizer;
+import com.user.UserService.common.KeysetCursor;
+import com.user.UserService.user.domain.value.Role;
+import com.user.UserService.user.repository.UserDirectoryEntry;
+import com.user.UserService.user.repository.UserDirectoryQuery;
+import com.user.UserService.user.repository.UserDirectoryRepository;
+import com.user.UserService.user.web.dto.AdminUserResponse;
+import com.user.UserService.user.web.dto.UserPageResponse;
+import com.user.UserService.user.web.mapper.UserMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class UserDirectoryService {
+
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 200;
+    // Trigram indexes cannot serve shorter terms, which would fall back to a full scan.
+    public static final int MIN_SEARCH_LENGTH = 3;
+
+    public enum SearchMode {
+        PREFIX,
+        CONTAINS
+    }
+
+    private final UserDirectoryRepository userDirectoryRepository;
+    private final UserMapper userMapper;
+    private final InputSanitizer inputSanitizer;
+
+    @Transactional(readOnly = true)
+    public UserPageResponse listUsers(String search, String match, String role, Boolean deleted,
+                                      String cursor, Integer limit) {
+        int pageSize = limit != null ? limit : DEFAULT_LIMIT;
+        if (pageSize < 1 || pageSize > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_LIMIT);
+        }
+
+        String emailPattern = null;
+        String fullNamePattern = null;
+        if (search != null && !search.isBlank()) {
+            String term = search.trim();
+            if (term.length() < MIN_SEARCH_LENGTH) {
+                throw new IllegalArgumentException("Search term must be at least " + MIN_SEARCH_LENGTH + " characters");
+            }
+            SearchMode mode = parseEnum(SearchMode.class, match, SearchMode.CONTAINS, "match");
+            emailPattern = likePattern(term.toLowerCase(), mode);
+            // Names are stored sanitized, so the term must be escaped the same way to match.
+            fullNamePattern = likePattern(inputSanitizer.sanitize(term), mode);
+        }
+
+        UserDirectoryQuery query = new UserDirectoryQuery(
+                emailPattern,
+                fullNamePattern,
+                parseEnum(Role.class, role, null, "role"),
+                deleted,
+                cursor != null && !cursor.isBlank() ? KeysetCursor.decode(cursor) : null,
+                pageSize + 1
+        );
+
+        List<UserDirectoryEntry> entries = userDirectoryRepository.find(query);
+        boolean hasMore = entries.size() > pageSize;
+        List<UserDirectoryEntry> page = hasMore ? entries.subList(0, pageSize) : entries;
+
+        List<AdminUserResponse> users = page.stream()
+                .map(userMapper::toAdminResponse)
+                .toList();
+        String nextCursor = null;
+        if (hasMore) {
+            UserDirectoryEntry last = page.get(page.size() - 1);
+            nextCursor = new KeysetCursor(last.createdAt(), last.id()).encode();
+        }
+        return new UserPageResponse(users, nextCursor);
+    }
+
+    private static String likePattern(String term, SearchMode mode) {
+        StringBuilder pattern = new StringBuilder(term.length() + 2);
+        if (mode == SearchMode.CONTAINS) {
+            pattern.append('%');
+        }
+        for (int i = 0; i < term.length(); i++) {
+            char c = term.charAt(i);
+            if (c == '%' || c == '_' || c == '\\') {
+                pattern.append('\\');
+            }
+            pattern.append(c);
+        }
+        return pattern.append('%').toString();
+    }
+
+    private static <E extends Enum<E>> E parseEnum(Class<E> type, String value, E defaultValue, String name) {
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            return Enum.valueOf(type, value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown " + name + ": " + value);
+        }
+    }
+}
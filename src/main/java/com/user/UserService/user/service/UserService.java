@@ -1,13 +1,16 @@
 package com.user.UserService.user.service;
 
+import com.user.UserService.config.datasource.PrimaryReads;
+import com.user.UserService.user.cache.UserProfileCache;
+import com.user.UserService.user.cache.UserProfileSnapshot;
 import com.user.UserService.user.domain.entity.DeviceSession;
 import com.user.UserService.user.domain.entity.User;
 import com.user.UserService.user.domain.exception.SessionNotFoundException;
 import com.user.UserService.user.domain.exception.UserNotFoundException;
 import com.user.UserService.user.repository.DeviceSessionRepository;
+import com.user.UserService.user.repository.DeviceSessionsVersion;
 import com.user.UserService.user.repository.UserRepository;
 import com.user.UserService.user.web.dto.DeviceSessionResponse;
-import com.user.UserService.user.web.dto.UserResponse;
 import com.user.UserService.user.web.mapper.UserMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -15,6 +18,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Predicate;
 
 @Service
 @RequiredArgsConstructor
@@ -23,12 +27,17 @@ public class UserService {
     private final UserRepository userRepository;
     private final DeviceSessionRepository deviceSessionRepository;
     private final UserMapper userMapper;
+    private final UserProfileCache userProfileCache;
 
-    @Transactional(readOnly = true)
-    public UserResponse getCurrentUser(UUID userId) {
+    // Deliberately non-transactional so that cache hits never borrow a pooled connection.
+    public UserProfileSnapshot getCurrentUser(UUID userId) {
+        return userProfileCache.get(userId, id -> PrimaryReads.call(() -> loadProfile(id)));
+    }
+
+    private UserProfileSnapshot loadProfile(UUID userId) {
         User user = userRepository.findActiveById(userId)
                 .orElseThrow(() -> UserNotFoundException.byId(userId.toString()));
-        return userMapper.toResponse(user);
+        return new UserProfileSnapshot(userMapper.toResponse(user), user.getUpdatedAt());
     }
 
     @Transactional(readOnly = true)
@@ -37,12 +46,21 @@ public class UserService {
                 .orElseThrow(() -> UserNotFoundException.byId(userId.toString()));
     }
 
+    /**
+     * Reads the version and then the rows on one connection, so the rows are never older than the version,
+     * whichever database serves the read-only transaction, and a tag built from the version never labels a stale
+     * list. The rows are not read at all when {@code unchanged} accepts the version.
+     */
     @Transactional(readOnly = true)
-    public List<DeviceSessionResponse> getActiveSessions(UUID userId) {
+    public ActiveSessions getActiveSessions(UUID userId, Predicate<DeviceSessionsVersion> unchanged) {
+        DeviceSessionsVersion version = deviceSessionRepository.findVersionByUserId(userId);
+        if (unchanged.test(version)) {
+            return new ActiveSessions(version, null);
+        }
         List<DeviceSession> sessions = deviceSessionRepository.findActiveByUserId(userId);
-        return sessions.stream()
+        return new ActiveSessions(version, sessions.stream()
                 .map(userMapper::toDeviceSessionResponse)
-                .toList();
+                .toList());
     }
 
     @Transactional
@@ -58,5 +76,10 @@ public class UserService {
     public void revokeAllSessions(UUID userId) {
         deviceSessionRepository.revokeAllByUserId(userId);
     }
-}
 
+    /**
+     * {@code sessions} is null when the caller's copy is still current.
+     */
+    public record ActiveSessions(DeviceSessionsVersion version, List<DeviceSessionResponse> sessions) {
+    }
+}
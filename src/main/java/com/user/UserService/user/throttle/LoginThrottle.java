@@ -0,0 +1,464 @@
+package com.user.UserService.user.throttle;
+
+import com.user.UserService.user.domain.exception.TooManyLoginAttemptsException;
+import com.user.UserService.user.repository.LoginThrottleRepository;
+import com.user.UserService.user.repository.LoginThrottleState;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Per-account failed-login throttling, checked before the user is loaded or the password hash is verified.
+ * After {@code free-attempts} failures an account is locked out for {@code initial-lockout}, doubling with every
+ * further failure up to {@code max-lockout}; attempts during a lockout are rejected and do not extend it.
+ * Each attempt holds a reservation from {@link #acquire} until {@link #release}, and in-flight attempts count
+ * against the failures still allowed, so parallel guesses cannot all start a password verification before the
+ * first of them fails. Past the threshold only one attempt at a time is let through once the lockout ends.
+ * <p>
+ * Counters live in memory, in lock-striped maps keyed by normalized email, so the check costs no database
+ * round trip. A background thread reconciles them with {@code login_throttle}: it adds the failures seen here
+ * since the last round, deletes rows of accounts that logged in successfully, and pulls rows other replicas
+ * changed, so a lockout holds across replicas within one {@code reconcile-interval}.
+ */
+@Slf4j
+@Component
+public class LoginThrottle implements SmartLifecycle {
+
+    private static final int STRIPES = 64;
+
+    private final LoginThrottleRepository repository;
+    private final LoginThrottleProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    private final Stripe[] stripes = new Stripe[STRIPES];
+    private final int stripeCapacity;
+    private final Counter lockouts;
+    private final Counter rejected;
+    private final Counter untracked;
+    private final Counter reconcileFailures;
+    private final Timer reconcileTimer;
+    private final LongAdder savedNanos = new LongAdder();
+    private final AtomicLong verificationNanos = new AtomicLong();
+    private final ReentrantLock reconcileLock = new ReentrantLock();
+    // Guarded by reconcileLock.
+    private Instant lastPull = Instant.EPOCH;
+    private volatile Thread reconciler;
+    private volatile boolean running;
+
+    public LoginThrottle(LoginThrottleRepository repository,
+                         LoginThrottleProperties properties,
+                         PlatformTransactionManager transactionManager,
+                         MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe();
+        }
+        this.stripeCapacity = Math.max(1, properties.getMaxTrackedAccounts() / STRIPES);
+        this.lockouts = meterRegistry.counter("login.throttle.lockouts");
+        this.rejected = meterRegistry.counter("login.throttle.rejected");
+        this.untracked = meterRegistry.counter("login.throttle.untracked");
+        this.reconcileFailures = meterRegistry.counter("login.throttle.reconcile.failed");
+        this.reconcileTimer = meterRegistry.timer("login.throttle.reconcile");
+        FunctionCounter.builder("login.throttle.cpu.saved", savedNanos, saved -> saved.sum() / 1e9)
+                .baseUnit("seconds")
+                .description("Password verification CPU time not spent on rejected attempts (estimated)")
+                .register(meterRegistry);
+        Gauge.builder("login.throttle.tracked", this, LoginThrottle::tracked).register(meterRegistry);
+    }
+
+    /**
+     * Reserves an in-flight attempt; every call must be paired with {@link #release(String)}.
+     *
+     * @throws TooManyLoginAttemptsException if the account is locked out, or if the attempts already in flight
+     *                                       could use up the failures it has left
+     */
+    public void acquire(String email) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        Stripe stripe = stripe(email);
+        long retryAfter;
+        stripe.lock.lock();
+        try {
+            Failures failures = stripe.accounts.get(email);
+            if (failures == null) {
+                if (stripe.accounts.size() >= stripeCapacity && evictExpired(stripe, now) == 0) {
+                    untracked.increment();
+                    return;
+                }
+                failures = new Failures();
+                stripe.accounts.put(email, failures);
+            }
+            int count = isExpired(failures, now) ? 0 : failures.count;
+            if (failures.lockedUntil > now) {
+                retryAfter = failures.lockedUntil - now;
+            } else if (failures.inFlight >= Math.max(1, properties.getFreeAttempts() - count)) {
+                retryAfter = properties.getInitialLockout().toMillis();
+            } else {
+                failures.inFlight++;
+                return;
+            }
+        } finally {
+            stripe.lock.unlock();
+        }
+        rejected.increment();
+        savedNanos.add(verificationNanos.get());
+        throw new TooManyLoginAttemptsException(Duration.ofMillis(retryAfter));
+    }
+
+    public void release(String email) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        Stripe stripe = stripe(email);
+        stripe.lock.lock();
+        try {
+            Failures failures = stripe.accounts.get(email);
+            if (failures != null && failures.inFlight > 0) {
+                failures.inFlight--;
+                if (failures.inFlight == 0 && failures.count == 0 && !failures.dirty && failures.lockedUntil == 0) {
+                    stripe.accounts.remove(email);
+                }
+            }
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    public void recordFailure(String email) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        Stripe stripe = stripe(email);
+        stripe.lock.lock();
+        try {
+            Failures failures = stripe.accounts.get(email);
+            if (failures == null) {
+                if (stripe.accounts.size() >= stripeCapacity && evictExpired(stripe, now) == 0) {
+                    untracked.increment();
+                    return;
+                }
+                failures = new Failures();
+                stripe.accounts.put(email, failures);
+            } else if (isExpired(failures, now)) {
+                failures.count = 0;
+                failures.pending = 0;
+                failures.reset = true;
+            }
+            // A success since the last round deleted nothing yet; replace the row instead of adding to it.
+            if (failures.count == 0 && stripe.cleared.remove(email)) {
+                failures.reset = true;
+            }
+            failures.count++;
+            failures.pending++;
+            failures.lastFailure = now;
+            failures.dirty = true;
+
+            int excess = failures.count - properties.getFreeAttempts();
+            if (excess >= 0) {
+                // Only a lockout starting from an unlocked account counts; a failure that raced in during one
+                // may extend it, but is not another lockout.
+                if (failures.lockedUntil <= now) {
+                    lockouts.increment();
+                }
+                failures.lockedUntil = Math.max(failures.lockedUntil, now + lockout(excess));
+            }
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    public void recordSuccess(String email) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        Stripe stripe = stripe(email);
+        stripe.lock.lock();
+        try {
+            Failures failures = stripe.accounts.remove(email);
+            if (failures != null) {
+                if (failures.count > 0 || failures.dirty) {
+                    stripe.cleared.add(email);
+                }
+                if (failures.inFlight > 0) {
+                    // Other attempts are still verifying; keep their reservations.
+                    Failures reserved = new Failures();
+                    reserved.inFlight = failures.inFlight;
+                    stripe.accounts.put(email, reserved);
+                }
+            }
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /**
+     * Start of a password verification; pass the result to {@link #endVerification(long)}. Keeps a running
+     * average of the CPU time a verification costs, which is what a rejected attempt is credited with in
+     * {@code login.throttle.cpu.saved}.
+     */
+    public long startVerification() {
+        return cpuTime();
+    }
+
+    public void endVerification(long started) {
+        long elapsed = cpuTime() - started;
+        long average = verificationNanos.get();
+        verificationNanos.set(average == 0 ? elapsed : average + (elapsed - average) / 16);
+    }
+
+    // Thread CPU time where the JVM measures it; virtual threads fall back to wall time.
+    private long cpuTime() {
+        long cpu = Thread.currentThread().isVirtual() ? -1 : threads.getCurrentThreadCpuTime();
+        return cpu >= 0 ? cpu : System.nanoTime();
+    }
+
+    private long lockout(int excess) {
+        long initial = properties.getInitialLockout().toMillis();
+        long max = properties.getMaxLockout().toMillis();
+        return excess >= Long.numberOfLeadingZeros(Math.max(1, initial)) - 1 ? max : Math.min(max, initial << excess);
+    }
+
+    private boolean isExpired(Failures failures, long now) {
+        return failures.lockedUntil <= now
+                && failures.lastFailure < now - properties.getFailureWindow().toMillis();
+    }
+
+    private int evictExpired(Stripe stripe, long now) {
+        int evicted = 0;
+        for (Iterator<Failures> it = stripe.accounts.values().iterator(); it.hasNext(); ) {
+            Failures failures = it.next();
+            if (!failures.dirty && failures.inFlight == 0 && isExpired(failures, now)) {
+                it.remove();
+                evicted++;
+            }
+        }
+        return evicted;
+    }
+
+    private Stripe stripe(String email) {
+        return stripes[(email.hashCode() * 0x9E3779B9) >>> 26];
+    }
+
+    private double tracked() {
+        int tracked = 0;
+        for (Stripe stripe : stripes) {
+            tracked += stripe.accounts.size();
+        }
+        return tracked;
+    }
+
+    /**
+     * One reconciliation round. Public so tests can drive it without the background thread.
+     */
+    public void reconcile() {
+        reconcileLock.lock();
+        try {
+            reconcileTimer.record(this::reconcileRound);
+        } finally {
+            reconcileLock.unlock();
+        }
+    }
+
+    private void reconcileRound() {
+        Instant now = Instant.now();
+        List<String> cleared = new ArrayList<>();
+        List<LoginThrottleState> changed = new ArrayList<>();
+        collect(now.toEpochMilli(), cleared, changed);
+        if (!cleared.isEmpty() || !changed.isEmpty()) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    if (!cleared.isEmpty()) {
+                        repository.deleteAll(cleared);
+                    }
+                    if (!changed.isEmpty()) {
+                        repository.merge(changed, now);
+                    }
+                });
+            } catch (RuntimeException e) {
+                reconcileFailures.increment();
+                requeue(cleared, changed);
+                log.warn("Could not push login throttle state for {} accounts", cleared.size() + changed.size(), e);
+            }
+        }
+
+        try {
+            Instant since = lastPull.minus(properties.getReconcileInterval());
+            for (LoginThrottleState state : repository.findUpdatedSince(since)) {
+                apply(state, now.toEpochMilli());
+            }
+            lastPull = now;
+            repository.deleteNotUpdatedSince(
+                    now.minus(properties.getFailureWindow()).minus(properties.getMaxLockout()));
+        } catch (RuntimeException e) {
+            reconcileFailures.increment();
+            log.warn("Could not pull login throttle state", e);
+        }
+    }
+
+    private void collect(long now, List<String> cleared, List<LoginThrottleState> changed) {
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                cleared.addAll(stripe.cleared);
+                stripe.cleared.clear();
+                for (Iterator<Map.Entry<String, Failures>> it = stripe.accounts.entrySet().iterator(); it.hasNext(); ) {
+                    Map.Entry<String, Failures> entry = it.next();
+                    Failures failures = entry.getValue();
+                    if (failures.dirty) {
+                        changed.add(new LoginThrottleState(entry.getKey(), failures.reset ? failures.count : failures.pending,
+                                Instant.ofEpochMilli(failures.lockedUntil), Instant.ofEpochMilli(failures.lastFailure),
+                                failures.reset));
+                        failures.pending = 0;
+                        failures.reset = false;
+                        failures.dirty = false;
+                    } else if (failures.inFlight == 0 && isExpired(failures, now)) {
+                        it.remove();
+                    }
+                }
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+    }
+
+    private void requeue(List<String> cleared, List<LoginThrottleState> changed) {
+        for (String email : cleared) {
+            Stripe stripe = stripe(email);
+            stripe.lock.lock();
+            try {
+                Failures failures = stripe.accounts.get(email);
+                if (failures != null) {
+                    failures.reset = true;
+                    failures.dirty = true;
+                } else {
+                    stripe.cleared.add(email);
+                }
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        for (LoginThrottleState state : changed) {
+            Stripe stripe = stripe(state.email());
+            stripe.lock.lock();
+            try {
+                Failures failures = stripe.accounts.get(state.email());
+                if (failures != null && !failures.reset) {
+                    failures.pending += state.reset() ? 0 : state.failures();
+                    failures.reset = state.reset();
+                    failures.dirty = true;
+                }
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+    }
+
+    private void apply(LoginThrottleState state, long now) {
+        Stripe stripe = stripe(state.email());
+        stripe.lock.lock();
+        try {
+            Failures failures = stripe.accounts.get(state.email());
+            if (failures == null) {
+                if (state.lockedUntil().toEpochMilli() <= now || stripe.accounts.size() >= stripeCapacity) {
+                    return;
+                }
+                failures = new Failures();
+                stripe.accounts.put(state.email(), failures);
+            }
+            failures.count = Math.max(failures.count, state.failures());
+            failures.lockedUntil = Math.max(failures.lockedUntil, state.lockedUntil().toEpochMilli());
+            failures.lastFailure = Math.max(failures.lastFailure, state.lastFailureAt().toEpochMilli());
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    private void run() {
+        long intervalNanos = properties.getReconcileInterval().toNanos();
+        while (running) {
+            LockSupport.parkNanos(this, intervalNanos);
+            reconcile();
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        if (properties.isEnabled()) {
+            reconciler = Thread.ofPlatform().name("login-throttle-reconciler").daemon(true).start(this::run);
+        }
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread current = reconciler;
+        if (current != null) {
+            LockSupport.unpark(current);
+            try {
+                current.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return 0;
+    }
+
+    private static final class Stripe {
+        final ReentrantLock lock = new ReentrantLock();
+        final Map<String, Failures> accounts = new HashMap<>();
+        // Accounts that logged in successfully since the last round, whose rows are to be deleted.
+        final Set<String> cleared = new HashSet<>();
+    }
+
+    // Guarded by the lock of its stripe.
+    private static final class Failures {
+        int count;
+        long lockedUntil;
+        long lastFailure;
+        // Failures not yet added to the database row, or the full count when the row is to be replaced.
+        int pending;
+        boolean reset;
+        boolean dirty;
+        // Attempts between acquire and release.
+        int inFlight;
+    }
+}
@@ -0,0 +1,26 @@
+package com.user.UserService.user.throttle;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "login-throttle")
+public class LoginThrottleProperties {
+    private boolean enabled = true;
+    /** Failed logins allowed before the account is locked out. */
+    private int freeAttempts = 5;
+    /** Lockout after the first failure past the free attempts; doubles with every further failure... */
+    private Duration initialLockout = Duration.ofSeconds(1);
+    /** ...up to this. */
+    private Duration maxLockout = Duration.ofMinutes(15);
+    /** Failures older than this stop counting once any lockout has run out. */
+    private Duration failureWindow = Duration.ofMinutes(15);
+    /** How often new local failures are pushed to the database and other replicas' changes pulled from it. */
+    private Duration reconcileInterval = Duration.ofSeconds(5);
+    /** Accounts tracked in memory; failures for further accounts are not throttled until entries expire. */
+    private int maxTrackedAccounts = 100_000;
+}
@@ -0,0 +1,108 @@
+package com.user.UserService.user.web.controller;
+
+import com.user.UserService.user.export.UserExportService;
+import com.user.UserService.user.importer.ImportFormat;
+import com.user.UserService.user.importer.UserImportProperties;
+import com.user.UserService.user.importer.UserImportReader;
+import com.user.UserService.user.importer.UserImportService;
+import com.user.UserService.user.service.UserDirectoryService;
+import com.user.UserService.user.web.dto.ErrorResponse;
+import com.user.UserService.user.web.dto.UserPageResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+
+@RestController
+@RequestMapping("/admin/users")
+@RequiredArgsConstructor
+@Tag(name = "Admin", description = "Administrative user management")
+@SecurityRequirement(name = "bearerAuth")
+public class AdminUserController {
+
+    private final UserImportService userImportService;
+    private final UserImportProperties userImportProperties;
+    private final UserDirectoryService userDirectoryService;
+    private final UserExportService userExportService;
+
+    @Operation(summary = "List users",
+            description = "Lists users newest first using keyset pagination. Pass nextCursor from the previous page "
+                    + "as cursor to continue. Searching matches email and full name")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Page of users returned"),
+            @ApiResponse(responseCode = "400", description = "Invalid filter, limit or cursor", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "401", description = "Not authenticated", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "403", description = "Caller is not an administrator", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping
+    public ResponseEntity<UserPageResponse> listUsers(
+            @Parameter(description = "Search term (at least 3 characters) matched against email and full name")
+            @RequestParam(required = false) String q,
+            @Parameter(description = "PREFIX or CONTAINS (default)") @RequestParam(required = false) String match,
+            @Parameter(description = "Only users holding this role") @RequestParam(required = false) String role,
+            @Parameter(description = "true for deleted users only, false for active users only; omit for both")
+            @RequestParam(required = false) Boolean deleted,
+            @Parameter(description = "nextCursor of the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size, 1-200 (default 50)") @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(userDirectoryService.listUsers(q, match, role, deleted, cursor, limit));
+    }
+
+    @Operation(summary = "Bulk import users",
+            description = "Imports users from NDJSON or CSV (with header). Each row carries either a plain password, "
+                    + "validated against the password policy and hashed server-side, or an existing BCrypt passwordHash. "
+                    + "Streams one NDJSON result per row followed by a summary line with throughput in users/sec")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Import processed; per-row results are streamed"),
+            @ApiResponse(responseCode = "400", description = "Malformed CSV header", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "401", description = "Not authenticated", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "403", description = "Caller is not an administrator", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @PostMapping(value = "/import",
+            consumes = {ImportFormat.NDJSON_VALUE, ImportFormat.CSV_VALUE},
+            produces = ImportFormat.NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> importUsers(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            HttpServletRequest request) throws IOException {
+        UserImportReader reader = userImportService.open(request.getInputStream(), ImportFormat.of(contentType));
+        // Imports may outlast the timeout shared by other streamed responses.
+        WebAsyncUtils.getAsyncManager(request).getAsyncWebRequest()
+                .setTimeout(userImportProperties.getTimeout().toMillis());
+        StreamingResponseBody body = output -> userImportService.importUsers(reader, output);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(ImportFormat.NDJSON_VALUE))
+                .body(body);
+    }
+
+    @Operation(summary = "Export users and sessions",
+            description = "Streams every user followed by every device session as NDJSON; each line carries a type "
+                    + "of user or session. Password hashes are never exported")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Export streamed"),
+            @ApiResponse(responseCode = "401", description = "Not authenticated", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "403", description = "Caller is not an administrator", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping(value = "/export", produces = ImportFormat.NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportUsers() {
+        StreamingResponseBody body = userExportService::export;
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(ImportFormat.NDJSON_VALUE))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename("users.ndjson").build().toString())
+                .body(body);
+    }
+}
@@ -1,5 +1,9 @@
 package com.user.UserService.user.web.controller;
 
+import com.user.UserService.security.client.ClientContext;
+import com.user.UserService.user.domain.value.Email;
+import com.user.UserService.user.idempotency.IdempotencyStore;
+import com.user.UserService.user.idempotency.IdempotentOperation;
 import com.user.UserService.user.service.AuthService;
 import com.user.UserService.user.web.dto.ErrorResponse;
 import com.user.UserService.user.web.dto.LoginRequest;
@@ -7,18 +11,19 @@ import com.user.UserService.user.web.dto.RefreshRequest;
 import com.user.UserService.user.web.dto.RegisterRequest;
 import com.user.UserService.user.web.dto.TokenResponse;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -29,65 +34,71 @@ import org.springframework.web.bind.annotation.RestController;
 public class AuthController {
 
     private final AuthService authService;
+    private final IdempotencyStore idempotencyStore;
 
     @Operation(summary = "Register a new user", description = "Creates a new user account and returns access and refresh tokens")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "User registered successfully"),
             @ApiResponse(responseCode = "400", description = "Invalid input or weak password", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
-            @ApiResponse(responseCode = "409", description = "Email already in use", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+            @ApiResponse(responseCode = "409", description = "Email already in use, or a request with the same Idempotency-Key is still in progress", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "422", description = "Idempotency-Key was used for a different request", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
     @PostMapping("/register")
     public ResponseEntity<TokenResponse> register(
             @Valid @RequestBody RegisterRequest request,
-            HttpServletRequest httpRequest) {
-        String ipAddress = extractIpAddress(httpRequest);
-        String userAgent = httpRequest.getHeader("User-Agent");
-
-        TokenResponse response = authService.register(request, ipAddress, userAgent);
+            @Parameter(description = "Retries with the same key within a few minutes get the original response")
+            @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey,
+            @Parameter(hidden = true) ClientContext client) {
+        TokenResponse response = idempotencyStore.execute(IdempotentOperation.REGISTER, idempotencyKey,
+                () -> authService.register(request, client),
+                request.email(), request.password(), request.fullName());
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
     @Operation(summary = "Login user", description = "Authenticates a user and returns access and refresh tokens")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Login successful"),
-            @ApiResponse(responseCode = "401", description = "Invalid credentials", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+            @ApiResponse(responseCode = "401", description = "Invalid credentials", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "409", description = "A request with the same Idempotency-Key is still in progress", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "422", description = "Idempotency-Key was used for a different request", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "429", description = "Account locked out after repeated failures", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
     @PostMapping("/login")
     public ResponseEntity<TokenResponse> login(
             @Valid @RequestBody LoginRequest request,
-            HttpServletRequest httpRequest) {
-        String ipAddress = extractIpAddress(httpRequest);
-        String userAgent = httpRequest.getHeader("User-Agent");
-
-        TokenResponse response = authService.login(request, ipAddress, userAgent);
-        return ResponseEntity.ok(response);
+            @Parameter(description = "Retries with the same key within a few minutes get the original response")
+            @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey,
+            @Parameter(hidden = true) ClientContext client) {
+        // Checked before replays too, so a stored response cannot be used to log in to a locked-out account,
+        // and before the service opens a transaction, so a locked-out account costs no database work.
+        String email = Email.of(request.email()).getValue();
+        authService.acquireLoginAttempt(email, client);
+        try {
+            TokenResponse response = idempotencyStore.execute(IdempotentOperation.LOGIN, idempotencyKey,
+                    () -> authService.login(request, client),
+                    request.email(), request.password());
+            return ResponseEntity.ok(response);
+        } finally {
+            authService.releaseLoginAttempt(email);
+        }
     }
 
     @Operation(summary = "Refresh tokens", description = "Exchanges a valid refresh token for new access and refresh tokens")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Tokens refreshed successfully"),
-            @ApiResponse(responseCode = "401", description = "Invalid, expired, or revoked token", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+            @ApiResponse(responseCode = "401", description = "Invalid, expired, or revoked token", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "409", description = "A request with the same Idempotency-Key is still in progress", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "422", description = "Idempotency-Key was used for a different request", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
     @PostMapping("/refresh")
     public ResponseEntity<TokenResponse> refresh(
             @Valid @RequestBody RefreshRequest request,
-            HttpServletRequest httpRequest) {
-        String ipAddress = extractIpAddress(httpRequest);
-        String userAgent = httpRequest.getHeader("User-Agent");
-
-        TokenResponse response = authService.refresh(request.refreshToken(), ipAddress, userAgent);
+            @Parameter(description = "Retries with the same key within a few minutes get the original response")
+            @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey,
+            @Parameter(hidden = true) ClientContext client) {
+        TokenResponse response = idempotencyStore.execute(IdempotentOperation.REFRESH, idempotencyKey,
+                () -> authService.refresh(request.refreshToken(), client),
+                request.refreshToken());
         return ResponseEntity.ok(response);
     }
-
-    private String extractIpAddress(HttpServletRequest request) {
-        String xForwardedFor = request.getHeader("X-Forwarded-For");
-        if (xForwardedFor != null && !xForwardedFor.isEmpty()) {
-            return xForwardedFor.split(",")[0].trim();
-        }
-        String xRealIp = request.getHeader("X-Real-IP");
-        if (xRealIp != null && !xRealIp.isEmpty()) {
-            return xRealIp;
-        }
-        return request.getRemoteAddr();
-    }
 }
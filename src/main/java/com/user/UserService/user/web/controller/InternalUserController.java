@@ -0,0 +1,46 @@
+package com.user.UserService.user.web.controller;
+
+import com.user.UserService.user.service.UserBatchLookupService;
+import com.user.UserService.user.web.dto.BatchGetUsersRequest;
+import com.user.UserService.user.web.dto.BatchGetUsersResponse;
+import com.user.UserService.user.web.dto.ErrorResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/internal")
+@RequiredArgsConstructor
+@Tag(name = "Internal", description = "Endpoints for other internal services")
+@SecurityRequirement(name = "bearerAuth")
+public class InternalUserController {
+
+    private final UserBatchLookupService userBatchLookupService;
+
+    @Operation(summary = "Batch get users",
+            description = "Returns the users with the given ids (up to 1000) in one call. Ids that are unknown or "
+                    + "belong to deleted users are listed under missing instead of failing the batch")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Users found", content = @Content(schema = @Schema(implementation = BatchGetUsersResponse.class))),
+            @ApiResponse(responseCode = "400", description = "No ids, more than 1000 ids or a malformed id", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "401", description = "Not authenticated", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "403", description = "Caller is not a service account", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @PostMapping(value = "/users:batchGet", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> batchGetUsers(@Valid @RequestBody BatchGetUsersRequest request) {
+        StreamingResponseBody body = output -> userBatchLookupService.batchGet(request.ids(), output);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+}
@@ -1,10 +1,18 @@
 package com.user.UserService.user.web.controller;
 
+import com.user.UserService.common.ETags;
 import com.user.UserService.security.CurrentUser;
+import com.user.UserService.security.TokenClaims;
+import com.user.UserService.user.cache.UserProfileSnapshot;
+import com.user.UserService.user.repository.DeviceSessionsVersion;
+import com.user.UserService.user.service.LoginHistoryService;
 import com.user.UserService.user.service.UserService;
+import com.user.UserService.user.service.UserService.ActiveSessions;
 import com.user.UserService.user.web.dto.DeviceSessionResponse;
 import com.user.UserService.user.web.dto.ErrorResponse;
+import com.user.UserService.user.web.dto.LoginHistoryResponse;
 import com.user.UserService.user.web.dto.UserResponse;
+import com.user.UserService.user.web.mapper.UserMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -14,6 +22,9 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -27,31 +38,73 @@ import java.util.UUID;
 @SecurityRequirement(name = "bearerAuth")
 public class UserController {
 
+    private static final CacheControl PRIVATE_REVALIDATE = CacheControl.noCache().cachePrivate();
+
     private final UserService userService;
+    private final UserMapper userMapper;
+    private final LoginHistoryService loginHistoryService;
 
     @Operation(summary = "Get current user", description = "Returns the profile of the authenticated user")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "User profile retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "Profile unchanged since the ETag sent in If-None-Match"),
             @ApiResponse(responseCode = "401", description = "Not authenticated", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "404", description = "User not found", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
     @GetMapping("/me")
     public ResponseEntity<UserResponse> getCurrentUser(
-            @Parameter(hidden = true) @CurrentUser UUID userId) {
-        UserResponse response = userService.getCurrentUser(userId);
-        return ResponseEntity.ok(response);
+            @Parameter(hidden = true) @CurrentUser UUID userId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        UserProfileSnapshot snapshot = userService.getCurrentUser(userId);
+        String eTag = ETags.of(userId, 0, snapshot.updatedAt());
+        if (ETags.matches(ifNoneMatch, eTag)) {
+            return notModified(eTag);
+        }
+
+        return ResponseEntity.ok()
+                .cacheControl(PRIVATE_REVALIDATE)
+                .eTag(eTag)
+                .body(snapshot.profile());
+    }
+
+    @Operation(summary = "Get current user from token claims",
+            description = "Returns the identity carried by the access token without touching the database. "
+                    + "fullName and createdAt are only present when the token was minted with those optional claims")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Claims-backed profile returned"),
+            @ApiResponse(responseCode = "401", description = "Not authenticated", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/me/claims")
+    public ResponseEntity<UserResponse> getCurrentUserClaims(
+            @Parameter(hidden = true) @CurrentUser TokenClaims claims) {
+        return ResponseEntity.ok(userMapper.toResponse(claims));
     }
 
     @Operation(summary = "Get active sessions", description = "Returns all active device sessions for the authenticated user")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Sessions retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "Sessions unchanged since the ETag sent in If-None-Match"),
             @ApiResponse(responseCode = "401", description = "Not authenticated", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
     @GetMapping("/me/sessions")
     public ResponseEntity<List<DeviceSessionResponse>> getActiveSessions(
-            @Parameter(hidden = true) @CurrentUser UUID userId) {
-        List<DeviceSessionResponse> sessions = userService.getActiveSessions(userId);
-        return ResponseEntity.ok(sessions);
+            @Parameter(hidden = true) @CurrentUser UUID userId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        ActiveSessions active = userService.getActiveSessions(userId,
+                version -> ETags.matches(ifNoneMatch, sessionsETag(userId, version)));
+        String eTag = sessionsETag(userId, active.version());
+        if (active.sessions() == null) {
+            return notModified(eTag);
+        }
+
+        return ResponseEntity.ok()
+                .cacheControl(PRIVATE_REVALIDATE)
+                .eTag(eTag)
+                .body(active.sessions());
+    }
+
+    private static String sessionsETag(UUID userId, DeviceSessionsVersion version) {
+        return ETags.of(userId, version.sessionCount(), version.lastUpdatedAt());
     }
 
     @Operation(summary = "Revoke session", description = "Revokes a specific device session")
@@ -67,4 +120,29 @@ public class UserController {
         userService.revokeSession(userId, sessionId);
         return ResponseEntity.noContent().build();
     }
+
+    @Operation(summary = "Get login history",
+            description = "Returns the authenticated user's successful and failed login attempts, newest first. "
+                    + "Pass nextCursor from the previous page as cursor to continue")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Page of login attempts returned"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or limit", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "401", description = "Not authenticated", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/me/logins")
+    public ResponseEntity<LoginHistoryResponse> getLoginHistory(
+            @Parameter(hidden = true) @CurrentUser UUID userId,
+            @Parameter(description = "nextCursor of the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size, 1-100 (default 20)") @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .body(loginHistoryService.getLoginHistory(userId, cursor, limit));
+    }
+
+    private static <T> ResponseEntity<T> notModified(String eTag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .cacheControl(PRIVATE_REVALIDATE)
+                .eTag(eTag)
+                .build();
+    }
 }
@@ -0,0 +1,15 @@
+package com.user.UserService.user.web.dto;
+
+import java.time.Instant;
+import java.util.Set;
+import java.util.UUID;
+
+public record AdminUserResponse(
+        UUID id,
+        String email,
+        String fullName,
+        Set<String> roles,
+        Instant createdAt,
+        Instant deletedAt
+) {
+}
@@ -0,0 +1,15 @@
+package com.user.UserService.user.web.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+import java.util.UUID;
+
+public record BatchGetUsersRequest(
+        @NotEmpty(message = "ids is required")
+        @Size(max = 1000, message = "At most 1000 ids per request")
+        List<@NotNull(message = "ids must not contain null") UUID> ids
+) {
+}
@@ -0,0 +1,13 @@
+package com.user.UserService.user.web.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Users found for a batch lookup; {@code missing} lists the requested ids that are unknown or deleted.
+ */
+public record BatchGetUsersResponse(
+        List<UserResponse> users,
+        List<UUID> missing
+) {
+}
@@ -0,0 +1,13 @@
+package com.user.UserService.user.web.dto;
+
+import java.time.Instant;
+
+public record LoginAttemptResponse(
+        Instant occurredAt,
+        boolean success,
+        String failureReason,
+        String ipAddress,
+        String deviceName,
+        String userAgent
+) {
+}
@@ -0,0 +1,12 @@
+package com.user.UserService.user.web.dto;
+
+import java.util.List;
+
+/**
+ * One page of the caller's login history, newest first; {@code nextCursor} is {@code null} on the last page.
+ */
+public record LoginHistoryResponse(
+        List<LoginAttemptResponse> logins,
+        String nextCursor
+) {
+}
@@ -0,0 +1,33 @@
+package com.user.UserService.user.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.UUID;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record UserImportResult(
+        long line,
+        Status status,
+        String email,
+        UUID id,
+        String error
+) {
+
+    public enum Status {
+        CREATED,
+        DUPLICATE,
+        INVALID
+    }
+
+    public static UserImportResult created(long line, String email, UUID id) {
+        return new UserImportResult(line, Status.CREATED, email, id, null);
+    }
+
+    public static UserImportResult duplicate(long line, String email) {
+        return new UserImportResult(line, Status.DUPLICATE, email, null, null);
+    }
+
+    public static UserImportResult invalid(long line, String email, String error) {
+        return new UserImportResult(line, Status.INVALID, email, null, error);
+    }
+}
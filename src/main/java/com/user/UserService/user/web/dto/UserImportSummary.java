@@ -0,0 +1,11 @@
+package com.user.UserService.user.web.dto;
+
+public record UserImportSummary(
+        long total,
+        long created,
+        long duplicates,
+        long invalid,
+        long elapsedMillis,
+        double usersPerSecond
+) {
+}
@@ -0,0 +1,12 @@
+package com.user.UserService.user.web.dto;
+
+import java.util.List;
+
+/**
+ * One page of the admin directory; {@code nextCursor} is {@code null} on the last page.
+ */
+public record UserPageResponse(
+        List<AdminUserResponse> users,
+        String nextCursor
+) {
+}
@@ -0,0 +1,171 @@
+package com.user.UserService.user.web.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.user.UserService.user.web.dto.DeviceSessionResponse;
+import com.user.UserService.user.web.dto.ErrorResponse;
+import com.user.UserService.user.web.dto.TokenResponse;
+import com.user.UserService.user.web.dto.UserResponse;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Hand-written serializers for the DTOs on the hottest endpoints (login, refresh, profile, sessions, errors).
+ * They write fields straight to the generator with pre-encoded names instead of going through bean
+ * introspection and per-property writers, and produce exactly what the reflective path produces under the
+ * application's Jackson settings: nulls included, instants as ISO-8601 strings unless
+ * {@code WRITE_DATES_AS_TIMESTAMPS} is enabled. Keep field order in step with the record components.
+ */
+public class DtoSerializerModule extends SimpleModule {
+
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString EMAIL = new SerializedString("email");
+    private static final SerializedString FULL_NAME = new SerializedString("fullName");
+    private static final SerializedString ROLES = new SerializedString("roles");
+    private static final SerializedString CREATED_AT = new SerializedString("createdAt");
+    private static final SerializedString ACCESS_TOKEN = new SerializedString("accessToken");
+    private static final SerializedString REFRESH_TOKEN = new SerializedString("refreshToken");
+    private static final SerializedString TOKEN_TYPE = new SerializedString("tokenType");
+    private static final SerializedString BEARER = new SerializedString("Bearer");
+    private static final SerializedString DEVICE_NAME = new SerializedString("deviceName");
+    private static final SerializedString OS = new SerializedString("os");
+    private static final SerializedString IP_ADDRESS = new SerializedString("ipAddress");
+    private static final SerializedString LAST_USED_AT = new SerializedString("lastUsedAt");
+    private static final SerializedString ERROR = new SerializedString("error");
+    private static final SerializedString CODE = new SerializedString("code");
+    private static final SerializedString STATUS = new SerializedString("status");
+
+    public DtoSerializerModule() {
+        super("DtoSerializerModule");
+        addSerializer(TokenResponse.class, new TokenResponseSerializer());
+        addSerializer(UserResponse.class, new UserResponseSerializer());
+        addSerializer(DeviceSessionResponse.class, new DeviceSessionResponseSerializer());
+        addSerializer(ErrorResponse.class, new ErrorResponseSerializer());
+    }
+
+    static final class TokenResponseSerializer extends StdSerializer<TokenResponse> {
+
+        TokenResponseSerializer() {
+            super(TokenResponse.class);
+        }
+
+        @Override
+        public void serialize(TokenResponse value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            writeString(gen, ACCESS_TOKEN, value.accessToken());
+            writeString(gen, REFRESH_TOKEN, value.refreshToken());
+            gen.writeFieldName(TOKEN_TYPE);
+            if ("Bearer".equals(value.tokenType())) {
+                gen.writeString(BEARER);
+            } else {
+                writeNullableString(gen, value.tokenType());
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    static final class UserResponseSerializer extends StdSerializer<UserResponse> {
+
+        UserResponseSerializer() {
+            super(UserResponse.class);
+        }
+
+        @Override
+        public void serialize(UserResponse value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            writeUuid(gen, ID, value.id());
+            writeString(gen, EMAIL, value.email());
+            writeString(gen, FULL_NAME, value.fullName());
+            writeStrings(gen, ROLES, value.roles());
+            writeInstant(gen, provider, CREATED_AT, value.createdAt());
+            gen.writeEndObject();
+        }
+    }
+
+    static final class DeviceSessionResponseSerializer extends StdSerializer<DeviceSessionResponse> {
+
+        DeviceSessionResponseSerializer() {
+            super(DeviceSessionResponse.class);
+        }
+
+        @Override
+        public void serialize(DeviceSessionResponse value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            writeUuid(gen, ID, value.id());
+            writeString(gen, DEVICE_NAME, value.deviceName());
+            writeString(gen, OS, value.os());
+            writeString(gen, IP_ADDRESS, value.ipAddress());
+            writeInstant(gen, provider, LAST_USED_AT, value.lastUsedAt());
+            writeInstant(gen, provider, CREATED_AT, value.createdAt());
+            gen.writeEndObject();
+        }
+    }
+
+    static final class ErrorResponseSerializer extends StdSerializer<ErrorResponse> {
+
+        ErrorResponseSerializer() {
+            super(ErrorResponse.class);
+        }
+
+        @Override
+        public void serialize(ErrorResponse value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            writeString(gen, ERROR, value.error());
+            writeString(gen, CODE, value.code());
+            gen.writeFieldName(STATUS);
+            gen.writeNumber(value.status());
+            gen.writeEndObject();
+        }
+    }
+
+    private static void writeString(JsonGenerator gen, SerializableString name, String value) throws IOException {
+        gen.writeFieldName(name);
+        writeNullableString(gen, value);
+    }
+
+    private static void writeNullableString(JsonGenerator gen, String value) throws IOException {
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeString(value);
+        }
+    }
+
+    private static void writeUuid(JsonGenerator gen, SerializableString name, UUID value) throws IOException {
+        gen.writeFieldName(name);
+        writeNullableString(gen, value != null ? value.toString() : null);
+    }
+
+    private static void writeStrings(JsonGenerator gen, SerializableString name, Collection<String> values) throws IOException {
+        gen.writeFieldName(name);
+        if (values == null) {
+            gen.writeNull();
+            return;
+        }
+        gen.writeStartArray(values, values.size());
+        for (String value : values) {
+            writeNullableString(gen, value);
+        }
+        gen.writeEndArray();
+    }
+
+    private static void writeInstant(JsonGenerator gen, SerializerProvider provider, SerializableString name,
+                                     Instant value) throws IOException {
+        gen.writeFieldName(name);
+        if (value == null) {
+            gen.writeNull();
+        } else if (provider.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)) {
+            provider.defaultSerializeValue(value, gen);
+        } else {
+            gen.writeString(value.toString());
+        }
+    }
+}
@@ -1,9 +1,14 @@
 package com.user.UserService.user.web.mapper;
 
+import com.user.UserService.security.TokenClaims;
 import com.user.UserService.user.domain.entity.DeviceSession;
 import com.user.UserService.user.domain.entity.User;
 import com.user.UserService.user.domain.value.Role;
+import com.user.UserService.user.repository.LoginAuditEntry;
+import com.user.UserService.user.repository.UserDirectoryEntry;
+import com.user.UserService.user.web.dto.AdminUserResponse;
 import com.user.UserService.user.web.dto.DeviceSessionResponse;
+import com.user.UserService.user.web.dto.LoginAttemptResponse;
 import com.user.UserService.user.web.dto.UserResponse;
 import org.springframework.stereotype.Component;
 
@@ -27,6 +32,45 @@ public class UserMapper {
         );
     }
 
+    public UserResponse toResponse(TokenClaims claims) {
+        return new UserResponse(
+                claims.userId(),
+                claims.email(),
+                claims.fullName(),
+                claims.roles(),
+                claims.createdAt()
+        );
+    }
+
+    public UserResponse toResponse(UserDirectoryEntry entry) {
+        Set<String> roles = Role.fromMask(entry.roleMask()).stream()
+                .map(Role::name)
+                .collect(Collectors.toSet());
+
+        return new UserResponse(
+                entry.id(),
+                entry.email(),
+                entry.fullName(),
+                roles,
+                entry.createdAt()
+        );
+    }
+
+    public AdminUserResponse toAdminResponse(UserDirectoryEntry entry) {
+        Set<String> roles = Role.fromMask(entry.roleMask()).stream()
+                .map(Role::name)
+                .collect(Collectors.toSet());
+
+        return new AdminUserResponse(
+                entry.id(),
+                entry.email(),
+                entry.fullName(),
+                roles,
+                entry.createdAt(),
+                entry.deletedAt()
+        );
+    }
+
     public DeviceSessionResponse toDeviceSessionResponse(DeviceSession session) {
         return new DeviceSessionResponse(
                 session.getId(),
@@ -37,5 +81,15 @@ public class UserMapper {
                 session.getCreatedAt()
         );
     }
-}
 
+    public LoginAttemptResponse toLoginAttemptResponse(LoginAuditEntry entry) {
+        return new LoginAttemptResponse(
+                entry.occurredAt(),
+                entry.success(),
+                entry.failureReason(),
+                entry.ipAddress(),
+                entry.deviceName(),
+                entry.userAgent()
+        );
+    }
+}
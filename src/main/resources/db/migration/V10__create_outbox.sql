@@ -0,0 +1,13 @@
+-- Transactional outbox: lifecycle events written with the change that caused them, relayed and deleted afterwards.
+CREATE TABLE outbox (
+    id UUID PRIMARY KEY,
+    aggregate_id UUID NOT NULL,
+    event_type VARCHAR(100) NOT NULL,
+    payload TEXT NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    available_at TIMESTAMP NOT NULL,
+    attempts INT NOT NULL DEFAULT 0
+);
+
+-- The relay claims the oldest available rows first.
+CREATE INDEX idx_outbox_available ON outbox (available_at, id);
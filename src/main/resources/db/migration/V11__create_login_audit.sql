@@ -0,0 +1,15 @@
+-- Append-only history of login attempts. user_id is null when the attempted email matched no user.
+CREATE TABLE login_audit (
+    id UUID PRIMARY KEY,
+    user_id UUID,
+    email VARCHAR(255) NOT NULL,
+    occurred_at TIMESTAMP NOT NULL,
+    ip_address VARCHAR(45),
+    user_agent VARCHAR(500),
+    device_name VARCHAR(100),
+    success BOOLEAN NOT NULL,
+    failure_reason VARCHAR(50)
+);
+
+-- Serves GET /users/me/logins: one user's attempts, newest first, keyset on (occurred_at, id).
+CREATE INDEX idx_login_audit_user_occurred ON login_audit (user_id, occurred_at DESC, id DESC);
@@ -0,0 +1,12 @@
+-- Failed-login counters shared between replicas. Each replica throttles from memory and periodically adds
+-- its new failures here and pulls rows other replicas changed. A row is deleted after a successful login.
+CREATE TABLE login_throttle (
+    email VARCHAR(255) PRIMARY KEY,
+    failures INTEGER NOT NULL,
+    locked_until TIMESTAMP NOT NULL,
+    last_failure_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL
+);
+
+-- Serves the pull of recently changed rows and the pruning of stale ones.
+CREATE INDEX idx_login_throttle_updated ON login_throttle (updated_at);
@@ -0,0 +1,11 @@
+-- Responses of auth requests sent with an Idempotency-Key, shared between replicas so that a retry landing on
+-- another replica is replayed too. Keys are stored as an HMAC and responses as AES-GCM ciphertext under a key
+-- derived from the request, so the table never holds usable tokens.
+CREATE TABLE idempotency_keys (
+    key_hash VARCHAR(64) PRIMARY KEY,
+    response BYTEA NOT NULL,
+    expires_at TIMESTAMP NOT NULL
+);
+
+-- Serves the pruning of expired rows.
+CREATE INDEX idx_idempotency_keys_expires ON idempotency_keys (expires_at);
@@ -0,0 +1,10 @@
+-- Role bits must match Role.mask(): USER = 1, ADMIN = 2.
+ALTER TABLE users ADD COLUMN roles INTEGER NOT NULL DEFAULT 0;
+
+UPDATE users SET roles = (
+    SELECT COALESCE(SUM(DISTINCT CASE ur.role WHEN 'USER' THEN 1 WHEN 'ADMIN' THEN 2 ELSE 0 END), 0)
+    FROM user_roles ur
+    WHERE ur.user_id = users.id
+);
+
+DROP TABLE user_roles;
@@ -0,0 +1,4 @@
+-- Covering indexes for the ETag version probes, so conditional GETs are answered by index-only scans.
+CREATE INDEX idx_users_version ON users (id, updated_at, deleted_at);
+
+CREATE INDEX idx_device_sessions_user_updated ON device_sessions (user_id, updated_at);
@@ -0,0 +1,2 @@
+-- Keyset pagination for the admin directory walks users newest first on (created_at, id).
+CREATE INDEX idx_users_created_id ON users (created_at DESC, id DESC);
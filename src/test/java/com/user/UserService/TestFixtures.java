@@ -1,9 +1,9 @@
 package com.user.UserService;
 
+import com.user.UserService.security.client.ClientContext;
 import com.user.UserService.user.domain.entity.DeviceSession;
 import com.user.UserService.user.domain.entity.RefreshToken;
 import com.user.UserService.user.domain.entity.User;
-import com.user.UserService.user.domain.entity.UserRole;
 import com.user.UserService.user.domain.value.Role;
 import com.user.UserService.user.web.dto.LoginRequest;
 import com.user.UserService.user.web.dto.RegisterRequest;
@@ -51,20 +51,11 @@ public class TestFixtures {
             user.addRole(Role.ADMIN);
             return user;
         }
-    }
-    
-    public static class UserRoles {
-        
-        public static UserRole createUserRole(User user, Role role) {
-            return UserRole.builder()
-                    .id(UUID.randomUUID())
-                    .user(user)
-                    .role(role)
-                    .build();
-        }
-        
-        public static UserRole createUserRole(User user) {
-            return createUserRole(user, Role.USER);
+
+        public static User createServiceUser() {
+            User user = createUser("directory-client@services.internal", "Directory Client");
+            user.addRole(Role.SERVICE);
+            return user;
         }
     }
     
@@ -167,5 +158,6 @@ public class TestFixtures {
         public static final String OS = "Windows 10";
         public static final String IP_ADDRESS = "192.168.1.100";
         public static final String USER_AGENT = "Mozilla/5.0 (Windows NT 10.0; Win64; x64)";
+        public static final ClientContext CLIENT = ClientContext.of(IP_ADDRESS, USER_AGENT);
     }
 }
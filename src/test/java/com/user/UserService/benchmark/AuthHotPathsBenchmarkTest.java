@@ -0,0 +1,78 @@
+package com.user.UserService.benchmark;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * Runs the authentication hot paths under JMH with the GC profiler, which reports allocated bytes per operation
+ * ({@code gc.alloc.rate.norm}) next to the average time: {@link AuthTokenBenchmark},
+ * {@link SecurityFilterChainBenchmark} and {@link RegisterValidationBenchmark}. The whole set runs once per
+ * thread count, by default 1, 2, 4, ... up to the available processors, and each run writes its results as JSON
+ * to {@code jmh.result.dir} ({@code target/jmh}), named {@code auth-hot-paths-<threads>t.json} so that runs of
+ * two builds can be diffed file by file.
+ * Excluded from the default build; run with {@code mvn test -Pbenchmark -Dtest=AuthHotPathsBenchmarkTest}.
+ * Forks: {@code -Djmh.forks=2}; thread counts: {@code -Djmh.threads=1,8}; benchmarks: {@code -Djmh.include=Token}.
+ */
+@Tag("benchmark")
+class AuthHotPathsBenchmarkTest {
+
+    @Test
+    void runAuthHotPathBenchmarks() throws RunnerException, IOException {
+        Path resultDir = Path.of(System.getProperty("jmh.result.dir", "target/jmh"));
+        Files.createDirectories(resultDir);
+        String include = System.getProperty("jmh.include");
+
+        for (int threads : threadCounts()) {
+            OptionsBuilder options = new OptionsBuilder();
+            if (include != null) {
+                options.include(include);
+            } else {
+                options.include(AuthTokenBenchmark.class.getName())
+                        .include(SecurityFilterChainBenchmark.class.getName())
+                        .include(RegisterValidationBenchmark.class.getName());
+            }
+            Options built = options
+                    // The regex baseline of the validation benchmark is history, not a path to guard.
+                    .param("validation", "single-pass")
+                    .forks(Integer.getInteger("jmh.forks", 1))
+                    .threads(threads)
+                    .warmupIterations(3)
+                    .warmupTime(TimeValue.seconds(1))
+                    .measurementIterations(5)
+                    .measurementTime(TimeValue.seconds(1))
+                    .addProfiler(GCProfiler.class)
+                    .resultFormat(ResultFormatType.JSON)
+                    .result(resultDir.resolve("auth-hot-paths-" + threads + "t.json").toString())
+                    .build();
+            new Runner(built).run();
+        }
+    }
+
+    private static List<Integer> threadCounts() {
+        String configured = System.getProperty("jmh.threads");
+        if (configured != null) {
+            return Arrays.stream(configured.split(",")).map(String::trim).map(Integer::valueOf).toList();
+        }
+        int processors = Runtime.getRuntime().availableProcessors();
+        TreeSet<Integer> counts = new TreeSet<>();
+        for (int threads = 1; threads < processors; threads <<= 1) {
+            counts.add(threads);
+        }
+        counts.add(processors);
+        return List.copyOf(counts);
+    }
+}
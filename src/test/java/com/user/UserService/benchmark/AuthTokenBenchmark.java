@@ -0,0 +1,81 @@
+package com.user.UserService.benchmark;
+
+import com.user.UserService.TestFixtures;
+import com.user.UserService.security.JwtProperties;
+import com.user.UserService.user.domain.entity.User;
+import com.user.UserService.user.domain.service.RefreshTokenHasher;
+import com.user.UserService.user.domain.service.TokenGenerator;
+import com.user.UserService.user.web.dto.UserResponse;
+import com.user.UserService.user.web.mapper.UserMapper;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CPU-bound steps of login, refresh and every authenticated request: minting the access and refresh tokens,
+ * verifying an access token the way {@code JwtAuthenticationFilter} does, hashing a refresh token for lookup,
+ * and mapping a user to its response. Launched by {@link AuthHotPathsBenchmarkTest}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AuthTokenBenchmark {
+
+    private final UserMapper userMapper = new UserMapper();
+    private TokenGenerator tokenGenerator;
+    private User user;
+    private String accessToken;
+    private String refreshToken;
+
+    @Setup
+    public void setUp() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret("ThisIsAVeryLongSecretKeyForJWTTokenGenerationThatShouldBeAtLeast256BitsLong");
+        tokenGenerator = new TokenGenerator(properties);
+        user = TestFixtures.Users.createAdminUser();
+        accessToken = tokenGenerator.generateAccessToken(user);
+        refreshToken = tokenGenerator.generateRefreshToken(user.getId());
+    }
+
+    @Benchmark
+    public String mintAccessToken() {
+        return tokenGenerator.generateAccessToken(user);
+    }
+
+    @Benchmark
+    public String mintRefreshToken() {
+        return tokenGenerator.generateRefreshToken(user.getId());
+    }
+
+    @Benchmark
+    public Claims verifyAccessToken() {
+        return tokenGenerator.parseToken(accessToken);
+    }
+
+    @Benchmark
+    public UUID verifyAccessTokenAsFilter() {
+        // The filter checks validity and then parses again for the claims.
+        if (!tokenGenerator.isTokenValid(accessToken)) {
+            throw new IllegalStateException("Benchmark token expired");
+        }
+        return UUID.fromString(tokenGenerator.parseToken(accessToken).getSubject());
+    }
+
+    @Benchmark
+    public String hashRefreshToken() {
+        return RefreshTokenHasher.hash(refreshToken);
+    }
+
+    @Benchmark
+    public UserResponse mapUser() {
+        return userMapper.toResponse(user);
+    }
+}
@@ -0,0 +1,69 @@
+package com.user.UserService.benchmark;
+
+import com.user.UserService.user.domain.service.BreachedPasswordFilter;
+import com.user.UserService.user.domain.service.BreachedPasswordFilterBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HexFormat;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lookup cost of the memory-mapped breached-password filter for a password that is absent, which is the
+ * common case at registration. The filter is built from random hashes in a temporary directory. Launched by
+ * {@link RegisterValidationBenchmarkTest}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BreachedPasswordFilterBenchmark {
+
+    @Param({"1000000"})
+    public int entries;
+
+    private Path directory;
+    private BreachedPasswordFilter filter;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("breached-benchmark");
+        Path corpus = directory.resolve("corpus.txt");
+        Random random = new Random(49);
+        HexFormat hex = HexFormat.of().withUpperCase();
+        byte[] digest = new byte[20];
+        try (BufferedWriter writer = Files.newBufferedWriter(corpus)) {
+            for (int i = 0; i < entries; i++) {
+                random.nextBytes(digest);
+                writer.write(hex.formatHex(digest));
+                writer.newLine();
+            }
+        }
+        filter = BreachedPasswordFilterBuilder.build(corpus, directory.resolve("breached.bloom"),
+                BreachedPasswordFilterBuilder.DEFAULT_FALSE_POSITIVE_RATE);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(directory.resolve("corpus.txt"));
+        Files.deleteIfExists(directory.resolve("breached.bloom"));
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public boolean absentPassword() {
+        return filter.mightContain("Un1que!Horse-Battery");
+    }
+}
@@ -0,0 +1,125 @@
+package com.user.UserService.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.user.UserService.UserServiceApplication;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * Measures the endpoints returning each hot DTO through the full MVC and security stack, once per serializer
+ * configuration. MockMvc runs every request on the calling thread, so that thread's allocation counter gives
+ * the bytes allocated per request. Excluded from the default build; run with {@code mvn test -Pbenchmark}.
+ * Requests per endpoint: {@code -Dbenchmark.requests=5000}.
+ */
+@Tag("benchmark")
+class DtoEndToEndBenchmarkTest {
+
+    private static final int REQUESTS = Integer.getInteger("benchmark.requests", 2_000);
+    private static final int WARMUP = 500;
+    private static final String PASSWORD = "Bench#Passw0rd";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Test
+    void compareSerializerConfigurations() throws Exception {
+        System.out.printf("%-12s %-22s %10s %10s %12s%n", "serializers", "dto", "p50 us", "p99 us", "bytes/req");
+        run("reflective", "json.blackbird=false", "json.specialized-serializers=false");
+        run("blackbird", "json.blackbird=true", "json.specialized-serializers=false");
+        run("specialized", "json.blackbird=true", "json.specialized-serializers=true");
+    }
+
+    private void run(String label, String... properties) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(UserServiceApplication.class)
+                .profiles("test")
+                .properties(properties)
+                // Arguments rather than default properties, which application-test.yaml would override.
+                .run("--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:dto-" + label + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE",
+                        "--logging.level.root=WARN",
+                        "--logging.level.com.user.UserService=WARN",
+                        "--logging.level.org.springframework.security=WARN",
+                        "--logging.level.org.hibernate.SQL=WARN")) {
+            MockMvc mockMvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) context)
+                    .apply(springSecurity())
+                    .build();
+
+            JsonNode tokens = body(mockMvc.perform(post("/auth/register")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("""
+                            {"email":"dto-bench@example.com","password":"%s","fullName":"Dto Bench"}""".formatted(PASSWORD)))
+                    .andReturn());
+            String bearer = "Bearer " + tokens.get("accessToken").asText();
+            String[] refreshToken = {tokens.get("refreshToken").asText()};
+
+            measure(label, "TokenResponse", mockMvc, 200, i -> post("/auth/refresh")
+                    .header("X-Forwarded-For", "10.1." + (i >>> 8 & 0xFF) + "." + (i & 0xFF))
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"refreshToken\":\"" + refreshToken[0] + "\"}"), result -> {
+                refreshToken[0] = body(result).get("refreshToken").asText();
+            });
+            measure(label, "UserResponse", mockMvc, 200, i -> get("/users/me").header("Authorization", bearer), null);
+            measure(label, "DeviceSessionResponse[]", mockMvc, 200,
+                    i -> get("/users/me/sessions").header("Authorization", bearer), null);
+            measure(label, "ErrorResponse", mockMvc, 400,
+                    i -> get("/users/me/logins?limit=0").header("Authorization", bearer), null);
+        }
+    }
+
+    private void measure(String label, String dto, MockMvc mockMvc, int expectedStatus,
+                         IntFunction<RequestBuilder> request, ResultHandler onResult) throws Exception {
+        for (int i = 0; i < WARMUP; i++) {
+            perform(mockMvc, request.apply(i), expectedStatus, onResult);
+        }
+
+        long[] latencies = new long[REQUESTS];
+        long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < REQUESTS; i++) {
+            long started = System.nanoTime();
+            perform(mockMvc, request.apply(WARMUP + i), expectedStatus, onResult);
+            latencies[i] = System.nanoTime() - started;
+        }
+        long allocated = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+
+        Arrays.sort(latencies);
+        System.out.printf("%-12s %-22s %10.1f %10.1f %12d%n", label, dto,
+                latencies[REQUESTS / 2] / 1e3, latencies[(int) (REQUESTS * 0.99)] / 1e3, allocated / REQUESTS);
+    }
+
+    private void perform(MockMvc mockMvc, RequestBuilder request, int expectedStatus, ResultHandler onResult)
+            throws Exception {
+        MvcResult result = mockMvc.perform(request).andReturn();
+        assertThat(result.getResponse().getStatus()).isEqualTo(expectedStatus);
+        if (onResult != null) {
+            onResult.handle(result);
+        }
+    }
+
+    private JsonNode body(MvcResult result) throws Exception {
+        return objectMapper.readTree(result.getResponse().getContentAsByteArray());
+    }
+
+    @FunctionalInterface
+    private interface ResultHandler {
+        void handle(MvcResult result) throws Exception;
+    }
+}
@@ -0,0 +1,61 @@
+package com.user.UserService.benchmark;
+
+import com.user.UserService.security.heavyhitter.HeavyHitterProperties;
+import com.user.UserService.security.heavyhitter.HeavyHitters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost the rate limiter pays to feed the heavy-hitter sketches: one client IP and one user agent.
+ * A quarter of the traffic comes from a single hot client, the rest is spread over 4k addresses, and the decay
+ * thread is not running. Keys are prebuilt, so their hash codes are cached; a fresh header string adds one
+ * pass over its characters. The four-thread variant only shows contention on a machine with four free cores.
+ * Launched by {@link HeavyHittersBenchmarkTest}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class HeavyHittersBenchmark {
+
+    private static final int KEYS = 1 << 12;
+    private static final String[] USER_AGENTS = {
+            "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 Chrome/126.0 Safari/537.36",
+            "Mozilla/5.0 (iPhone; CPU iPhone OS 17_0 like Mac OS X) Mobile/15E148",
+            "okhttp/4.12.0",
+            "python-requests/2.32.3"
+    };
+
+    private HeavyHitters heavyHitters;
+    private String[] clientIps;
+
+    @Setup
+    public void setUp() {
+        heavyHitters = new HeavyHitters(new HeavyHitterProperties());
+        clientIps = new String[KEYS];
+        for (int i = 0; i < KEYS; i++) {
+            clientIps[i] = i % 4 == 0 ? "203.0.113.7" : "10." + (i >>> 16 & 0xFF) + "." + (i >>> 8 & 0xFF) + "." + (i & 0xFF);
+        }
+    }
+
+    @Benchmark
+    public boolean recordAuthRequest() {
+        int i = ThreadLocalRandom.current().nextInt(KEYS);
+        return heavyHitters.recordAuthRequest(clientIps[i], USER_AGENTS[i & 3]);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean recordAuthRequestFourThreads() {
+        int i = ThreadLocalRandom.current().nextInt(KEYS);
+        return heavyHitters.recordAuthRequest(clientIps[i], USER_AGENTS[i & 3]);
+    }
+}
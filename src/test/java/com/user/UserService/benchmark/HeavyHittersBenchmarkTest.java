@@ -0,0 +1,34 @@
+package com.user.UserService.benchmark;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Runs {@link HeavyHittersBenchmark} under JMH with the GC profiler, which reports allocated bytes per operation
+ * ({@code gc.alloc.rate.norm}) next to the average time.
+ * Excluded from the default build; run with {@code mvn test -Pbenchmark -Dtest=HeavyHittersBenchmarkTest}.
+ * Forks: {@code -Djmh.forks=2}.
+ */
+@Tag("benchmark")
+class HeavyHittersBenchmarkTest {
+
+    @Test
+    void runHeavyHittersBenchmark() throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(HeavyHittersBenchmark.class.getName())
+                .forks(Integer.getInteger("jmh.forks", 1))
+                .warmupIterations(3)
+                .warmupTime(TimeValue.seconds(1))
+                .measurementIterations(5)
+                .measurementTime(TimeValue.seconds(1))
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
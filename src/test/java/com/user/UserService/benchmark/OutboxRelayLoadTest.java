@@ -0,0 +1,123 @@
+package com.user.UserService.benchmark;
+
+import com.user.UserService.UserServiceApplication;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Drives sustained logins against a running application and reports how fast the outbox relay keeps up:
+ * logins per second, messages relayed per second and the commit-to-acknowledge lag. Excluded from the default
+ * build; run with {@code mvn test -Pbenchmark}. Tune with {@code -Dbenchmark.duration=60} (seconds) and
+ * {@code -Dbenchmark.concurrency=64}.
+ */
+@Tag("benchmark")
+class OutboxRelayLoadTest {
+
+    private static final int DURATION_SECONDS = Integer.getInteger("benchmark.duration", 20);
+    private static final int CONCURRENCY = Integer.getInteger("benchmark.concurrency", 32);
+    private static final String PASSWORD = "Outbox#Passw0rd";
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void measureRelayThroughputAndLag() throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(UserServiceApplication.class)
+                .profiles("test")
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:outbox-load;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE",
+                        "outbox.sink.file=" + directory.resolve("outbox.ndjson"),
+                        "logging.level.root=WARN",
+                        "logging.level.com.user.UserService=WARN",
+                        "logging.level.org.springframework.security=WARN",
+                        "logging.level.org.hibernate.SQL=WARN")
+                .run();
+             HttpClient client = HttpClient.newBuilder().executor(Executors.newVirtualThreadPerTaskExecutor()).build();
+             ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            AtomicInteger clients = new AtomicInteger();
+            send(client, port, "/auth/register", clients, """
+                    {"email":"outbox-load@example.com","password":"%s","fullName":"Outbox Load"}""".formatted(PASSWORD));
+            String login = """
+                    {"email":"outbox-load@example.com","password":"%s"}""".formatted(PASSWORD);
+
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(DURATION_SECONDS);
+            List<Future<Integer>> workers = new ArrayList<>();
+            for (int i = 0; i < CONCURRENCY; i++) {
+                workers.add(callers.submit(() -> {
+                    int logins = 0;
+                    while (System.nanoTime() < deadline) {
+                        if (send(client, port, "/auth/login", clients, login) == 200) {
+                            logins++;
+                        }
+                    }
+                    return logins;
+                }));
+            }
+            int logins = 0;
+            for (Future<Integer> worker : workers) {
+                logins += worker.get();
+            }
+
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+            long drainStarted = System.nanoTime();
+            while (jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outbox", Integer.class) > 0
+                    && System.nanoTime() - drainStarted < TimeUnit.SECONDS.toNanos(60)) {
+                Thread.sleep(50);
+            }
+            double drainSeconds = (System.nanoTime() - drainStarted) / 1e9;
+
+            MeterRegistry meterRegistry = context.getBean(MeterRegistry.class);
+            double relayed = meterRegistry.get("outbox.relay.messages").counter().count();
+            Timer lag = meterRegistry.get("outbox.relay.lag").timer();
+            assertThat(relayed).isGreaterThan(logins);
+
+            System.out.printf("logins/sec %.0f, relayed/sec %.0f, drain after load %.2fs, lag mean %.1fms max %.1fms%n",
+                    logins / (double) DURATION_SECONDS,
+                    relayed / (DURATION_SECONDS + drainSeconds),
+                    drainSeconds,
+                    lag.mean(TimeUnit.MILLISECONDS),
+                    lag.max(TimeUnit.MILLISECONDS));
+            for (ValueAtPercentile percentile : lag.takeSnapshot().percentileValues()) {
+                System.out.printf("lag p%.0f %.1fms%n", percentile.percentile() * 100, percentile.value(TimeUnit.MILLISECONDS));
+            }
+        }
+    }
+
+    // Every call comes from a different address so the per-client rate limiter does not cap the load.
+    private static int send(HttpClient client, int port, String path, AtomicInteger clients, String body) throws Exception {
+        int n = clients.incrementAndGet();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .header("X-Forwarded-For", "10." + (n >>> 16 & 0xFF) + "." + (n >>> 8 & 0xFF) + "." + (n & 0xFF))
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+}
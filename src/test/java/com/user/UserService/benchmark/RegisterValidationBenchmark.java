@@ -0,0 +1,120 @@
+package com.user.UserService.benchmark;
+
+import com.user.UserService.common.InputSanitizer;
+import com.user.UserService.user.domain.exception.WeakPasswordException;
+import com.user.UserService.user.domain.service.PasswordPolicy;
+import com.user.UserService.user.domain.value.Email;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Validation cost of a register request (email, password policy, full name sanitizing) through the
+ * single-pass scanners, against the regex and {@code String.replace} implementation they replaced, which is
+ * kept here as a baseline. Launched by {@link RegisterValidationBenchmarkTest}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RegisterValidationBenchmark {
+
+    @Param({"regex", "single-pass"})
+    public String validation;
+
+    private final PasswordPolicy passwordPolicy = new PasswordPolicy();
+    private final InputSanitizer inputSanitizer = new InputSanitizer();
+
+    @Benchmark
+    public void normalizedRequest(Blackhole blackhole) {
+        validate("jane.doe@example.com", "Str0ng!Passw0rd", "Jane Doe", blackhole);
+    }
+
+    @Benchmark
+    public void unnormalizedRequest(Blackhole blackhole) {
+        validate("  Jane.Doe+News@Example.COM ", "Str0ng!Passw0rd", " Jane <b>\"JD\"</b> O'Doe ", blackhole);
+    }
+
+    @Benchmark
+    public void weakPassword(Blackhole blackhole) {
+        try {
+            validate("jane.doe@example.com", "password", "Jane Doe", blackhole);
+        } catch (WeakPasswordException e) {
+            blackhole.consume(e.getMessage());
+        }
+    }
+
+    private void validate(String email, String password, String fullName, Blackhole blackhole) {
+        if (validation.equals("regex")) {
+            blackhole.consume(RegexValidation.email(email));
+            RegexValidation.password(password);
+            blackhole.consume(RegexValidation.sanitize(fullName));
+        } else {
+            blackhole.consume(Email.of(email));
+            passwordPolicy.validate(password);
+            blackhole.consume(inputSanitizer.sanitizeAndLimit(fullName, 255));
+        }
+    }
+
+    private static final class RegexValidation {
+
+        private static final Pattern EMAIL = Pattern.compile("^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,}$");
+        private static final Pattern UPPERCASE = Pattern.compile("[A-Z]");
+        private static final Pattern LOWERCASE = Pattern.compile("[a-z]");
+        private static final Pattern DIGIT = Pattern.compile("[0-9]");
+        private static final Pattern SPECIAL = Pattern.compile("[!@#$%^&*()_+\\-=\\[\\]{};':\"\\\\|,.<>/?]");
+
+        static String email(String value) {
+            String normalized = value.trim().toLowerCase();
+            if (!EMAIL.matcher(normalized).matches()) {
+                throw new IllegalArgumentException("Invalid email format");
+            }
+            return normalized;
+        }
+
+        static void password(String password) {
+            List<String> violations = new ArrayList<>();
+            if (password.length() < 8) {
+                violations.add("Password must be at least 8 characters long");
+            }
+            if (password.length() > 128) {
+                violations.add("Password must be maximum 128 characters long");
+            }
+            if (!UPPERCASE.matcher(password).find()) {
+                violations.add("Password must contain at least one uppercase letter");
+            }
+            if (!LOWERCASE.matcher(password).find()) {
+                violations.add("Password must contain at least one lowercase letter");
+            }
+            if (!DIGIT.matcher(password).find()) {
+                violations.add("Password must contain at least one digit");
+            }
+            if (!SPECIAL.matcher(password).find()) {
+                violations.add("Password must contain at least one special character");
+            }
+            if (!violations.isEmpty()) {
+                throw new WeakPasswordException(String.join("; ", violations));
+            }
+        }
+
+        static String sanitize(String input) {
+            return input
+                    .replace("<", "&lt;")
+                    .replace(">", "&gt;")
+                    .replace("\"", "&quot;")
+                    .replace("'", "&#x27;")
+                    .replace("/", "&#x2F;")
+                    .replace("&", "&amp;")
+                    .trim();
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.user.UserService.benchmark;
+
+import com.user.UserService.TestFixtures;
+import com.user.UserService.UserServiceApplication;
+import com.user.UserService.user.domain.service.TokenGenerator;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One request through the application's Spring Security filter chain, as configured in {@code SecurityConfig}
+ * with the client context, security header, rate limiting and JWT filters, ending in a no-op servlet. The
+ * application runs on the test profile (H2), started once per fork. Each operation includes building the mock
+ * request and response. Launched by {@link AuthHotPathsBenchmarkTest}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SecurityFilterChainBenchmark {
+
+    private static final FilterChain SERVLET = (request, response) -> {
+    };
+
+    private ConfigurableApplicationContext context;
+    private Filter filterChain;
+    private String bearer;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        context = new SpringApplicationBuilder(UserServiceApplication.class)
+                .profiles("test")
+                // Arguments rather than default properties, which application-test.yaml would override.
+                .run("--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:filter-chain;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE",
+                        "--logging.level.root=WARN",
+                        "--logging.level.com.user.UserService=WARN",
+                        "--logging.level.org.springframework.security=WARN",
+                        "--logging.level.org.hibernate.SQL=WARN");
+        filterChain = context.getBean("springSecurityFilterChain", Filter.class);
+        bearer = "Bearer " + context.getBean(TokenGenerator.class)
+                .generateAccessToken(TestFixtures.Users.createAdminUser());
+        // A chain that stopped accepting the token would otherwise be measured as a cheap rejection.
+        int authenticated = authenticatedRequest();
+        int anonymous = anonymousRequestRejected();
+        if (authenticated != 200 || anonymous != 403) {
+            throw new IllegalStateException("Security filter chain does not take the benchmarked paths: authenticated "
+                    + authenticated + ", anonymous " + anonymous);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int authenticatedRequest() throws Exception {
+        MockHttpServletRequest request = request("GET", "/users/me");
+        request.addHeader("Authorization", bearer);
+        return run(request);
+    }
+
+    @Benchmark
+    public int anonymousRequestRejected() throws Exception {
+        return run(request("GET", "/users/me"));
+    }
+
+    @Benchmark
+    public int publicRequest() throws Exception {
+        return run(request("GET", "/actuator/health"));
+    }
+
+    @Benchmark
+    public int authRequestRateLimited() throws Exception {
+        // One client far over its /auth budget: the 429 path taken under credential stuffing.
+        MockHttpServletRequest request = request("POST", "/auth/login");
+        request.addHeader("X-Forwarded-For", "203.0.113.250");
+        request.addHeader("User-Agent", "python-requests/2.32.3");
+        return run(request);
+    }
+
+    private int run(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filterChain.doFilter(request, response, SERVLET);
+        return response.getStatus();
+    }
+
+    private static MockHttpServletRequest request(String method, String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        request.setRemoteAddr("10.0.0.5");
+        return request;
+    }
+}
@@ -0,0 +1,141 @@
+package com.user.UserService.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.user.UserService.UserServiceApplication;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Starts the application once on platform threads and once on virtual threads and compares the tail
+ * latency of authenticated {@code GET /users/me} calls under the same offered concurrency. Excluded from the
+ * default build; run with {@code mvn test -Pbenchmark}. Tune with {@code -Dbenchmark.concurrency=2000}
+ * and {@code -Dbenchmark.requests=50000}.
+ */
+@Tag("benchmark")
+class ThreadModelLoadTest {
+
+    private static final int CONCURRENCY = Integer.getInteger("benchmark.concurrency", 1_000);
+    private static final int REQUESTS = Integer.getInteger("benchmark.requests", 20_000);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void comparePlatformAndVirtualThreads() throws Exception {
+        Result platform = run(false);
+        Result virtual = run(true);
+
+        System.out.printf("%-9s %10s %10s %10s %10s %8s%n", "threads", "req/sec", "p50 ms", "p99 ms", "p999 ms", "errors");
+        platform.print("platform");
+        virtual.print("virtual");
+    }
+
+    private Result run(boolean virtualThreads) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(UserServiceApplication.class)
+                .profiles("test")
+                .properties(
+                        "server.port=0",
+                        "spring.threads.virtual.enabled=" + virtualThreads,
+                        "spring.datasource.url=jdbc:h2:mem:load-" + virtualThreads + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE",
+                        "logging.level.root=WARN",
+                        "logging.level.com.user.UserService=WARN",
+                        "logging.level.org.springframework.security=WARN",
+                        "logging.level.org.hibernate.SQL=WARN")
+                .run();
+             HttpClient client = HttpClient.newBuilder().executor(Executors.newVirtualThreadPerTaskExecutor()).build();
+             ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            String token = register(client, port, virtualThreads);
+            HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/users/me"))
+                    .header("Authorization", "Bearer " + token)
+                    .GET()
+                    .build();
+
+            // Warm up JIT and pools before measuring.
+            for (int i = 0; i < 500; i++) {
+                client.send(request, HttpResponse.BodyHandlers.discarding());
+            }
+
+            Semaphore inFlight = new Semaphore(CONCURRENCY);
+            List<Future<Long>> samples = new ArrayList<>(REQUESTS);
+            long started = System.nanoTime();
+            for (int i = 0; i < REQUESTS; i++) {
+                inFlight.acquire();
+                samples.add(callers.submit(() -> {
+                    try {
+                        long sent = System.nanoTime();
+                        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        return response.statusCode() == 200 ? System.nanoTime() - sent : -1L;
+                    } finally {
+                        inFlight.release();
+                    }
+                }));
+            }
+
+            long[] latencies = new long[REQUESTS];
+            int errors = 0;
+            int count = 0;
+            for (Future<Long> sample : samples) {
+                long latency = sample.get();
+                if (latency < 0) {
+                    errors++;
+                } else {
+                    latencies[count++] = latency;
+                }
+            }
+            long elapsed = System.nanoTime() - started;
+            assertThat(count).isPositive();
+
+            long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            return new Result(REQUESTS * 1e9 / elapsed, percentile(sorted, 0.50), percentile(sorted, 0.99),
+                    percentile(sorted, 0.999), errors);
+        }
+    }
+
+    private String register(HttpClient client, int port, boolean virtualThreads) throws Exception {
+        String body = objectMapper.writeValueAsString(new Registration(
+                "load-" + virtualThreads + "@example.com", "LoadTest#Passw0rd", "Load Test"));
+        HttpResponse<String> response = client.send(
+                HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/auth/register"))
+                        .header("Content-Type", "application/json")
+                        .header("X-Forwarded-For", virtualThreads ? "203.0.113.36" : "203.0.113.37")
+                        .POST(HttpRequest.BodyPublishers.ofString(body))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+        assertThat(response.statusCode()).isEqualTo(201);
+        JsonNode json = objectMapper.readTree(response.body());
+        return json.get("accessToken").asText();
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        int index = (int) Math.min(sorted.length - 1, Math.ceil(quantile * sorted.length) - 1);
+        return sorted[Math.max(0, index)] / 1e6;
+    }
+
+    private record Registration(String email, String password, String fullName) {
+    }
+
+    private record Result(double throughput, double p50, double p99, double p999, int errors) {
+        void print(String label) {
+            System.out.printf("%-9s %10.0f %10.2f %10.2f %10.2f %8d%n", label, throughput, p50, p99, p999, errors);
+        }
+    }
+}
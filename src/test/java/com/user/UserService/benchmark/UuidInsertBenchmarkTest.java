@@ -0,0 +1,104 @@
+package com.user.UserService.benchmark;
+
+import com.user.UserService.common.UuidV7;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Compares insert throughput, primary-key index size and WAL volume of random (v4) and
+ * time-ordered (v7) keys on a table shaped like refresh_tokens. Excluded from the default build;
+ * run with {@code mvn test -Pbenchmark} (Docker required). Row count: {@code -Dbenchmark.rows=2000000}.
+ */
+@Tag("benchmark")
+@Testcontainers(disabledWithoutDocker = true)
+class UuidInsertBenchmarkTest {
+
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 1_000_000);
+    private static final int BATCH_SIZE = 1_000;
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine")
+            .withCommand("postgres", "-c", "shared_buffers=128MB");
+
+    @Test
+    void compareRandomAndTimeOrderedKeys() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(
+                POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())) {
+            Result v4 = run(connection, "bench_uuid_v4", UUID::randomUUID);
+            Result v7 = run(connection, "bench_uuid_v7", UuidV7::generate);
+
+            System.out.printf("%-6s %12s %14s %14s%n", "keys", "rows/sec", "pk index MB", "WAL MB");
+            v4.print("v4");
+            v7.print("v7");
+        }
+    }
+
+    private static Result run(Connection connection, String table, Supplier<UUID> ids) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + table);
+            statement.execute("CREATE TABLE " + table + " (id UUID PRIMARY KEY, user_id UUID NOT NULL, "
+                    + "token_hash VARCHAR(255) NOT NULL, created_at TIMESTAMP NOT NULL)");
+            statement.execute("CHECKPOINT");
+        }
+
+        long walBefore = walPosition(connection);
+        long started = System.nanoTime();
+        connection.setAutoCommit(false);
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO " + table + " (id, user_id, token_hash, created_at) VALUES (?, ?, ?, ?)")) {
+            for (int i = 1; i <= ROWS; i++) {
+                insert.setObject(1, ids.get());
+                insert.setObject(2, UUID.randomUUID());
+                insert.setString(3, Long.toHexString(i));
+                insert.setTimestamp(4, Timestamp.from(Instant.now()));
+                insert.addBatch();
+                if (i % BATCH_SIZE == 0) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+            }
+            insert.executeBatch();
+            connection.commit();
+        } finally {
+            connection.setAutoCommit(true);
+        }
+        double seconds = (System.nanoTime() - started) / 1e9;
+        long walBytes = walPosition(connection) - walBefore;
+
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT pg_relation_size('" + table + "_pkey')")) {
+            rs.next();
+            return new Result(ROWS / seconds, rs.getLong(1), walBytes);
+        }
+    }
+
+    private static long walPosition(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT pg_current_wal_lsn() - '0/0'::pg_lsn")) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    private record Result(double rowsPerSecond, long indexBytes, long walBytes) {
+
+        void print(String label) {
+            System.out.printf("%-6s %12.0f %14.1f %14.1f%n",
+                    label, rowsPerSecond, indexBytes / 1048576.0, walBytes / 1048576.0);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.user.UserService.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ETagsTest {
+
+    private static final String TAG = "\"a1-0-5f\"";
+
+    @Test
+    void shouldMatchTagsInAListWeaklyOrAnyTag() {
+        assertThat(ETags.matches(TAG, TAG)).isTrue();
+        assertThat(ETags.matches("W/" + TAG, TAG)).isTrue();
+        assertThat(ETags.matches("\"other\", W/" + TAG, TAG)).isTrue();
+        assertThat(ETags.matches(" *", TAG)).isTrue();
+    }
+
+    @Test
+    void shouldNotSplitQuotedTagsOnCommas() {
+        // given: a tag containing a comma and the current tag's text
+        String ifNoneMatch = "\"x," + TAG.substring(1, TAG.length() - 1) + "\"";
+
+        // then
+        assertThat(ETags.matches(ifNoneMatch, TAG)).isFalse();
+        assertThat(ETags.matches("\"x,y\", " + TAG, TAG)).isTrue();
+    }
+
+    @Test
+    void shouldMatchNothingForMissingOrMalformedHeaders() {
+        assertThat(ETags.matches(null, TAG)).isFalse();
+        assertThat(ETags.matches("", TAG)).isFalse();
+        assertThat(ETags.matches("a1-0-5f", TAG)).isFalse();
+        assertThat(ETags.matches("\"a1-0-5f", TAG)).isFalse();
+        assertThat(ETags.matches("\"a1-0-5f\"x", TAG)).isFalse();
+    }
+
+    @Test
+    void shouldChangeTagWhenVersionChanges() {
+        UUID userId = UUID.randomUUID();
+        Instant updatedAt = Instant.parse("2024-05-01T10:00:00Z");
+
+        assertThat(ETags.of(userId, 0, updatedAt)).isEqualTo(ETags.of(userId, 0, updatedAt));
+        assertThat(ETags.of(userId, 0, updatedAt.plusNanos(1_000))).isNotEqualTo(ETags.of(userId, 0, updatedAt));
+        assertThat(ETags.of(userId, 1, updatedAt)).isNotEqualTo(ETags.of(userId, 0, updatedAt));
+    }
+}
@@ -0,0 +1,52 @@
+package com.user.UserService.common;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.user.UserService.user.domain.exception.InvalidCredentialsException;
+import com.user.UserService.user.domain.exception.InvalidTokenException;
+import com.user.UserService.user.web.dto.ErrorResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GlobalExceptionHandlerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void shouldServePrerenderedBodyForSharedInstance() throws Exception {
+        // given
+        GlobalExceptionHandler handler = new GlobalExceptionHandler(objectMapper);
+
+        // when
+        ResponseEntity<?> response = handler.handleInvalidCredentials(InvalidCredentialsException.INSTANCE);
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(response.getBody()).isEqualTo(objectMapper.writeValueAsBytes(
+                new ErrorResponse("Invalid email or password", "INVALID_CREDENTIALS", 401)));
+    }
+
+    @Test
+    void shouldRenderCustomMessagePerRequest() throws Exception {
+        // given
+        GlobalExceptionHandler handler = new GlobalExceptionHandler(objectMapper);
+
+        // when
+        ResponseEntity<?> response = handler.handleInvalidToken(new InvalidTokenException("JWT signature mismatch"));
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        assertThat(response.getBody())
+                .isEqualTo(new ErrorResponse("JWT signature mismatch", "INVALID_TOKEN", 401));
+    }
+
+    @Test
+    void shouldNotCaptureStackTraceForDomainExceptions() {
+        assertThat(new InvalidTokenException().getStackTrace()).isEmpty();
+        assertThat(InvalidCredentialsException.INSTANCE.getStackTrace()).isEmpty();
+    }
+}
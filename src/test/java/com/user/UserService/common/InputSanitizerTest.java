@@ -0,0 +1,37 @@
+package com.user.UserService.common;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InputSanitizerTest {
+
+    private final InputSanitizer inputSanitizer = new InputSanitizer();
+
+    @Test
+    void shouldEscapeEachCharacterExactlyOnce() {
+        // when
+        String sanitized = inputSanitizer.sanitize("<a href=\"/x\">Tom & Jerry's</a>");
+
+        // then
+        assertThat(sanitized)
+                .isEqualTo("&lt;a href=&quot;&#x2F;x&quot;&gt;Tom &amp; Jerry&#x27;s&lt;&#x2F;a&gt;");
+    }
+
+    @Test
+    void shouldTrimAndReturnPlainInputUnchanged() {
+        // given
+        String plain = "Jane Doe";
+
+        // then
+        assertThat(inputSanitizer.sanitize(plain)).isSameAs(plain);
+        assertThat(inputSanitizer.sanitize("  Jane Doe \t")).isEqualTo("Jane Doe");
+        assertThat(inputSanitizer.sanitize("  ")).isEqualTo("  ");
+        assertThat(inputSanitizer.sanitize(null)).isNull();
+    }
+
+    @Test
+    void shouldLimitSanitizedLength() {
+        assertThat(inputSanitizer.sanitizeAndLimit("  abcdef  ", 4)).isEqualTo("abcd");
+    }
+}
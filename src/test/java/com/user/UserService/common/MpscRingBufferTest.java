@@ -0,0 +1,96 @@
+package com.user.UserService.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+class MpscRingBufferTest {
+
+    @Test
+    void shouldRoundCapacityUpToPowerOfTwo() {
+        assertThat(new MpscRingBuffer<>(1000).capacity()).isEqualTo(1024);
+        assertThat(new MpscRingBuffer<>(8).capacity()).isEqualTo(8);
+    }
+
+    @Test
+    void shouldRejectOffersWhenFull() {
+        // Given
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(4);
+        for (int i = 0; i < 4; i++) {
+            assertThat(buffer.offer(i)).isTrue();
+        }
+
+        // When / Then
+        assertThat(buffer.offer(4)).isFalse();
+        assertThat(buffer.size()).isEqualTo(4);
+    }
+
+    @Test
+    void shouldDrainInOrderAndReuseSlots() {
+        // Given
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(4);
+        List<Integer> drained = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            buffer.offer(i);
+            buffer.offer(i + 100);
+            buffer.drain(drained::add, 2);
+        }
+
+        // Then
+        assertThat(drained).hasSize(20).startsWith(0, 100, 1, 101);
+        assertThat(buffer.isEmpty()).isTrue();
+    }
+
+    @Test
+    void shouldDeliverEveryElementFromConcurrentProducers() throws InterruptedException {
+        // Given
+        int producers = 8;
+        int perProducer = 20_000;
+        MpscRingBuffer<Long> buffer = new MpscRingBuffer<>(1024);
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        for (int p = 0; p < producers; p++) {
+            long producer = p;
+            executor.submit(() -> {
+                start.await();
+                for (long i = 0; i < perProducer; i++) {
+                    while (!buffer.offer(producer << 32 | i)) {
+                        Thread.onSpinWait();
+                    }
+                }
+                return null;
+            });
+        }
+
+        // When
+        long[] lastSeen = new long[producers];
+        Arrays.fill(lastSeen, -1);
+        int[] received = {0};
+        start.countDown();
+        while (received[0] < producers * perProducer) {
+            buffer.drain(value -> {
+                int producer = (int) (value >>> 32);
+                long sequence = value & 0xFFFF_FFFFL;
+                assertThat(sequence).isEqualTo(lastSeen[producer] + 1);
+                lastSeen[producer] = sequence;
+                received[0]++;
+            }, 256);
+        }
+        executor.shutdown();
+
+        // Then
+        assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(lastSeen).containsOnly(perProducer - 1L);
+        assertThat(buffer.isEmpty()).isTrue();
+    }
+}
@@ -0,0 +1,77 @@
+package com.user.UserService.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+class UuidV7Test {
+
+    @Test
+    void shouldSetVersionAndVariant() {
+        UUID uuid = UuidV7.generate();
+
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldEmbedCurrentUnixMillis() {
+        // given
+        long before = System.currentTimeMillis();
+
+        // when
+        UUID uuid = UuidV7.generate();
+
+        // then
+        long timestamp = uuid.getMostSignificantBits() >>> 16;
+        assertThat(timestamp).isBetween(before, System.currentTimeMillis() + 1);
+    }
+
+    @Test
+    void shouldIncreaseStrictlyWithinAMillisecond() {
+        // given
+        List<UUID> uuids = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < 10_000; i++) {
+            uuids.add(UuidV7.generate());
+        }
+
+        // then - string order is what the database index sees
+        List<String> sorted = new ArrayList<>(uuids.stream().map(UUID::toString).toList());
+        Collections.sort(sorted);
+        assertThat(uuids.stream().map(UUID::toString).toList()).containsExactlyElementsOf(sorted);
+        assertThat(Set.copyOf(uuids)).hasSize(uuids.size());
+    }
+
+    @Test
+    void shouldStayUniqueAcrossThreads() throws InterruptedException {
+        // given
+        Set<UUID> uuids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // when
+        for (int t = 0; t < 8; t++) {
+            executor.submit(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    uuids.add(UuidV7.generate());
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        // then
+        assertThat(uuids).hasSize(80_000);
+    }
+}
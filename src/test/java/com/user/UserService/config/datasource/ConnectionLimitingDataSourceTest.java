@@ -0,0 +1,103 @@
+package com.user.UserService.config.datasource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ConnectionLimitingDataSourceTest {
+
+    @Mock
+    private DataSource target;
+
+    @Mock
+    private Connection connection;
+
+    private ConnectionLimitingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new ConnectionLimitingDataSource(target, "primary", 1, Duration.ofMillis(50));
+    }
+
+    @Test
+    void shouldTimeOutWhenAllPermitsAreHeld() throws Exception {
+        // Given
+        when(target.getConnection()).thenReturn(connection);
+        dataSource.getConnection();
+
+        // When / Then
+        assertThatThrownBy(() -> onOtherThread(dataSource::getConnection))
+                .hasCauseInstanceOf(SQLTransientConnectionException.class);
+        verify(target, times(1)).getConnection();
+    }
+
+    @Test
+    void shouldReleasePermitOnceWhenConnectionIsClosed() throws Exception {
+        // Given
+        when(target.getConnection()).thenReturn(connection);
+        Connection first = dataSource.getConnection();
+
+        // When
+        first.close();
+        first.close();
+        Connection second = onOtherThread(dataSource::getConnection);
+
+        // Then
+        assertThat(((ConnectionProxy) second).getTargetConnection()).isSameAs(connection);
+        assertThatThrownBy(dataSource::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+        verify(connection, times(2)).close();
+    }
+
+    @Test
+    void shouldLetThreadHoldingPermitOpenNestedConnection() throws Exception {
+        // Given: an outer connection, as bound to a transaction whose after-commit callback needs another
+        when(target.getConnection()).thenReturn(connection);
+        Connection outer = dataSource.getConnection();
+
+        // When
+        Connection nested = dataSource.getConnection();
+        nested.close();
+
+        // Then: the permit is still held by the outer connection until it is closed too
+        assertThatThrownBy(() -> onOtherThread(dataSource::getConnection))
+                .hasCauseInstanceOf(SQLTransientConnectionException.class);
+        outer.close();
+        Connection next = onOtherThread(dataSource::getConnection);
+        assertThat(next).isNotNull();
+    }
+
+    @Test
+    void shouldReleasePermitWhenPoolFails() throws SQLException {
+        // Given
+        when(target.getConnection()).thenThrow(new SQLException("pool exhausted")).thenReturn(connection);
+
+        // When
+        assertThatThrownBy(dataSource::getConnection).hasMessage("pool exhausted");
+        Connection connection = dataSource.getConnection();
+
+        // Then
+        assertThat(connection).isNotNull();
+    }
+
+    private static <T> T onOtherThread(Callable<T> action) throws InterruptedException, ExecutionException {
+        FutureTask<T> task = new FutureTask<>(action);
+        Thread.ofPlatform().start(task);
+        return task.get();
+    }
+}
@@ -0,0 +1,81 @@
+package com.user.UserService.config.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicaRoutingDataSourceTest {
+
+    @Mock
+    private ReplicaPool replicaPool;
+
+    private ReadYourWritesTracker readYourWritesTracker;
+    private ReplicaRoutingDataSource routingDataSource;
+    private final UUID userId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        readYourWritesTracker = new ReadYourWritesTracker(new ReplicaProperties());
+        routingDataSource = new ReplicaRoutingDataSource(replicaPool, readYourWritesTracker, new SimpleMeterRegistry());
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(userId, null, List.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void shouldUsePrimaryForReadWriteTransactions() {
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+        verifyNoInteractions(replicaPool);
+    }
+
+    @Test
+    void shouldUseHealthyReplicaForReadOnlyTransactions() {
+        // given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(replicaPool.nextHealthy()).thenReturn(Optional.of("replica-0"));
+
+        // when & then
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo("replica-0");
+    }
+
+    @Test
+    void shouldKeepRecentWritersOnPrimary() {
+        // given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        readYourWritesTracker.markWrite(userId);
+
+        // when & then
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+        verifyNoInteractions(replicaPool);
+    }
+
+    @Test
+    void shouldFallBackToPrimaryWithoutHealthyReplica() {
+        // given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(replicaPool.nextHealthy()).thenReturn(Optional.empty());
+
+        // when & then
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+    }
+}
@@ -0,0 +1,129 @@
+package com.user.UserService.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.user.UserService.TestFixtures;
+import com.user.UserService.user.domain.service.TokenGenerator;
+import com.user.UserService.user.domain.value.Role;
+import com.user.UserService.user.web.dto.AdminUserResponse;
+import com.user.UserService.user.web.dto.UserPageResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class AdminUserDirectoryIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TokenGenerator tokenGenerator;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private String adminToken;
+
+    @BeforeEach
+    void setUp() {
+        adminToken = tokenGenerator.generateAccessToken(TestFixtures.Users.createAdminUser());
+
+        Instant base = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        insertUser("dir-alice@example.com", "Alice Directory", Role.USER.mask(), base.minusSeconds(40), false);
+        insertUser("dir-bob@example.com", "Bob Directory", Role.USER.mask() | Role.ADMIN.mask(), base.minusSeconds(30), false);
+        insertUser("dir-carol@example.com", "Carol Directory", Role.USER.mask(), base.minusSeconds(20), false);
+        insertUser("dir-dave@example.com", "Dave Directory", Role.USER.mask(), base.minusSeconds(10), true);
+    }
+
+    @Test
+    void shouldPageNewestFirstWithCursor() throws Exception {
+        // when
+        UserPageResponse first = list(get("/admin/users").param("q", "dir-").param("match", "prefix").param("limit", "2"));
+        UserPageResponse second = list(get("/admin/users").param("q", "dir-").param("match", "prefix").param("limit", "2")
+                .param("cursor", first.nextCursor()));
+
+        // then
+        assertThat(first.users()).extracting(AdminUserResponse::email)
+                .containsExactly("dir-dave@example.com", "dir-carol@example.com");
+        assertThat(first.nextCursor()).isNotNull();
+        assertThat(second.users()).extracting(AdminUserResponse::email)
+                .containsExactly("dir-bob@example.com", "dir-alice@example.com");
+        assertThat(second.nextCursor()).isNull();
+    }
+
+    @Test
+    void shouldFilterByRoleAndDeletedState() throws Exception {
+        UserPageResponse admins = list(get("/admin/users").param("q", "directory").param("role", "ADMIN"));
+        UserPageResponse deleted = list(get("/admin/users").param("q", "directory").param("deleted", "true"));
+
+        assertThat(admins.users()).extracting(AdminUserResponse::email).containsExactly("dir-bob@example.com");
+        assertThat(admins.users().get(0).roles()).containsExactlyInAnyOrder("USER", "ADMIN");
+        assertThat(deleted.users()).extracting(AdminUserResponse::email).containsExactly("dir-dave@example.com");
+        assertThat(deleted.users().get(0).deletedAt()).isNotNull();
+    }
+
+    @Test
+    void shouldSearchFullNameCaseInsensitively() throws Exception {
+        UserPageResponse page = list(get("/admin/users").param("q", "CAROL"));
+
+        assertThat(page.users()).extracting(AdminUserResponse::fullName).containsExactly("Carol Directory");
+    }
+
+    @Test
+    void shouldRejectInvalidCursorAndShortSearch() throws Exception {
+        mockMvc.perform(get("/admin/users").param("cursor", "not-a-cursor")
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/admin/users").param("q", "ab")
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void shouldRejectNonAdmin() throws Exception {
+        String userToken = tokenGenerator.generateAccessToken(TestFixtures.Users.createUser());
+
+        mockMvc.perform(get("/admin/users").header("Authorization", "Bearer " + userToken))
+                .andExpect(status().isForbidden());
+    }
+
+    private UserPageResponse list(MockHttpServletRequestBuilder request) throws Exception {
+        String body = mockMvc.perform(request.header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        return objectMapper.readValue(body, UserPageResponse.class);
+    }
+
+    private void insertUser(String email, String fullName, int roles, Instant createdAt, boolean deleted) {
+        Timestamp created = Timestamp.from(createdAt);
+        jdbcTemplate.update("""
+                        INSERT INTO users (id, email, password_hash, full_name, roles, created_at, updated_at, deleted_at)
+                        VALUES (?, ?, ?, ?, ?, ?, ?, ?)""",
+                UUID.randomUUID(), email, "$2a$12$hashedpassword", fullName, roles, created, created,
+                deleted ? created : null);
+    }
+}
@@ -0,0 +1,143 @@
+package com.user.UserService.integration;
+
+import com.user.UserService.TestFixtures;
+import com.user.UserService.user.domain.service.TokenGenerator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Not {@code @Transactional}: the {@code commit} phase is only recorded when the request transaction commits.
+ * Metrics export is enabled so histograms can be checked in the Prometheus scrape.
+ */
+@SpringBootTest(properties = "management.endpoints.web.exposure.include=prometheus")
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+@ActiveProfiles("test")
+class AuthMetricsIntegrationTest {
+
+    private static final String EMAIL = "metrics@example.com";
+    private static final String PASSWORD = "Metrics#Passw0rd";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TokenGenerator tokenGenerator;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM users WHERE email = ?", EMAIL);
+    }
+
+    @Test
+    void shouldRecordEveryPhaseOfLoginWithBoundedTags() throws Exception {
+        // given
+        send("/auth/register", "198.51.100.80", """
+                {"email":"%s","password":"%s","fullName":"Metrics User"}""".formatted(EMAIL, PASSWORD))
+                .andExpect(status().isCreated());
+        double failuresBefore = failures("login", "INVALID_CREDENTIALS");
+        long commitsBefore = phase("login", "commit").count();
+
+        // when
+        login("Wrong#Passw0rd").andExpect(status().isUnauthorized());
+        login(PASSWORD).andExpect(status().isOk());
+
+        // then
+        for (String phase : new String[]{"user_lookup", "password_verify", "event_publish", "token_mint",
+                "token_persist", "session_persist", "commit"}) {
+            assertThat(phase("login", phase).count()).as(phase).isPositive();
+        }
+        assertThat(phase("login", "commit").count()).isEqualTo(commitsBefore + 1);
+        assertThat(failures("login", "INVALID_CREDENTIALS")).isEqualTo(failuresBefore + 1);
+        for (Meter meter : meterRegistry.find("auth.phase").meters()) {
+            assertThat(meter.getId().getTag("operation")).isIn("register", "login", "refresh");
+        }
+    }
+
+    @Test
+    void shouldExportPhaseAndConnectionAcquireHistograms() throws Exception {
+        // given
+        send("/auth/register", "198.51.100.82", """
+                {"email":"%s","password":"%s","fullName":"Metrics User"}""".formatted(EMAIL, PASSWORD))
+                .andExpect(status().isCreated());
+        String adminToken = tokenGenerator.generateAccessToken(TestFixtures.Users.createAdminUser());
+
+        // when
+        String scrape = mockMvc.perform(get("/actuator/prometheus").header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        // then
+        assertThat(scrape)
+                .contains("auth_phase_seconds_bucket{operation=\"register\",phase=\"password_hash\"")
+                .contains("auth_operation_seconds_bucket{operation=\"register\",outcome=\"success\"")
+                .contains("hikaricp_connections_acquire_seconds_bucket{");
+    }
+
+    @Test
+    void shouldCountRateLimitRejectionsByTier() throws Exception {
+        // given
+        double before = meterRegistry.get("rate.limit.rejected").tag("tier", "normal").counter().count();
+
+        // when
+        ResultActions last = null;
+        for (int i = 0; i < 11; i++) {
+            last = send("/auth/refresh", "198.51.100.81", "{\"refreshToken\":\"not-a-token\"}");
+        }
+
+        // then
+        last.andExpect(status().isTooManyRequests());
+        assertThat(meterRegistry.get("rate.limit.rejected").tag("tier", "normal").counter().count())
+                .isEqualTo(before + 1);
+        assertThat(meterRegistry.find("rate.limit.rejected").counters())
+                .allSatisfy(counter -> assertThat(Set.of("normal", "hot")).contains(counter.getId().getTag("tier")));
+    }
+
+    private ResultActions login(String password) throws Exception {
+        return send("/auth/login", "198.51.100.80", """
+                {"email":"%s","password":"%s"}""".formatted(EMAIL, password));
+    }
+
+    private ResultActions send(String path, String clientIp, String body) throws Exception {
+        return mockMvc.perform(post(path)
+                .header("X-Forwarded-For", clientIp)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body));
+    }
+
+    private Timer phase(String operation, String phase) {
+        return meterRegistry.get("auth.phase").tags("operation", operation, "phase", phase).timer();
+    }
+
+    private double failures(String operation, String reason) {
+        return meterRegistry.find("auth.failures").tags("operation", operation, "reason", reason).counters().stream()
+                .mapToDouble(Counter::count)
+                .sum();
+    }
+}
@@ -0,0 +1,116 @@
+package com.user.UserService.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.user.UserService.TestFixtures;
+import com.user.UserService.user.web.dto.RegisterRequest;
+import com.user.UserService.user.web.dto.TokenResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class ConditionalRequestIntegrationTest {
+
+    private static final String CLIENT_IP = "203.0.113.29";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private String accessToken;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        RegisterRequest request = TestFixtures.Requests.createRegisterRequest(
+                "etag@example.com", TestFixtures.Constants.VALID_PASSWORD, "ETag User");
+
+        MvcResult result = mockMvc.perform(post("/auth/register")
+                        .header("X-Forwarded-For", CLIENT_IP)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn();
+
+        accessToken = objectMapper.readValue(result.getResponse().getContentAsString(), TokenResponse.class)
+                .accessToken();
+    }
+
+    @Test
+    void shouldAnswerUnchangedProfileWithNotModified() throws Exception {
+        // given
+        MvcResult first = mockMvc.perform(get("/users/me")
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+                .andReturn();
+        String eTag = first.getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(eTag).isNotBlank();
+
+        // when & then
+        mockMvc.perform(get("/users/me")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void shouldFindProfileETagInListWithQuotedCommas() throws Exception {
+        // given
+        String eTag = mockMvc.perform(get("/users/me")
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // when & then
+        mockMvc.perform(get("/users/me")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"a, b\", W/" + eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag));
+    }
+
+    @Test
+    void shouldAnswerUnchangedSessionsWithNotModified() throws Exception {
+        // given
+        MvcResult first = mockMvc.perform(get("/users/me/sessions")
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk())
+                .andReturn();
+        String eTag = first.getResponse().getHeader(HttpHeaders.ETAG);
+
+        // when & then
+        mockMvc.perform(get("/users/me/sessions")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void shouldReturnBodyWhenETagDoesNotMatch() throws Exception {
+        mockMvc.perform(get("/users/me")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"stale\""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.email").value("etag@example.com"));
+    }
+}
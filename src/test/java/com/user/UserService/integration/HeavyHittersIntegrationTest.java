@@ -0,0 +1,100 @@
+package com.user.UserService.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.user.UserService.TestFixtures;
+import com.user.UserService.user.domain.service.TokenGenerator;
+import com.user.UserService.user.web.dto.LoginRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Not {@code @Transactional}: failed logins are audited and throttled from background threads.
+ */
+@SpringBootTest(properties = {
+        "heavy-hitters.hot-threshold=3",
+        "heavy-hitters.hot-requests-per-minute=1"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class HeavyHittersIntegrationTest {
+
+    private static final String EMAIL = "heavy-hitter-nobody@example.com";
+    private static final String CLIENT_IP = "198.51.100.45";
+    private static final String USER_AGENT = "credential-stuffer/1.0";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TokenGenerator tokenGenerator;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM login_audit WHERE email = ?", EMAIL);
+        jdbcTemplate.update("DELETE FROM login_throttle WHERE email = ?", EMAIL);
+    }
+
+    @Test
+    void shouldTightenRateLimitForHotClientAndReportIt() throws Exception {
+        // given: the regular limit allows 10 requests a minute; past the hot threshold only 1 more gets through
+        for (int i = 0; i < 4; i++) {
+            login().andExpect(status().isUnauthorized());
+        }
+
+        // when
+        login().andExpect(status().isTooManyRequests());
+
+        // then
+        String adminToken = tokenGenerator.generateAccessToken(TestFixtures.Users.createAdminUser());
+        String body = mockMvc.perform(get("/actuator/heavyhitters")
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        JsonNode report = objectMapper.readTree(body);
+        assertThat(top(report, "clientIps").get("key").asText()).isEqualTo(CLIENT_IP);
+        assertThat(top(report, "clientIps").get("estimate").asInt()).isGreaterThanOrEqualTo(5);
+        assertThat(top(report, "userAgents").get("key").asText()).isEqualTo(USER_AGENT);
+        assertThat(top(report, "failedLoginEmails").get("key").asText()).isEqualTo(EMAIL);
+        assertThat(top(report, "failedLoginEmails").get("estimate").asInt()).isGreaterThanOrEqualTo(4);
+    }
+
+    @Test
+    void shouldRequireAdminForReport() throws Exception {
+        String userToken = tokenGenerator.generateAccessToken(TestFixtures.Users.createUser());
+
+        mockMvc.perform(get("/actuator/heavyhitters").header("Authorization", "Bearer " + userToken))
+                .andExpect(status().isForbidden());
+    }
+
+    private ResultActions login() throws Exception {
+        return mockMvc.perform(post("/auth/login")
+                .header("X-Forwarded-For", CLIENT_IP)
+                .header("User-Agent", USER_AGENT)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new LoginRequest(EMAIL, "Wrong#Passw0rd"))));
+    }
+
+    private static JsonNode top(JsonNode report, String dimension) {
+        return report.get(dimension).get(0);
+    }
+}
@@ -0,0 +1,140 @@
+package com.user.UserService.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.user.UserService.user.web.dto.RefreshRequest;
+import com.user.UserService.user.web.dto.RegisterRequest;
+import com.user.UserService.user.web.dto.TokenResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Not {@code @Transactional}: responses are persisted to {@code idempotency_keys} after the request transaction
+ * commits, so fixtures are committed and removed explicitly.
+ */
+@SpringBootTest(properties = "idempotency.persistent=true")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class IdempotencyIntegrationTest {
+
+    private static final String EMAIL = "idempotency@example.com";
+    private static final String PASSWORD = "Idempotent#Passw0rd";
+    private static final AtomicInteger CLIENTS = new AtomicInteger();
+
+    // Each test gets its own address so the per-client rate limiter does not interfere.
+    private final String clientIp = "198.51.100." + (60 + CLIENTS.getAndIncrement());
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM users WHERE email = ?", EMAIL);
+        jdbcTemplate.update("DELETE FROM idempotency_keys");
+    }
+
+    @Test
+    void shouldReplayRegistrationInsteadOfConflicting() throws Exception {
+        // given
+        String key = UUID.randomUUID().toString();
+        TokenResponse first = read(register(key, PASSWORD).andExpect(status().isCreated()));
+
+        // when
+        TokenResponse retried = read(register(key, PASSWORD).andExpect(status().isCreated()));
+
+        // then
+        assertThat(retried).isEqualTo(first);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM users WHERE email = ?", Integer.class, EMAIL)).isEqualTo(1);
+        register(null, PASSWORD).andExpect(status().isConflict());
+    }
+
+    @Test
+    void shouldReplayRefreshInsteadOfRejectingRevokedToken() throws Exception {
+        // given
+        TokenResponse registered = read(register(null, PASSWORD).andExpect(status().isCreated()));
+        String key = UUID.randomUUID().toString();
+        TokenResponse refreshed = read(refresh(key, registered.refreshToken()).andExpect(status().isOk()));
+
+        // when
+        TokenResponse retried = read(refresh(key, registered.refreshToken()).andExpect(status().isOk()));
+
+        // then
+        assertThat(retried).isEqualTo(refreshed);
+        refresh(null, registered.refreshToken()).andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void shouldStoreResponsesEncrypted() throws Exception {
+        // when
+        TokenResponse registered = read(register(UUID.randomUUID().toString(), PASSWORD)
+                .andExpect(status().isCreated()));
+
+        // then
+        List<byte[]> stored = jdbcTemplate.queryForList("SELECT response FROM idempotency_keys", byte[].class);
+        assertThat(stored).hasSize(1);
+        assertThat(new String(stored.get(0), StandardCharsets.ISO_8859_1))
+                .doesNotContain(registered.refreshToken())
+                .doesNotContain(registered.accessToken());
+    }
+
+    @Test
+    void shouldRejectKeyReusedForDifferentRequest() throws Exception {
+        // given
+        String key = UUID.randomUUID().toString();
+        register(key, PASSWORD).andExpect(status().isCreated());
+
+        // when & then
+        register(key, "Different#Passw0rd")
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.code").value("IDEMPOTENCY_KEY_REUSED"));
+    }
+
+    @Test
+    void shouldRejectMalformedKey() throws Exception {
+        register("not a valid key", PASSWORD).andExpect(status().isBadRequest());
+    }
+
+    private ResultActions register(String key, String password) throws Exception {
+        var request = post("/auth/register")
+                .header("X-Forwarded-For", clientIp)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new RegisterRequest(EMAIL, password, "Idempotent User")));
+        return mockMvc.perform(key != null ? request.header("Idempotency-Key", key) : request);
+    }
+
+    private ResultActions refresh(String key, String refreshToken) throws Exception {
+        var request = post("/auth/refresh")
+                .header("X-Forwarded-For", clientIp)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new RefreshRequest(refreshToken)));
+        return mockMvc.perform(key != null ? request.header("Idempotency-Key", key) : request);
+    }
+
+    private TokenResponse read(ResultActions result) throws Exception {
+        return objectMapper.readValue(result.andReturn().getResponse().getContentAsString(), TokenResponse.class);
+    }
+}
@@ -0,0 +1,144 @@
+package com.user.UserService.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.user.UserService.TestFixtures;
+import com.user.UserService.user.domain.service.TokenGenerator;
+import com.user.UserService.user.domain.value.Role;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Not {@code @Transactional}: the lookup reads in its own transaction on the streaming thread,
+ * so fixtures are committed and removed explicitly.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class InternalUserBatchIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TokenGenerator tokenGenerator;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final UUID activeId = UUID.randomUUID();
+    private final UUID deletedId = UUID.randomUUID();
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM users WHERE id IN (?, ?)", activeId, deletedId);
+    }
+
+    @Test
+    void shouldReturnFoundUsersAndListMissingIds() throws Exception {
+        // given
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbcTemplate.update("""
+                        INSERT INTO users (id, email, password_hash, full_name, roles, created_at, updated_at)
+                        VALUES (?, 'batch-active@example.com', '$2a$12$hashedpassword', 'Batch Active', ?, ?, ?)""",
+                activeId, Role.USER.mask() | Role.ADMIN.mask(), now, now);
+        jdbcTemplate.update("""
+                        INSERT INTO users (id, email, password_hash, full_name, roles, created_at, updated_at, deleted_at)
+                        VALUES (?, 'batch-deleted@example.com', '$2a$12$hashedpassword', 'Batch Deleted', ?, ?, ?, ?)""",
+                deletedId, Role.USER.mask(), now, now, now);
+        UUID unknownId = UUID.randomUUID();
+
+        // when
+        MvcResult started = mockMvc.perform(batchGet(serviceToken(), List.of(activeId, deletedId, unknownId, activeId)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String content = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        // then
+        JsonNode body = objectMapper.readTree(content);
+        assertThat(body.get("users")).hasSize(1);
+        JsonNode user = body.get("users").get(0);
+        assertThat(user.get("id").asText()).isEqualTo(activeId.toString());
+        assertThat(user.get("email").asText()).isEqualTo("batch-active@example.com");
+        assertThat(user.get("fullName").asText()).isEqualTo("Batch Active");
+        assertThat(user.get("roles")).extracting(JsonNode::asText).containsExactlyInAnyOrder("USER", "ADMIN");
+        assertThat(user.has("createdAt")).isTrue();
+        assertThat(user.has("passwordHash")).isFalse();
+        List<String> missing = new ArrayList<>();
+        body.get("missing").forEach(id -> missing.add(id.asText()));
+        assertThat(missing).containsExactly(deletedId.toString(), unknownId.toString());
+    }
+
+    @Test
+    void shouldRejectCallersWithoutServiceRole() throws Exception {
+        String userToken = tokenGenerator.generateAccessToken(TestFixtures.Users.createUser());
+        String adminToken = tokenGenerator.generateAccessToken(TestFixtures.Users.createAdminUser());
+
+        mockMvc.perform(batchGet(userToken, List.of(activeId)))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(batchGet(adminToken, List.of(activeId)))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void shouldRejectEmptyAndOversizedBatches() throws Exception {
+        List<UUID> tooMany = IntStream.range(0, 1001).mapToObj(i -> UUID.randomUUID()).toList();
+
+        mockMvc.perform(batchGet(serviceToken(), List.of()))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("VALIDATION_ERROR"));
+        mockMvc.perform(batchGet(serviceToken(), tooMany))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("At most 1000 ids per request"));
+    }
+
+    @Test
+    void shouldRejectMalformedIds() throws Exception {
+        mockMvc.perform(post("/internal/users:batchGet")
+                        .header("Authorization", "Bearer " + serviceToken())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\":[\"not-a-uuid\"]}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("MALFORMED_REQUEST"));
+    }
+
+    private String serviceToken() {
+        return tokenGenerator.generateAccessToken(TestFixtures.Users.createServiceUser());
+    }
+
+    private MockHttpServletRequestBuilder batchGet(String token, List<UUID> ids) throws Exception {
+        return post("/internal/users:batchGet")
+                .header("Authorization", "Bearer " + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Map.of("ids", ids)));
+    }
+}
@@ -0,0 +1,150 @@
+package com.user.UserService.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.user.UserService.user.domain.event.UserLoginFailedEvent;
+import com.user.UserService.user.web.dto.LoginRequest;
+import com.user.UserService.user.web.dto.RegisterRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Not {@code @Transactional}: audit rows are written by a background thread after the login transaction ends.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class LoginHistoryIntegrationTest {
+
+    private static final String EMAIL = "login-history@example.com";
+    private static final String PASSWORD = "History#Passw0rd";
+    private static final String CLIENT_IP = "198.51.100.39";
+    private static final String IPHONE = "Mozilla/5.0 (iPhone; CPU iPhone OS 17_0 like Mac OS X) Mobile/15E148";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM login_audit WHERE email IN (?, ?)", EMAIL, "login-history-nobody@example.com");
+        jdbcTemplate.update("DELETE FROM users WHERE email = ?", EMAIL);
+    }
+
+    @Test
+    void shouldRecordSuccessfulAndFailedLoginsAndPageThroughThem() throws Exception {
+        // given
+        String accessToken = register();
+        login(PASSWORD, 200);
+        login("Wrong#Passw0rd", 401);
+        login(PASSWORD, 200);
+        awaitAuditRows(3);
+
+        // when
+        JsonNode firstPage = history(accessToken, "?limit=2");
+        JsonNode secondPage = history(accessToken, "?limit=2&cursor=" + firstPage.get("nextCursor").asText());
+
+        // then
+        assertThat(firstPage.get("logins")).hasSize(2);
+        assertThat(firstPage.get("logins").get(0).get("success").asBoolean()).isTrue();
+        JsonNode failed = firstPage.get("logins").get(1);
+        assertThat(failed.get("success").asBoolean()).isFalse();
+        assertThat(failed.get("failureReason").asText()).isEqualTo(UserLoginFailedEvent.BAD_PASSWORD);
+        assertThat(failed.get("ipAddress").asText()).isEqualTo(CLIENT_IP);
+        assertThat(failed.get("deviceName").asText()).isEqualTo("iPhone");
+
+        assertThat(secondPage.get("logins")).hasSize(1);
+        assertThat(secondPage.get("nextCursor").isNull()).isTrue();
+    }
+
+    @Test
+    void shouldRecordAttemptsForUnknownEmailWithoutUser() throws Exception {
+        // given
+        mockMvc.perform(post("/auth/login")
+                        .header("X-Forwarded-For", CLIENT_IP)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new LoginRequest("login-history-nobody@example.com", PASSWORD))))
+                .andExpect(status().isUnauthorized());
+
+        // when
+        long deadline = System.currentTimeMillis() + 5_000;
+        Integer rows = 0;
+        while (rows == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            rows = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM login_audit WHERE email = 'login-history-nobody@example.com'"
+                            + " AND user_id IS NULL AND failure_reason = ?",
+                    Integer.class, UserLoginFailedEvent.UNKNOWN_EMAIL);
+        }
+
+        // then
+        assertThat(rows).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRejectInvalidCursor() throws Exception {
+        String accessToken = register();
+
+        mockMvc.perform(get("/users/me/logins?cursor=not-a-cursor")
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isBadRequest());
+    }
+
+    private String register() throws Exception {
+        String body = mockMvc.perform(post("/auth/register")
+                        .header("X-Forwarded-For", CLIENT_IP)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RegisterRequest(EMAIL, PASSWORD, "Login History"))))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body).get("accessToken").asText();
+    }
+
+    private void login(String password, int expectedStatus) throws Exception {
+        mockMvc.perform(post("/auth/login")
+                        .header("X-Forwarded-For", CLIENT_IP)
+                        .header("User-Agent", IPHONE)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LoginRequest(EMAIL, password))))
+                .andExpect(status().is(expectedStatus));
+    }
+
+    private JsonNode history(String accessToken, String query) throws Exception {
+        String body = mockMvc.perform(get("/users/me/logins" + query)
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+
+    private void awaitAuditRows(int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (System.currentTimeMillis() < deadline) {
+            Integer rows = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM login_audit WHERE email = ?", Integer.class, EMAIL);
+            if (rows != null && rows >= expected) {
+                return;
+            }
+            Thread.sleep(20);
+        }
+        throw new AssertionError("Login audit rows were not written in time");
+    }
+}
@@ -0,0 +1,258 @@
+package com.user.UserService.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.user.UserService.user.domain.event.UserLoginFailedEvent;
+import com.user.UserService.user.domain.exception.TooManyLoginAttemptsException;
+import com.user.UserService.user.idempotency.IdempotencyStore;
+import com.user.UserService.user.repository.LoginThrottleRepository;
+import com.user.UserService.user.throttle.LoginThrottle;
+import com.user.UserService.user.throttle.LoginThrottleProperties;
+import com.user.UserService.user.web.dto.LoginRequest;
+import com.user.UserService.user.web.dto.RegisterRequest;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Not {@code @Transactional}: the throttle state is shared through {@code login_throttle} by the reconciler,
+ * outside of any request transaction.
+ */
+@SpringBootTest(properties = {
+        "login-throttle.free-attempts=3",
+        "login-throttle.initial-lockout=1m"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class LoginThrottleIntegrationTest {
+
+    private static final String EMAIL = "login-throttle@example.com";
+    private static final String PASSWORD = "Throttle#Passw0rd";
+    private static final AtomicInteger CLIENTS = new AtomicInteger();
+
+    // Each test gets its own address so the per-client rate limiter does not interfere.
+    private final String clientIp = "203.0.113." + (44 + CLIENTS.getAndIncrement());
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private LoginThrottle loginThrottle;
+
+    @Autowired
+    private LoginThrottleRepository loginThrottleRepository;
+
+    @Autowired
+    private LoginThrottleProperties properties;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @AfterEach
+    void tearDown() {
+        loginThrottle.recordSuccess(EMAIL);
+        loginThrottle.reconcile();
+        jdbcTemplate.update("DELETE FROM login_throttle WHERE email = ?", EMAIL);
+        jdbcTemplate.update("DELETE FROM login_audit WHERE email = ?", EMAIL);
+        jdbcTemplate.update("DELETE FROM users WHERE email = ?", EMAIL);
+    }
+
+    @Test
+    void shouldLockOutAccountBeforeVerifyingPassword() throws Exception {
+        // given
+        register();
+        for (int i = 0; i < 3; i++) {
+            login("Wrong#Passw0rd").andExpect(status().isUnauthorized());
+        }
+        double rejectedBefore = meterRegistry.get("login.throttle.rejected").counter().count();
+
+        // when & then - even the right password is refused while locked out
+        login(PASSWORD)
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists("Retry-After"))
+                .andExpect(jsonPath("$.code").value("TOO_MANY_LOGIN_ATTEMPTS"));
+        assertThat(meterRegistry.get("login.throttle.rejected").counter().count()).isEqualTo(rejectedBefore + 1);
+        assertThat(meterRegistry.get("login.throttle.cpu.saved").functionCounter().count()).isPositive();
+    }
+
+    @Test
+    void shouldCountLockoutOnceWhenFailuresRaceIntoIt() {
+        // given
+        double lockoutsBefore = meterRegistry.get("login.throttle.lockouts").counter().count();
+        loginThrottle.recordFailure(EMAIL);
+        loginThrottle.recordFailure(EMAIL);
+
+        // when: the third failure locks the account, and a fourth lands while it is locked
+        loginThrottle.recordFailure(EMAIL);
+        loginThrottle.recordFailure(EMAIL);
+
+        // then
+        assertThat(meterRegistry.get("login.throttle.lockouts").counter().count()).isEqualTo(lockoutsBefore + 1);
+    }
+
+    @Test
+    void shouldRefuseConcurrentAttemptsThatCouldExceedFreeAttempts() {
+        // given: as many attempts in flight as failures are still allowed
+        for (int i = 0; i < 3; i++) {
+            loginThrottle.acquire(EMAIL);
+        }
+        try {
+            // when & then
+            assertThatThrownBy(() -> loginThrottle.acquire(EMAIL))
+                    .isInstanceOf(TooManyLoginAttemptsException.class);
+            loginThrottle.release(EMAIL);
+            assertThatCode(() -> loginThrottle.acquire(EMAIL)).doesNotThrowAnyException();
+        } finally {
+            for (int i = 0; i < 3; i++) {
+                loginThrottle.release(EMAIL);
+            }
+        }
+    }
+
+    @Test
+    void shouldLetOneAttemptAtATimeThroughOnceFailuresAreUsedUp() {
+        // given: two failures, so one more is allowed before the lockout
+        loginThrottle.recordFailure(EMAIL);
+        loginThrottle.recordFailure(EMAIL);
+
+        // when
+        loginThrottle.acquire(EMAIL);
+        try {
+            // then
+            assertThatThrownBy(() -> loginThrottle.acquire(EMAIL))
+                    .isInstanceOf(TooManyLoginAttemptsException.class);
+        } finally {
+            loginThrottle.release(EMAIL);
+        }
+        assertThatCode(() -> loginThrottle.acquire(EMAIL)).doesNotThrowAnyException();
+        loginThrottle.release(EMAIL);
+    }
+
+    @Test
+    void shouldAuditAttemptsRefusedByLockout() throws Exception {
+        // given
+        register();
+        for (int i = 0; i < 3; i++) {
+            login("Wrong#Passw0rd").andExpect(status().isUnauthorized());
+        }
+
+        // when
+        login(PASSWORD).andExpect(status().isTooManyRequests());
+
+        // then
+        long deadline = System.currentTimeMillis() + 5_000;
+        Integer rows = 0;
+        while (rows == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            rows = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM login_audit WHERE email = ? AND success = FALSE AND failure_reason = ?"
+                            + " AND ip_address = ?",
+                    Integer.class, EMAIL, UserLoginFailedEvent.LOCKED_OUT, clientIp);
+        }
+        assertThat(rows).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRefuseReplayOfEarlierLoginWhileLockedOut() throws Exception {
+        // given: a successful login stored under an Idempotency-Key, then a lockout
+        register();
+        String key = UUID.randomUUID().toString();
+        login(PASSWORD, key).andExpect(status().isOk());
+        for (int i = 0; i < 3; i++) {
+            login("Wrong#Passw0rd").andExpect(status().isUnauthorized());
+        }
+
+        // when & then
+        login(PASSWORD, key)
+                .andExpect(status().isTooManyRequests())
+                .andExpect(jsonPath("$.code").value("TOO_MANY_LOGIN_ATTEMPTS"));
+    }
+
+    @Test
+    void shouldShareLockoutWithOtherReplicasThroughDatabase() throws Exception {
+        // given
+        register();
+        for (int i = 0; i < 3; i++) {
+            login("Wrong#Passw0rd").andExpect(status().isUnauthorized());
+        }
+        LoginThrottle otherReplica = new LoginThrottle(loginThrottleRepository, properties, transactionManager,
+                new SimpleMeterRegistry());
+
+        // when
+        loginThrottle.reconcile();
+        otherReplica.reconcile();
+
+        // then
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT failures FROM login_throttle WHERE email = ?", Integer.class, EMAIL)).isEqualTo(3);
+        assertThatThrownBy(() -> otherReplica.acquire(EMAIL))
+                .isInstanceOf(TooManyLoginAttemptsException.class);
+    }
+
+    @Test
+    void shouldForgetFailuresAfterSuccessfulLogin() throws Exception {
+        // given
+        register();
+        login("Wrong#Passw0rd").andExpect(status().isUnauthorized());
+        loginThrottle.reconcile();
+
+        // when
+        login(PASSWORD).andExpect(status().isOk());
+        loginThrottle.reconcile();
+
+        // then
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM login_throttle WHERE email = ?", Integer.class, EMAIL)).isZero();
+    }
+
+    private void register() throws Exception {
+        mockMvc.perform(post("/auth/register")
+                        .header("X-Forwarded-For", clientIp)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RegisterRequest(EMAIL, PASSWORD, "Login Throttle"))))
+                .andExpect(status().isCreated());
+    }
+
+    private ResultActions login(String password) throws Exception {
+        return login(password, null);
+    }
+
+    private ResultActions login(String password, String idempotencyKey) throws Exception {
+        MockHttpServletRequestBuilder request = post("/auth/login")
+                .header("X-Forwarded-For", clientIp)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new LoginRequest(EMAIL, password)));
+        if (idempotencyKey != null) {
+            request.header(IdempotencyStore.HEADER, idempotencyKey);
+        }
+        return mockMvc.perform(request);
+    }
+}
@@ -0,0 +1,178 @@
+package com.user.UserService.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.user.UserService.user.outbox.OutboxDeliveryException;
+import com.user.UserService.user.outbox.OutboxMessage;
+import com.user.UserService.user.outbox.OutboxProperties;
+import com.user.UserService.user.outbox.OutboxRelay;
+import com.user.UserService.user.outbox.OutboxRepository;
+import com.user.UserService.user.outbox.OutboxSink;
+import com.user.UserService.user.outbox.OutboxWriter;
+import com.user.UserService.user.web.dto.LoginRequest;
+import com.user.UserService.user.web.dto.RegisterRequest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Not {@code @Transactional}: outbox rows are only written when the request's transaction really commits.
+ * The background relay is switched off so each test drives {@link OutboxRelay#relayBatch()} itself, and the
+ * test gets its own database so relays of other cached contexts cannot drain its rows.
+ */
+@SpringBootTest(properties = {
+        "outbox.relay.enabled=false",
+        "spring.datasource.url=jdbc:h2:mem:outbox-it;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class OutboxIntegrationTest {
+
+    private static final String CLIENT_IP = "198.51.100.38";
+    private static final String PASSWORD = "Outbox#Passw0rd";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private OutboxRepository outboxRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM outbox");
+        jdbcTemplate.update("DELETE FROM users WHERE email LIKE 'outbox-%@example.com'");
+    }
+
+    @Test
+    void shouldWriteRegistrationAndLoginToOutboxAndRelayThem() throws Exception {
+        // given
+        register("outbox-relay@example.com");
+        login("outbox-relay@example.com");
+        UUID userId = jdbcTemplate.queryForObject(
+                "SELECT id FROM users WHERE email = 'outbox-relay@example.com'", UUID.class);
+        List<OutboxMessage> delivered = new ArrayList<>();
+        OutboxRelay relay = relayTo(delivered::addAll);
+
+        // when
+        int relayed = relay.relayBatch();
+
+        // then
+        assertThat(relayed).isEqualTo(2);
+        assertThat(delivered).extracting(OutboxMessage::eventType)
+                .containsExactly(OutboxWriter.USER_REGISTERED, OutboxWriter.USER_LOGGED_IN);
+        assertThat(delivered).extracting(OutboxMessage::aggregateId).containsOnly(userId);
+        JsonNode payload = objectMapper.readTree(delivered.get(1).payload());
+        assertThat(payload.get("email").asText()).isEqualTo("outbox-relay@example.com");
+        assertThat(payload.get("ipAddress").asText()).isEqualTo(CLIENT_IP);
+        assertThat(outboxRows()).isZero();
+    }
+
+    @Test
+    void shouldKeepAndDelayBatchWhenSinkFails() throws Exception {
+        // given
+        register("outbox-failing@example.com");
+        OutboxRelay relay = relayTo(batch -> {
+            throw new OutboxDeliveryException("downstream unavailable");
+        });
+
+        // when
+        int relayed = relay.relayBatch();
+
+        // then
+        assertThat(relayed).isZero();
+        assertThat(outboxRows()).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT attempts FROM outbox", Integer.class)).isEqualTo(1);
+        assertThat(relay.relayBatch()).isZero();
+    }
+
+    @Test
+    void shouldPublishOutsideTransactionWhileBatchIsLeased() throws Exception {
+        // given
+        register("outbox-lease@example.com");
+        List<Boolean> transactionActive = new ArrayList<>();
+        List<Integer> claimedByOtherRelay = new ArrayList<>();
+        OutboxRelay otherRelay = relayTo(batch -> {
+        });
+        OutboxRelay relay = relayTo(batch -> {
+            transactionActive.add(TransactionSynchronizationManager.isActualTransactionActive());
+            claimedByOtherRelay.add(otherRelay.relayBatch());
+        });
+
+        // when
+        int relayed = relay.relayBatch();
+
+        // then
+        assertThat(relayed).isEqualTo(1);
+        assertThat(transactionActive).containsExactly(false);
+        assertThat(claimedByOtherRelay).containsExactly(0);
+        assertThat(outboxRows()).isZero();
+    }
+
+    @Test
+    void shouldNotWriteOutboxRowWhenRegistrationRollsBack() throws Exception {
+        // given
+        register("outbox-duplicate@example.com");
+
+        // when
+        mockMvc.perform(post("/auth/register")
+                        .header("X-Forwarded-For", CLIENT_IP)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new RegisterRequest("outbox-duplicate@example.com", PASSWORD, "Outbox Test"))))
+                .andExpect(status().isConflict());
+
+        // then
+        assertThat(outboxRows()).isEqualTo(1);
+    }
+
+    private OutboxRelay relayTo(OutboxSink sink) {
+        return new OutboxRelay(outboxRepository, sink, new OutboxProperties.Relay(), transactionManager,
+                new SimpleMeterRegistry());
+    }
+
+    private void register(String email) throws Exception {
+        mockMvc.perform(post("/auth/register")
+                        .header("X-Forwarded-For", CLIENT_IP)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RegisterRequest(email, PASSWORD, "Outbox Test"))))
+                .andExpect(status().isCreated());
+    }
+
+    private void login(String email) throws Exception {
+        mockMvc.perform(post("/auth/login")
+                        .header("X-Forwarded-For", CLIENT_IP)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LoginRequest(email, PASSWORD))))
+                .andExpect(status().isOk());
+    }
+
+    private int outboxRows() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outbox", Integer.class);
+    }
+}
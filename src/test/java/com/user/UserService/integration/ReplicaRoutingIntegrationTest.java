@@ -0,0 +1,152 @@
+package com.user.UserService.integration;
+
+import com.user.UserService.user.cache.UserProfileCache;
+import com.user.UserService.user.domain.entity.User;
+import com.user.UserService.user.domain.value.Role;
+import com.user.UserService.user.repository.UserRepository;
+import com.user.UserService.user.service.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The "replica" is a second H2 database with the same schema whose copy of a user lags behind the primary.
+ * It stubs the PostgreSQL functions and view of the lag probe, so it is taken into rotation like a caught-up,
+ * streaming replica.
+ * Not {@code @Transactional}: each read has to open its own read-only transaction to be routed.
+ */
+@SpringBootTest(properties = {
+        "datasource.replicas.enabled=true",
+        "datasource.replicas.nodes[0].name=h2-replica",
+        "datasource.replicas.nodes[0].url=" + ReplicaRoutingIntegrationTest.REPLICA_URL,
+        "datasource.replicas.nodes[0].username=sa",
+        "datasource.replicas.nodes[0].password="
+})
+@ActiveProfiles("test")
+class ReplicaRoutingIntegrationTest {
+
+    static final String REPLICA_URL =
+            "jdbc:h2:mem:lagging-replica;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+    private static final String EMAIL = "replica@example.com";
+
+    private static final JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserProfileCache userProfileCache;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate readOnly;
+    private User user;
+
+    @BeforeAll
+    static void createReplica() {
+        Flyway.configure()
+                .dataSource(REPLICA_URL, "sa", "")
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+        replica.execute("CREATE ALIAS IF NOT EXISTS pg_is_in_recovery AS 'boolean f() { return true; }'");
+        replica.execute("CREATE ALIAS IF NOT EXISTS pg_last_wal_receive_lsn AS 'String f() { return \"0/0\"; }'");
+        replica.execute("CREATE ALIAS IF NOT EXISTS pg_last_wal_replay_lsn AS 'String f() { return \"0/0\"; }'");
+        replica.execute("CREATE ALIAS IF NOT EXISTS pg_last_xact_replay_timestamp AS "
+                + "'java.sql.Timestamp f() { return new java.sql.Timestamp(System.currentTimeMillis()); }'");
+        replica.execute("CREATE TABLE IF NOT EXISTS pg_stat_wal_receiver (status VARCHAR(32))");
+        replica.execute("MERGE INTO pg_stat_wal_receiver KEY (status) VALUES ('streaming')");
+    }
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        awaitReplicaInRotation();
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        user = User.builder()
+                .email(EMAIL)
+                .passwordHash("$2a$12$hashedpassword")
+                .fullName("Renamed User")
+                .build();
+        user.addRole(Role.USER);
+        userRepository.saveAndFlush(user);
+        // The replica has not replayed the rename yet.
+        copyRowToReplica(user);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM users WHERE email = ?", EMAIL);
+        replica.update("DELETE FROM users WHERE email = ?", EMAIL);
+        userProfileCache.evictAll();
+    }
+
+    @Test
+    void shouldRouteReadOnlyTransactionsToHealthyReplica() {
+        assertThat(dataSource).isInstanceOf(LazyConnectionDataSourceProxy.class);
+        String fullName = readOnly.execute(status -> userRepository.findActiveById(user.getId())
+                .map(User::getFullName)
+                .orElseThrow());
+
+        assertThat(fullName).isEqualTo("Original User");
+    }
+
+    @Test
+    void shouldRefillEvictedProfileFromPrimaryRatherThanLaggingReplica() {
+        // given: another instance committed the rename and broadcast the invalidation
+        userProfileCache.evict(user.getId());
+
+        // when: filled even from within a read-only transaction, which would otherwise go to the replica
+        String fullName = readOnly.execute(status -> userService.getCurrentUser(user.getId()).profile().fullName());
+
+        // then
+        assertThat(fullName).isEqualTo("Renamed User");
+        assertThat(userService.getCurrentUser(user.getId()).profile().fullName()).isEqualTo("Renamed User");
+    }
+
+    private void copyRowToReplica(User source) {
+        Object[] row = jdbcTemplate.queryForObject(
+                "SELECT id, email, password_hash, roles, created_at, updated_at FROM users WHERE id = ?",
+                (rs, rowNum) -> new Object[]{rs.getObject(1), rs.getString(2), rs.getString(3), rs.getInt(4),
+                        rs.getTimestamp(5), rs.getTimestamp(6)},
+                source.getId());
+        replica.update("INSERT INTO users (id, email, password_hash, full_name, roles, created_at, updated_at) "
+                + "VALUES (?, ?, ?, 'Original User', ?, ?, ?)", row);
+    }
+
+    private void awaitReplicaInRotation() throws InterruptedException {
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        while (meterRegistry.get("datasource.replica.healthy").gauge().value() < 1) {
+            assertThat(System.nanoTime()).as("replica taken into rotation").isLessThan(deadline);
+            Thread.sleep(50);
+        }
+    }
+}
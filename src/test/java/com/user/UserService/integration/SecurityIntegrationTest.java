@@ -3,6 +3,7 @@ package com.user.UserService.integration;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.user.UserService.TestFixtures;
 import com.user.UserService.user.web.dto.LoginRequest;
+import jakarta.servlet.DispatcherType;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -52,6 +53,16 @@ class SecurityIntegrationTest {
                 .andExpect(status().isForbidden());
     }
 
+    @Test
+    void shouldNotAuthorizeAsyncDispatchWithoutAuthenticatedRequest() throws Exception {
+        mockMvc.perform(get("/users/me")
+                        .with(request -> {
+                            request.setDispatcherType(DispatcherType.ASYNC);
+                            return request;
+                        }))
+                .andExpect(status().isForbidden());
+    }
+
     @Test
     void shouldRejectMalformedAuthHeader() throws Exception {
         mockMvc.perform(get("/users/me")
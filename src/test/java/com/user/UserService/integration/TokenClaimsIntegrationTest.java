@@ -0,0 +1,62 @@
+package com.user.UserService.integration;
+
+import com.user.UserService.TestFixtures;
+import com.user.UserService.user.domain.entity.User;
+import com.user.UserService.user.domain.service.TokenGenerator;
+import com.user.UserService.user.domain.value.Role;
+import com.user.UserService.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * The user behind the token exists only in the token: {@code /users/me/claims} must answer without the repository.
+ */
+@SpringBootTest(properties = {
+        "security.jwt.profile-claims.full-name=false",
+        "security.jwt.profile-claims.created-at=false"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class TokenClaimsIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TokenGenerator tokenGenerator;
+
+    @MockitoBean
+    private UserRepository userRepository;
+
+    @Test
+    void shouldAnswerFromTokenClaimsWithoutOptionalProfileClaims() throws Exception {
+        // given
+        User user = TestFixtures.Users.createUser("claims@example.com", "Claims User");
+        user.addRole(Role.USER);
+        String accessToken = tokenGenerator.generateAccessToken(user);
+
+        // when & then
+        mockMvc.perform(get("/users/me/claims")
+                        .header("X-Forwarded-For", "198.51.100.90")
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(user.getId().toString()))
+                .andExpect(jsonPath("$.email").value("claims@example.com"))
+                .andExpect(jsonPath("$.roles", contains("USER")))
+                .andExpect(jsonPath("$.fullName").value(nullValue()))
+                .andExpect(jsonPath("$.createdAt").value(nullValue()));
+        verifyNoInteractions(userRepository);
+    }
+}
@@ -0,0 +1,105 @@
+package com.user.UserService.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.user.UserService.TestFixtures;
+import com.user.UserService.user.domain.service.TokenGenerator;
+import com.user.UserService.user.domain.value.Role;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Not {@code @Transactional}: the export reads in its own transaction on the streaming thread,
+ * so fixtures are committed and removed explicitly.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class UserExportIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TokenGenerator tokenGenerator;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final UUID userId = UUID.randomUUID();
+    private final UUID sessionId = UUID.randomUUID();
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM device_sessions WHERE user_id = ?", userId);
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", userId);
+    }
+
+    @Test
+    void shouldStreamUsersAndSessionsAsNdjson() throws Exception {
+        // given
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbcTemplate.update("""
+                        INSERT INTO users (id, email, password_hash, full_name, roles, created_at, updated_at)
+                        VALUES (?, 'export@example.com', '$2a$12$hashedpassword', 'Export User', ?, ?, ?)""",
+                userId, Role.USER.mask(), now, now);
+        jdbcTemplate.update("""
+                        INSERT INTO device_sessions (id, user_id, device_name, os, ip_address, user_agent, last_used_at, revoked, created_at, updated_at)
+                        VALUES (?, ?, 'Laptop', 'Linux', '198.51.100.7', 'curl/8', ?, FALSE, ?, ?)""",
+                sessionId, userId, now, now, now);
+        String adminToken = tokenGenerator.generateAccessToken(TestFixtures.Users.createAdminUser());
+
+        // when
+        MvcResult started = mockMvc.perform(get("/admin/users/export")
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String content = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        // then
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : content.split("\n")) {
+            lines.add(objectMapper.readTree(line));
+        }
+        JsonNode user = lines.stream()
+                .filter(line -> line.get("id").asText().equals(userId.toString()))
+                .findFirst().orElseThrow();
+        assertThat(user.get("type").asText()).isEqualTo("user");
+        assertThat(user.get("email").asText()).isEqualTo("export@example.com");
+        assertThat(user.has("passwordHash")).isFalse();
+        assertThat(user.get("roles").get(0).asText()).isEqualTo("USER");
+
+        JsonNode session = lines.stream()
+                .filter(line -> line.get("id").asText().equals(sessionId.toString()))
+                .findFirst().orElseThrow();
+        assertThat(session.get("type").asText()).isEqualTo("session");
+        assertThat(session.get("userId").asText()).isEqualTo(userId.toString());
+        assertThat(session.get("revoked").asBoolean()).isFalse();
+        assertThat(lines.indexOf(user)).isLessThan(lines.indexOf(session));
+    }
+}
@@ -0,0 +1,145 @@
+package com.user.UserService.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.user.UserService.TestFixtures;
+import com.user.UserService.user.domain.service.TokenGenerator;
+import com.user.UserService.user.domain.value.Role;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Not {@code @Transactional}: the import commits each chunk on its own streaming thread,
+ * so imported rows are removed explicitly after each test.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class UserImportIntegrationTest {
+
+    private static final String NDJSON = "application/x-ndjson";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TokenGenerator tokenGenerator;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM users WHERE email LIKE 'import-%@example.com'");
+    }
+
+    @Test
+    void shouldImportNdjsonAndReportEveryRow() throws Exception {
+        // given
+        String preHashed = new BCryptPasswordEncoder(4).encode("LegacyPass123!");
+        String body = String.join("\n",
+                "{\"email\":\"import-one@example.com\",\"password\":\"" + TestFixtures.Constants.VALID_PASSWORD + "\",\"fullName\":\"One\"}",
+                "{\"email\":\"import-two@example.com\",\"passwordHash\":\"" + preHashed + "\",\"fullName\":\"Two\"}",
+                "{\"email\":\"not-an-email\",\"passwordHash\":\"" + preHashed + "\",\"fullName\":\"Bad\"}",
+                "{not json",
+                "{\"email\":\"IMPORT-ONE@example.com\",\"passwordHash\":\"" + preHashed + "\",\"fullName\":\"Again\"}");
+
+        // when
+        List<JsonNode> lines = importUsers(body, NDJSON);
+
+        // then
+        assertThat(lines).hasSize(6);
+        assertThat(lines.subList(0, 5)).extracting(line -> line.get("status").asText())
+                .containsExactly("CREATED", "CREATED", "INVALID", "INVALID", "DUPLICATE");
+        assertThat(lines.get(0).get("id").asText()).isNotBlank();
+        JsonNode summary = lines.get(5).get("summary");
+        assertThat(summary.get("total").asLong()).isEqualTo(5);
+        assertThat(summary.get("created").asLong()).isEqualTo(2);
+        assertThat(summary.has("usersPerSecond")).isTrue();
+
+        String storedHash = jdbcTemplate.queryForObject(
+                "SELECT password_hash FROM users WHERE email = 'import-two@example.com'", String.class);
+        assertThat(storedHash).isEqualTo(preHashed);
+    }
+
+    @Test
+    void shouldImportCsvWithRoles() throws Exception {
+        // given
+        String preHashed = new BCryptPasswordEncoder(4).encode("LegacyPass123!");
+        String body = "email,password_hash,full_name,roles\n"
+                + "import-csv@example.com," + preHashed + ",\"Doe, Jane\",USER|ADMIN\n";
+
+        // when
+        List<JsonNode> lines = importUsers(body, "text/csv");
+
+        // then
+        assertThat(lines.get(0).get("status").asText()).isEqualTo("CREATED");
+        Integer roles = jdbcTemplate.queryForObject(
+                "SELECT roles FROM users WHERE email = 'import-csv@example.com'", Integer.class);
+        assertThat(roles).isEqualTo(Role.USER.mask() | Role.ADMIN.mask());
+    }
+
+    @Test
+    void shouldRejectCsvWithoutEmailColumn() throws Exception {
+        mockMvc.perform(post("/admin/users/import")
+                        .header("Authorization", "Bearer " + adminToken())
+                        .contentType("text/csv")
+                        .content("name,password\n"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void shouldRejectNonAdmin() throws Exception {
+        String userToken = tokenGenerator.generateAccessToken(TestFixtures.Users.createUser());
+
+        mockMvc.perform(post("/admin/users/import")
+                        .header("Authorization", "Bearer " + userToken)
+                        .contentType(NDJSON)
+                        .content("{}"))
+                .andExpect(status().isForbidden());
+    }
+
+    private List<JsonNode> importUsers(String body, String contentType) throws Exception {
+        MvcResult started = mockMvc.perform(post("/admin/users/import")
+                        .header("Authorization", "Bearer " + adminToken())
+                        .contentType(contentType)
+                        .content(body))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String content = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : content.split("\n")) {
+            lines.add(objectMapper.readTree(line));
+        }
+        return lines;
+    }
+
+    private String adminToken() {
+        return tokenGenerator.generateAccessToken(TestFixtures.Users.createAdminUser());
+    }
+}
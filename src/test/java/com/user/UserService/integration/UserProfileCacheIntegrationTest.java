@@ -0,0 +1,104 @@
+package com.user.UserService.integration;
+
+import com.user.UserService.user.cache.UserProfileCache;
+import com.user.UserService.user.cache.UserProfileSnapshot;
+import com.user.UserService.user.domain.entity.User;
+import com.user.UserService.user.domain.value.Role;
+import com.user.UserService.user.repository.UserRepository;
+import com.user.UserService.user.service.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Not {@code @Transactional}: cached profiles are only evicted once the write's transaction commits.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class UserProfileCacheIntegrationTest {
+
+    private static final String EMAIL = "profile-cache@example.com";
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserProfileCache userProfileCache;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = User.builder()
+                .email(EMAIL)
+                .passwordHash("$2a$12$hashedpassword")
+                .fullName("Cached User")
+                .build();
+        user.addRole(Role.USER);
+        userRepository.saveAndFlush(user);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM users WHERE email = ?", EMAIL);
+        userProfileCache.evictAll();
+    }
+
+    @Test
+    void shouldEvictCachedProfileWhenUpdateCommits() {
+        // given
+        assertThat(userService.getCurrentUser(user.getId()).profile().fullName()).isEqualTo("Cached User");
+
+        // when
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            User managed = userRepository.findById(user.getId()).orElseThrow();
+            managed.setFullName("Renamed User");
+            userRepository.flush();
+            // then: still cached until the rename is committed
+            assertThat(cached()).isNotNull();
+        });
+
+        // then
+        assertThat(cached()).isNull();
+        assertThat(userService.getCurrentUser(user.getId()).profile().fullName()).isEqualTo("Renamed User");
+    }
+
+    @Test
+    void shouldKeepCachedProfileWhenUpdateRollsBack() {
+        // given
+        userService.getCurrentUser(user.getId());
+
+        // when
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            userRepository.findById(user.getId()).orElseThrow().setFullName("Discarded Name");
+            userRepository.flush();
+            status.setRollbackOnly();
+        });
+
+        // then
+        assertThat(cached()).isNotNull();
+        assertThat(cached().profile().fullName()).isEqualTo("Cached User");
+    }
+
+    private UserProfileSnapshot cached() {
+        // A loader that finds nothing caches nothing, so this only reads what is already there.
+        return userProfileCache.get(user.getId(), id -> null);
+    }
+}
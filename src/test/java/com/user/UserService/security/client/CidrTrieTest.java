@@ -0,0 +1,72 @@
+package com.user.UserService.security.client;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CidrTrieTest {
+
+    @Test
+    void shouldParseIpv4AndIpv6Forms() {
+        assertThat(IpAddress.parse("192.168.1.10")).isEqualTo(IpAddress.ofIpv4(0xC0A8010A));
+        assertThat(IpAddress.parse("::ffff:192.168.1.10")).isEqualTo(IpAddress.ofIpv4(0xC0A8010A));
+        assertThat(IpAddress.parse("2001:db8::1")).isEqualTo(new IpAddress(0x20010DB800000000L, 1));
+        assertThat(IpAddress.parse("2001:DB8:0:0:0:0:0:1")).isEqualTo(new IpAddress(0x20010DB800000000L, 1));
+        assertThat(IpAddress.parse("fe80::1%eth0")).isEqualTo(new IpAddress(0xFE80000000000000L, 1));
+        assertThat(IpAddress.parse("::")).isEqualTo(new IpAddress(0, 0));
+        assertThat(IpAddress.parse("1::")).isEqualTo(new IpAddress(0x0001000000000000L, 0));
+        assertThat(IpAddress.parse("x 10.0.0.1 y", 2, 10)).isEqualTo(IpAddress.ofIpv4(0x0A000001));
+    }
+
+    @Test
+    void shouldRejectMalformedAddresses() {
+        assertThat(IpAddress.parse("256.1.1.1")).isNull();
+        assertThat(IpAddress.parse("1.2.3")).isNull();
+        assertThat(IpAddress.parse("1.2.3.4.5")).isNull();
+        assertThat(IpAddress.parse("1..2.3")).isNull();
+        assertThat(IpAddress.parse("unknown")).isNull();
+        assertThat(IpAddress.parse("1:2:3:4:5:6:7")).isNull();
+        assertThat(IpAddress.parse("1::2::3")).isNull();
+        assertThat(IpAddress.parse("12345::1")).isNull();
+        assertThat(IpAddress.parse("1:")).isNull();
+        assertThat(IpAddress.parse("")).isNull();
+    }
+
+    @Test
+    void shouldMatchAddressesInsideBlocks() {
+        // given
+        CidrTrie trie = CidrTrie.compile(List.of("10.0.0.0/8", "172.16.0.0/12", "192.0.2.7", "fc00::/7", "::1/128"));
+
+        // then
+        assertThat(trie.contains(IpAddress.parse("10.255.3.4"))).isTrue();
+        assertThat(trie.contains(IpAddress.parse("11.0.0.1"))).isFalse();
+        assertThat(trie.contains(IpAddress.parse("172.31.255.255"))).isTrue();
+        assertThat(trie.contains(IpAddress.parse("172.32.0.0"))).isFalse();
+        assertThat(trie.contains(IpAddress.parse("192.0.2.7"))).isTrue();
+        assertThat(trie.contains(IpAddress.parse("192.0.2.8"))).isFalse();
+        assertThat(trie.contains(IpAddress.parse("::ffff:10.1.1.1"))).isTrue();
+        assertThat(trie.contains(IpAddress.parse("fd12:3456::1"))).isTrue();
+        assertThat(trie.contains(IpAddress.parse("fe80::1"))).isFalse();
+        assertThat(trie.contains(IpAddress.parse("::1"))).isTrue();
+        assertThat(trie.contains(IpAddress.parse("::2"))).isFalse();
+    }
+
+    @Test
+    void shouldLetShorterBlockCoverLongerOneInEitherOrder() {
+        CidrTrie longerFirst = CidrTrie.compile(List.of("10.1.2.0/24", "10.0.0.0/8"));
+        CidrTrie shorterFirst = CidrTrie.compile(List.of("10.0.0.0/8", "10.1.2.0/24"));
+
+        assertThat(longerFirst.contains(IpAddress.parse("10.9.9.9"))).isTrue();
+        assertThat(shorterFirst.contains(IpAddress.parse("10.9.9.9"))).isTrue();
+        assertThat(shorterFirst.contains(IpAddress.parse("10.1.2.3"))).isTrue();
+    }
+
+    @Test
+    void shouldRejectInvalidBlocks() {
+        assertThatThrownBy(() -> CidrTrie.compile(List.of("10.0.0.0/33"))).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CidrTrie.compile(List.of("proxy.internal"))).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,98 @@
+package com.user.UserService.security.client;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClientContextResolverTest {
+
+    private final ClientContextResolver resolver = new ClientContextResolver(new ClientContextProperties());
+
+    @Test
+    void shouldUsePeerAddressWhenPeerIsNotTrustedProxy() {
+        // given
+        MockHttpServletRequest request = request("198.51.100.7");
+        request.addHeader("X-Forwarded-For", "203.0.113.9");
+        request.addHeader("User-Agent", "curl/8.5.0");
+
+        // when
+        ClientContext client = resolver.resolve(request);
+
+        // then
+        assertThat(client.ipAddress()).isEqualTo("198.51.100.7");
+        assertThat(client.ip()).isEqualTo(IpAddress.parse("198.51.100.7"));
+        assertThat(client.userAgent()).isEqualTo("curl/8.5.0");
+    }
+
+    @Test
+    void shouldWalkForwardedForFromRightPastTrustedProxies() {
+        // given: the client forged the leftmost entry
+        MockHttpServletRequest request = request("10.0.0.5");
+        request.addHeader("X-Forwarded-For", "1.2.3.4, 203.0.113.9 ,10.1.1.1");
+
+        // when
+        ClientContext client = resolver.resolve(request);
+
+        // then
+        assertThat(client.ipAddress()).isEqualTo("203.0.113.9");
+    }
+
+    @Test
+    void shouldReadForwardedForSpreadOverSeveralHeaders() {
+        MockHttpServletRequest request = request("10.0.0.5");
+        request.addHeader("X-Forwarded-For", "1.2.3.4");
+        request.addHeader("X-Forwarded-For", "203.0.113.9");
+
+        assertThat(resolver.resolve(request).ipAddress()).isEqualTo("203.0.113.9");
+    }
+
+    @Test
+    void shouldUseLeftmostEntryWhenEveryHopIsTrusted() {
+        MockHttpServletRequest request = request("127.0.0.1");
+        request.addHeader("X-Forwarded-For", "10.2.0.1, 10.1.0.1");
+
+        assertThat(resolver.resolve(request).ipAddress()).isEqualTo("10.2.0.1");
+    }
+
+    @Test
+    void shouldFallBackToRealIpThenPeer() {
+        MockHttpServletRequest withRealIp = request("10.0.0.5");
+        withRealIp.addHeader("X-Real-IP", " 203.0.113.10 ");
+        MockHttpServletRequest withoutHeaders = request("10.0.0.5");
+
+        assertThat(resolver.resolve(withRealIp).ipAddress()).isEqualTo("203.0.113.10");
+        assertThat(resolver.resolve(withoutHeaders).ipAddress()).isEqualTo("10.0.0.5");
+    }
+
+    @Test
+    void shouldKeepUnparsableEntryAsClientWithoutAddressBits() {
+        // given
+        MockHttpServletRequest request = request("10.0.0.5");
+        request.addHeader("X-Forwarded-For", "unknown");
+
+        // when
+        ClientContext client = resolver.resolve(request);
+
+        // then
+        assertThat(client.ipAddress()).isEqualTo("unknown");
+        assertThat(client.ipHigh()).isZero();
+        assertThat(client.ipLow()).isZero();
+    }
+
+    @Test
+    void shouldResolveOncePerRequest() {
+        MockHttpServletRequest request = request("198.51.100.7");
+
+        ClientContext first = resolver.contextOf(request);
+
+        assertThat(resolver.contextOf(request)).isSameAs(first);
+        assertThat(request.getAttribute(ClientContext.REQUEST_ATTRIBUTE)).isSameAs(first);
+    }
+
+    private static MockHttpServletRequest request(String peer) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/auth/login");
+        request.setRemoteAddr(peer);
+        return request;
+    }
+}
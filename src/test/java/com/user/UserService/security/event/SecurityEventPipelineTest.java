@@ -0,0 +1,140 @@
+package com.user.UserService.security.event;
+
+import com.user.UserService.user.domain.event.UserLoggedInEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SecurityEventPipelineTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SecurityEventProperties properties = new SecurityEventProperties();
+    private SecurityEventPipeline pipeline;
+
+    @AfterEach
+    void tearDown() {
+        if (pipeline != null && pipeline.isRunning()) {
+            pipeline.stop();
+        }
+    }
+
+    @Test
+    void shouldHandleEventsOnConsumerThreadInBatches() throws InterruptedException {
+        // Given
+        List<String> threads = new CopyOnWriteArrayList<>();
+        List<Object> handled = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(3);
+        pipeline = new SecurityEventPipeline(properties, List.of(events -> {
+            threads.add(Thread.currentThread().getName());
+            handled.addAll(events);
+            events.forEach(e -> done.countDown());
+        }), meterRegistry);
+        pipeline.start();
+        UUID userId = UUID.randomUUID();
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            pipeline.onUserLoggedIn(loginOf(userId, "10.0.0." + i));
+        }
+
+        // Then
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(handled).extracting(e -> ((UserLoggedInEvent) e).ipAddress())
+                .containsExactly("10.0.0.0", "10.0.0.1", "10.0.0.2");
+        assertThat(threads).allMatch(name -> name.startsWith("security-events-"));
+        assertThat(meterRegistry.get("security.events.lag").timer().count()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldDropAndCountEventsWhenBufferIsFull() throws InterruptedException {
+        // Given
+        properties.setCapacity(2);
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        pipeline = new SecurityEventPipeline(properties, List.of(events -> {
+            blocked.countDown();
+            await(release);
+        }), meterRegistry);
+        pipeline.start();
+        UUID userId = UUID.randomUUID();
+        pipeline.onUserLoggedIn(loginOf(userId, "10.0.0.1"));
+        assertThat(blocked.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            pipeline.onUserLoggedIn(loginOf(userId, "10.0.1." + i));
+        }
+        release.countDown();
+
+        // Then
+        assertThat(meterRegistry.get("security.events.dropped").counter().count()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldRunHandlersOnCallerWhenConfigured() throws InterruptedException {
+        // Given
+        properties.setCapacity(2);
+        properties.setOverflow(OverflowPolicy.CALLER_RUNS);
+        properties.setBlockTimeout(Duration.ZERO);
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> callerThreads = new CopyOnWriteArrayList<>();
+        String testThread = Thread.currentThread().getName();
+        pipeline = new SecurityEventPipeline(properties, List.of(events -> {
+            if (Thread.currentThread().getName().equals(testThread)) {
+                callerThreads.add(testThread);
+                return;
+            }
+            blocked.countDown();
+            await(release);
+        }), meterRegistry);
+        pipeline.start();
+        UUID userId = UUID.randomUUID();
+        pipeline.onUserLoggedIn(loginOf(userId, "10.0.0.1"));
+        assertThat(blocked.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            pipeline.onUserLoggedIn(loginOf(userId, "10.0.1." + i));
+        }
+        release.countDown();
+
+        // Then
+        assertThat(callerThreads).hasSize(3);
+        assertThat(meterRegistry.get("security.events.dropped").counter().count()).isZero();
+    }
+
+    @Test
+    void shouldHandleInlineWhenNotStarted() {
+        // Given
+        List<Object> handled = new CopyOnWriteArrayList<>();
+        pipeline = new SecurityEventPipeline(properties, List.of(handled::addAll), meterRegistry);
+
+        // When
+        pipeline.onUserLoggedIn(loginOf(UUID.randomUUID(), "10.0.0.1"));
+
+        // Then
+        assertThat(handled).hasSize(1);
+    }
+
+    private static UserLoggedInEvent loginOf(UUID userId, String ipAddress) {
+        return UserLoggedInEvent.of(userId, "user@example.com", ipAddress, "JUnit");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
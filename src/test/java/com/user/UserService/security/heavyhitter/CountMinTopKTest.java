@@ -0,0 +1,105 @@
+package com.user.UserService.security.heavyhitter;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.withinPercentage;
+
+class CountMinTopKTest {
+
+    @Test
+    void shouldReportHeavyKeysAboveLongTailOfDistinctKeys() {
+        // given
+        CountMinTopK sketch = new CountMinTopK(5, 4, 1024);
+
+        // when
+        for (int i = 0; i < 20_000; i++) {
+            sketch.offer("10.0." + (i >>> 8 & 0xFF) + "." + (i & 0xFF));
+            if (i % 20 == 0) {
+                sketch.offer("203.0.113.7");
+            }
+            if (i % 40 == 0) {
+                sketch.offer("203.0.113.8");
+            }
+        }
+
+        // then
+        List<HeavyHitter> top = sketch.top();
+        assertThat(top).hasSizeLessThanOrEqualTo(5);
+        assertThat(top).extracting(HeavyHitter::key).startsWith("203.0.113.7", "203.0.113.8");
+        assertThat(top.get(0).estimate()).isCloseTo(1_000, withinPercentage(40));
+        assertThat(top.get(1).estimate()).isCloseTo(500, withinPercentage(40));
+    }
+
+    @Test
+    void shouldCountExactlyBelowSamplingThreshold() {
+        // given
+        CountMinTopK sketch = new CountMinTopK(5, 4, 1024);
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            sketch.offer("steady");
+        }
+
+        // then
+        assertThat(sketch.estimate("steady")).isEqualTo(100);
+    }
+
+    @Test
+    void shouldHalveCountsAndForgetKeysThatDecayToZero() {
+        // given
+        CountMinTopK sketch = new CountMinTopK(5, 4, 1024);
+        for (int i = 0; i < 8; i++) {
+            sketch.offer("busy");
+        }
+        sketch.offer("once");
+
+        // when
+        sketch.decay();
+
+        // then
+        assertThat(sketch.estimate("busy")).isEqualTo(4);
+        assertThat(sketch.top()).containsExactly(new HeavyHitter("busy", 4));
+    }
+
+    @Test
+    void shouldCountConcurrentOffersOfHotKey() throws Exception {
+        // given
+        CountMinTopK sketch = new CountMinTopK(3, 4, 256);
+        int threads = 8;
+        int perThread = 10_000;
+
+        // when
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        sketch.offer("shared");
+                        sketch.offer("thread-" + thread + "-" + i);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        // then
+        assertThat(sketch.estimate("shared")).isCloseTo(threads * perThread, withinPercentage(40));
+        assertThat(sketch.top()).extracting(HeavyHitter::key).first().isEqualTo("shared");
+    }
+
+    @Test
+    void shouldRejectEmptySketch() {
+        assertThatThrownBy(() -> new CountMinTopK(0, 4, 1024)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
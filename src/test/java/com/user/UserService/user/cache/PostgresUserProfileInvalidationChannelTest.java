@@ -0,0 +1,119 @@
+package com.user.UserService.user.cache;
+
+import com.user.UserService.user.web.dto.UserResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Two instances sharing one PostgreSQL database, each with its own cache. Docker required; skipped without it.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class PostgresUserProfileInvalidationChannelTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private final UUID userId = UUID.randomUUID();
+
+    private JdbcTemplate jdbcTemplate;
+    private UserProfileCache publisherCache;
+    private UserProfileCache listenerCache;
+    private PostgresUserProfileInvalidationChannel publisher;
+    private PostgresUserProfileInvalidationChannel listener;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword()));
+        DataSourceProperties dataSourceProperties = new DataSourceProperties();
+        dataSourceProperties.setUrl(POSTGRES.getJdbcUrl());
+        dataSourceProperties.setUsername(POSTGRES.getUsername());
+        dataSourceProperties.setPassword(POSTGRES.getPassword());
+        UserProfileCacheProperties properties = new UserProfileCacheProperties();
+        properties.getNotifications().setPollTimeout(Duration.ofMillis(100));
+
+        publisherCache = new UserProfileCache(properties, new SimpleMeterRegistry());
+        listenerCache = new UserProfileCache(properties, new SimpleMeterRegistry());
+        publisher = new PostgresUserProfileInvalidationChannel(jdbcTemplate, dataSourceProperties, publisherCache, properties);
+        listener = new PostgresUserProfileInvalidationChannel(jdbcTemplate, dataSourceProperties, listenerCache, properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        listener.stop();
+    }
+
+    @Test
+    void shouldEvictProfileOnOtherInstanceWhenNotified() throws InterruptedException {
+        // given: the other instance is listening and has the profile cached
+        listener.start();
+        awaitListening();
+        listenerCache.get(userId, this::snapshot);
+
+        // when
+        publisher.publish(userId);
+
+        // then
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (cachedOnListener() != null) {
+            assertThat(System.nanoTime()).as("profile evicted on the listening instance").isLessThan(deadline);
+            Thread.sleep(50);
+        }
+    }
+
+    @Test
+    void shouldIgnoreMalformedPayload() throws InterruptedException {
+        // given
+        listener.start();
+        awaitListening();
+        listenerCache.get(userId, this::snapshot);
+
+        // when: a malformed payload, then a valid one behind it
+        jdbcTemplate.query("SELECT pg_notify(?, ?)", rs -> null, "user_profile_invalidation", "not-a-uuid");
+        UUID otherUserId = UUID.randomUUID();
+        listenerCache.get(otherUserId, this::snapshot);
+        publisher.publish(otherUserId);
+
+        // then: the listener survived the bad payload and only the named profile went
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (listenerCache.get(otherUserId, id -> null) != null) {
+            assertThat(System.nanoTime()).as("valid payload processed").isLessThan(deadline);
+            Thread.sleep(50);
+        }
+        assertThat(cachedOnListener()).isNotNull();
+    }
+
+    // The listener clears its cache right after LISTEN, so entries may only be cached once it is listening.
+    private void awaitListening() throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM pg_stat_activity WHERE query LIKE 'LISTEN %'", Integer.class) == 0) {
+            assertThat(System.nanoTime()).as("listener connected").isLessThan(deadline);
+            Thread.sleep(50);
+        }
+    }
+
+    private UserProfileSnapshot cachedOnListener() {
+        return listenerCache.get(userId, id -> null);
+    }
+
+    private UserProfileSnapshot snapshot(UUID id) {
+        return new UserProfileSnapshot(
+                new UserResponse(id, "notify@example.com", "Notify User", Set.of("USER"), Instant.now()), Instant.now());
+    }
+}
@@ -0,0 +1,61 @@
+package com.user.UserService.user.cache;
+
+import com.user.UserService.user.web.dto.UserResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserProfileCacheTest {
+
+    private final UserProfileCache cache = new UserProfileCache(new UserProfileCacheProperties(), new SimpleMeterRegistry());
+    private final UUID userId = UUID.randomUUID();
+
+    @Test
+    void shouldCacheLoadedProfile() {
+        // given
+        cache.get(userId, id -> snapshot("Loaded Name"));
+
+        // when
+        UserProfileSnapshot cached = cache.get(userId, id -> null);
+
+        // then
+        assertThat(cached.profile().fullName()).isEqualTo("Loaded Name");
+    }
+
+    @Test
+    void shouldNotCacheLoadThatRacedWithEviction() {
+        // given: the load read the row, then a write committed and evicted before the load finished
+        UserProfileSnapshot loaded = cache.get(userId, id -> {
+            cache.evict(id);
+            return snapshot("Stale Name");
+        });
+
+        // then: the caller still gets what was read, but the cache does not keep it
+        assertThat(loaded.profile().fullName()).isEqualTo("Stale Name");
+        assertThat(cache.get(userId, id -> null)).isNull();
+        assertThat(cache.get(userId, id -> snapshot("Fresh Name")).profile().fullName()).isEqualTo("Fresh Name");
+        assertThat(cache.get(userId, id -> null).profile().fullName()).isEqualTo("Fresh Name");
+    }
+
+    @Test
+    void shouldNotCacheLoadThatRacedWithEvictAll() {
+        // when
+        cache.get(userId, id -> {
+            cache.evictAll();
+            return snapshot("Stale Name");
+        });
+
+        // then
+        assertThat(cache.get(userId, id -> null)).isNull();
+    }
+
+    private UserProfileSnapshot snapshot(String fullName) {
+        Instant now = Instant.now();
+        return new UserProfileSnapshot(new UserResponse(userId, "cache@example.com", fullName, Set.of("USER"), now), now);
+    }
+}
@@ -0,0 +1,107 @@
+package com.user.UserService.user.domain.service;
+
+import com.user.UserService.user.domain.exception.WeakPasswordException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HexFormat;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+class BreachedPasswordFilterTest {
+
+    private static final int CORPUS_SIZE = 20_000;
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void shouldContainEveryCorpusEntryAndStayNearTargetFalsePositiveRate() throws IOException {
+        // given
+        Path corpus = writeCorpus(new Random(43), "P@ssw0rd123", "Summer2024!");
+
+        // when
+        BreachedPasswordFilter filter = BreachedPasswordFilterBuilder.build(corpus, directory.resolve("breached.bloom"), 0.01);
+
+        // then
+        assertThat(filter.entries()).isEqualTo(CORPUS_SIZE + 2);
+        assertThat(filter.mightContain("P@ssw0rd123")).isTrue();
+        assertThat(filter.mightContain("Summer2024!")).isTrue();
+        Random corpusHashes = new Random(43);
+        for (int i = 0; i < CORPUS_SIZE; i++) {
+            assertThat(filter.mightContainDigest(randomDigest(corpusHashes))).isTrue();
+        }
+
+        Random others = new Random(7);
+        int falsePositives = 0;
+        for (int i = 0; i < CORPUS_SIZE; i++) {
+            if (filter.mightContainDigest(randomDigest(others))) {
+                falsePositives++;
+            }
+        }
+        assertThat(falsePositives / (double) CORPUS_SIZE).isLessThan(0.02);
+    }
+
+    @Test
+    void shouldRejectBreachedPasswordThatPassesCharacterRules() throws IOException {
+        // given
+        Path corpus = writeCorpus(new Random(1), "P@ssw0rd123");
+        PasswordPolicy passwordPolicy = new PasswordPolicy(
+                BreachedPasswordFilterBuilder.build(corpus, directory.resolve("breached.bloom"), 0.001));
+
+        // when & then
+        assertThatThrownBy(() -> passwordPolicy.validate("P@ssw0rd123"))
+                .isInstanceOf(WeakPasswordException.class)
+                .hasMessageContaining("data breach");
+        assertThatNoException().isThrownBy(() -> passwordPolicy.validate("Un1que!Horse-Battery"));
+    }
+
+    @Test
+    void shouldRejectFilesThatAreNotFilters() throws IOException {
+        // given
+        Path file = Files.writeString(directory.resolve("not-a-filter.bloom"), "x".repeat(64));
+
+        // when & then
+        assertThatThrownBy(() -> BreachedPasswordFilter.open(file))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("Not a breached password filter");
+    }
+
+    @Test
+    void shouldReportMalformedCorpusLine() throws IOException {
+        // given
+        Path corpus = Files.writeString(directory.resolve("corpus.txt"), "# comment\n\nnot-a-hash\n");
+
+        // when & then
+        assertThatThrownBy(() -> BreachedPasswordFilterBuilder.build(corpus, directory.resolve("out.bloom"), 0.01))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Line 3");
+    }
+
+    private Path writeCorpus(Random random, String... passwords) throws IOException {
+        Path corpus = directory.resolve("corpus.txt");
+        HexFormat hex = HexFormat.of().withUpperCase();
+        try (BufferedWriter writer = Files.newBufferedWriter(corpus, StandardCharsets.US_ASCII)) {
+            writer.write("# SHA-1:count\n");
+            for (int i = 0; i < CORPUS_SIZE; i++) {
+                writer.write(hex.formatHex(randomDigest(random)) + ":" + (i + 1) + "\n");
+            }
+            for (String password : passwords) {
+                writer.write(hex.formatHex(BreachedPasswordFilter.digest(password.getBytes(StandardCharsets.UTF_8))) + "\n");
+            }
+        }
+        return corpus;
+    }
+
+    private static byte[] randomDigest(Random random) {
+        byte[] digest = new byte[20];
+        random.nextBytes(digest);
+        return digest;
+    }
+}
@@ -58,6 +58,19 @@ class TokenGeneratorTest {
         assertThat(token).isNotNull().isNotEmpty();
     }
 
+    @Test
+    void shouldGenerateDistinctRefreshTokensWithinSameSecond() {
+        // given
+        UUID userId = UUID.randomUUID();
+
+        // when
+        String first = tokenGenerator.generateRefreshToken(userId);
+        String second = tokenGenerator.generateRefreshToken(userId);
+
+        // then
+        assertThat(first).isNotEqualTo(second);
+    }
+
     @Test
     void shouldParseValidAccessToken() {
         // given
@@ -73,6 +86,36 @@ class TokenGeneratorTest {
         assertThat(claims.get("email", String.class)).isEqualTo(user.getEmail());
     }
 
+    @Test
+    void shouldOmitOptionalProfileClaimsByDefault() {
+        // given
+        User user = TestFixtures.Users.createUser();
+        String token = tokenGenerator.generateAccessToken(user);
+
+        // when
+        Claims claims = tokenGenerator.parseToken(token);
+
+        // then
+        assertThat(claims).doesNotContainKeys(TokenGenerator.FULL_NAME_CLAIM, TokenGenerator.CREATED_AT_CLAIM);
+    }
+
+    @Test
+    void shouldIncludeOptionalProfileClaimsWhenEnabled() {
+        // given
+        jwtProperties.getProfileClaims().setFullName(true);
+        jwtProperties.getProfileClaims().setCreatedAt(true);
+        User user = TestFixtures.Users.createUser();
+        String token = tokenGenerator.generateAccessToken(user);
+
+        // when
+        Claims claims = tokenGenerator.parseToken(token);
+
+        // then
+        assertThat(claims.get(TokenGenerator.FULL_NAME_CLAIM, String.class)).isEqualTo(user.getFullName());
+        assertThat(claims.get(TokenGenerator.CREATED_AT_CLAIM, Number.class).longValue())
+                .isEqualTo(user.getCreatedAt().getEpochSecond());
+    }
+
     @Test
     void shouldExtractUserIdFromToken() {
         // given
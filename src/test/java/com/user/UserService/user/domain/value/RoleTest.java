@@ -0,0 +1,60 @@
+package com.user.UserService.user.domain.value;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+class RoleTest {
+
+    @Test
+    void shouldKeepPersistedBitsStable() {
+        assertThat(Role.USER.mask()).isEqualTo(1);
+        assertThat(Role.ADMIN.mask()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldRoundTripRoleSetThroughMask() {
+        // given
+        Set<Role> roles = EnumSet.of(Role.USER, Role.ADMIN);
+
+        // when
+        int mask = Role.toMask(roles);
+
+        // then
+        assertThat(Role.fromMask(mask)).containsExactlyInAnyOrder(Role.USER, Role.ADMIN);
+    }
+
+    @Test
+    void shouldIgnoreUnknownBits() {
+        assertThat(Role.fromMask(Role.USER.mask() | 1 << 30)).containsExactly(Role.USER);
+    }
+
+    @Test
+    void shouldReturnEmptySetForZeroMask() {
+        assertThat(Role.fromMask(0)).isEmpty();
+    }
+
+    @Test
+    void shouldParseRoleNamesIndependentlyOfDefaultLocale() {
+        Locale previous = Locale.getDefault();
+        Locale.setDefault(Locale.forLanguageTag("tr-TR"));
+        try {
+            assertThat(Role.parse(" admin ")).isEqualTo(Role.ADMIN);
+            assertThat(Role.fromString("service")).isEqualTo(Role.SERVICE);
+        } finally {
+            Locale.setDefault(previous);
+        }
+    }
+
+    @Test
+    void shouldRejectUnknownRoleWhenParsingStrictly() {
+        assertThatThrownBy(() -> Role.parse("superuser"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unknown role: superuser");
+        assertThat(Role.fromString("superuser")).isEqualTo(Role.USER);
+    }
+}
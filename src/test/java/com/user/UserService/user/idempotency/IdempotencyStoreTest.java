@@ -0,0 +1,176 @@
+package com.user.UserService.user.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.user.UserService.security.JwtProperties;
+import com.user.UserService.user.domain.exception.IdempotencyKeyReusedException;
+import com.user.UserService.user.domain.exception.InvalidTokenException;
+import com.user.UserService.user.repository.IdempotencyRepository;
+import com.user.UserService.user.web.dto.TokenResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class IdempotencyStoreTest {
+
+    private static final TokenResponse TOKENS = new TokenResponse("access", "refresh", "Bearer");
+
+    private final IdempotencyRepository repository = mock(IdempotencyRepository.class);
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @Test
+    void shouldReplayResponseWithoutExecutingAgain() {
+        // given
+        IdempotencyStore store = store(false);
+        store.execute(IdempotentOperation.REFRESH, "key-1", this::issue, "refresh-token");
+
+        // when
+        TokenResponse replayed = store.execute(IdempotentOperation.REFRESH, "key-1", this::issue, "refresh-token");
+
+        // then
+        assertThat(replayed).isEqualTo(TOKENS);
+        assertThat(executions).hasValue(1);
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void shouldKeepOperationsAndKeysApart() {
+        IdempotencyStore store = store(false);
+
+        store.execute(IdempotentOperation.REFRESH, "key-1", this::issue, "refresh-token");
+        store.execute(IdempotentOperation.LOGIN, "key-1", this::issue, "refresh-token");
+        store.execute(IdempotentOperation.REFRESH, "key-2", this::issue, "refresh-token");
+        store.execute(IdempotentOperation.REFRESH, null, this::issue, "refresh-token");
+        store.execute(IdempotentOperation.REFRESH, null, this::issue, "refresh-token");
+
+        assertThat(executions).hasValue(5);
+    }
+
+    @Test
+    void shouldRejectKeyReusedForDifferentRequest() {
+        // given
+        IdempotencyStore store = store(false);
+        store.execute(IdempotentOperation.LOGIN, "key-1", this::issue, "a@example.com", "Passw0rd!");
+
+        // when & then
+        assertThatThrownBy(() -> store.execute(IdempotentOperation.LOGIN, "key-1", this::issue,
+                "a@example.com", "Other#Passw0rd"))
+                .isInstanceOf(IdempotencyKeyReusedException.class);
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    void shouldNotRememberFailures() {
+        // given
+        IdempotencyStore store = store(false);
+        assertThatThrownBy(() -> store.execute(IdempotentOperation.REFRESH, "key-1", () -> {
+            throw InvalidTokenException.INSTANCE;
+        }, "refresh-token")).isSameAs(InvalidTokenException.INSTANCE);
+
+        // when
+        TokenResponse retried = store.execute(IdempotentOperation.REFRESH, "key-1", this::issue, "refresh-token");
+
+        // then
+        assertThat(retried).isEqualTo(TOKENS);
+    }
+
+    @Test
+    void shouldLetConcurrentDuplicateWaitForFirstExecution() throws Exception {
+        // given
+        IdempotencyStore store = store(false);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<TokenResponse> first = CompletableFuture.supplyAsync(() ->
+                store.execute(IdempotentOperation.REGISTER, "key-1", () -> {
+                    started.countDown();
+                    await(release);
+                    return issue();
+                }, "request"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        CompletableFuture<TokenResponse> duplicate = CompletableFuture.supplyAsync(() ->
+                store.execute(IdempotentOperation.REGISTER, "key-1", this::issue, "request"));
+        Thread.sleep(50);
+        release.countDown();
+
+        // then
+        assertThat(duplicate.get(5, TimeUnit.SECONDS)).isSameAs(first.get(5, TimeUnit.SECONDS));
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    void shouldReplayOnAnotherReplicaFromEncryptedRow() {
+        // given
+        IdempotencyStore store = store(true);
+        store.execute(IdempotentOperation.REFRESH, "key-1", this::issue, "refresh-token");
+        ArgumentCaptor<String> slot = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<byte[]> stored = ArgumentCaptor.forClass(byte[].class);
+        verify(repository).insert(slot.capture(), stored.capture(), any(Instant.class));
+        when(repository.find(eq(slot.getValue()), any(Instant.class))).thenReturn(stored.getValue());
+        IdempotencyStore otherReplica = store(true);
+
+        // when
+        TokenResponse replayed = otherReplica.execute(IdempotentOperation.REFRESH, "key-1", this::issue,
+                "refresh-token");
+
+        // then
+        assertThat(replayed).isEqualTo(TOKENS);
+        assertThat(executions).hasValue(1);
+        assertThatThrownBy(() -> store(true).execute(IdempotentOperation.REFRESH, "key-1", this::issue,
+                "other-refresh-token"))
+                .isInstanceOf(IdempotencyKeyReusedException.class);
+    }
+
+    @Test
+    void shouldRejectMalformedKeys() {
+        IdempotencyStore store = store(false);
+
+        assertThatThrownBy(() -> store.execute(IdempotentOperation.LOGIN, "", this::issue))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> store.execute(IdempotentOperation.LOGIN, "two words", this::issue))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> store.execute(IdempotentOperation.LOGIN, "k".repeat(256), this::issue))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(executions).hasValue(0);
+        verify(repository, never()).find(anyString(), any());
+    }
+
+    private IdempotencyStore store(boolean persistent) {
+        IdempotencyProperties properties = new IdempotencyProperties();
+        properties.setPersistent(persistent);
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setSecret("ThisIsAVeryLongSecretKeyForJWTTokenGenerationThatShouldBeAtLeast256BitsLong");
+        return new IdempotencyStore(properties, repository, new ObjectMapper(), jwtProperties,
+                new SimpleMeterRegistry());
+    }
+
+    private TokenResponse issue() {
+        executions.incrementAndGet();
+        return TOKENS;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
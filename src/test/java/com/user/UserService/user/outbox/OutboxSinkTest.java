@@ -0,0 +1,85 @@
+package com.user.UserService.user.outbox;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.*;
+
+class OutboxSinkTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void shouldAppendBatchesAsNdjsonToFile() throws IOException {
+        // Given
+        Path file = directory.resolve("nested/outbox.ndjson");
+        FileOutboxSink sink = new FileOutboxSink(file, objectMapper);
+
+        // When
+        sink.publish(List.of(message("{\"email\":\"a@example.com\"}")));
+        sink.publish(List.of(message("{\"email\":\"b@example.com\"}"), message("{}")));
+
+        // Then
+        List<String> lines = Files.readAllLines(file);
+        assertThat(lines).hasSize(3);
+        JsonNode first = objectMapper.readTree(lines.get(0));
+        assertThat(first.get("type").asText()).isEqualTo(OutboxWriter.USER_REGISTERED);
+        assertThat(first.get("payload").get("email").asText()).isEqualTo("a@example.com");
+    }
+
+    @Test
+    void shouldPostBatchAndFailOnErrorStatus() throws IOException {
+        // Given
+        AtomicReference<String> received = new AtomicReference<>();
+        AtomicInteger status = new AtomicInteger(204);
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/events", exchange -> {
+            received.set(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+            exchange.sendResponseHeaders(status.get(), -1);
+            exchange.close();
+        });
+        server.start();
+        try {
+            HttpOutboxSink sink = new HttpOutboxSink(
+                    URI.create("http://127.0.0.1:" + server.getAddress().getPort() + "/events"),
+                    Duration.ofSeconds(5), objectMapper);
+
+            // When
+            sink.publish(List.of(message("{\"email\":\"a@example.com\"}")));
+
+            // Then
+            assertThat(received.get()).contains("\"payload\":{\"email\":\"a@example.com\"}").endsWith("\n");
+
+            status.set(503);
+            assertThatThrownBy(() -> sink.publish(List.of(message("{}"))))
+                    .isInstanceOf(OutboxDeliveryException.class)
+                    .hasMessageContaining("503");
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    private static OutboxMessage message(String payload) {
+        return new OutboxMessage(UUID.randomUUID(), UUID.randomUUID(), OutboxWriter.USER_REGISTERED, payload,
+                Instant.now(), 0);
+    }
+}
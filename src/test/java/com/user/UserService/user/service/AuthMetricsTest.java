@@ -0,0 +1,65 @@
+package com.user.UserService.user.service;
+
+import com.user.UserService.user.service.AuthMetrics.Operation;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuthMetricsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AuthMetrics authMetrics = new AuthMetrics(meterRegistry);
+
+    @BeforeEach
+    void setUp() {
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void shouldRecordSuccessOnlyOnceTransactionCommits() {
+        // given
+        authMetrics.succeeded(Operation.LOGIN, System.nanoTime());
+        assertThat(outcomeCount("success")).isZero();
+
+        // when
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        // then
+        assertThat(outcomeCount("success")).isEqualTo(1);
+        assertThat(outcomeCount("failure")).isZero();
+    }
+
+    @Test
+    void shouldRecordCommitFailureWhenTransactionRollsBack() {
+        // given
+        authMetrics.succeeded(Operation.LOGIN, System.nanoTime());
+
+        // when
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        // then
+        assertThat(outcomeCount("success")).isZero();
+        assertThat(outcomeCount("failure")).isEqualTo(1);
+        assertThat(meterRegistry.get("auth.failures")
+                .tags("operation", "login", "reason", "COMMIT_FAILED")
+                .counter().count()).isEqualTo(1);
+    }
+
+    private void complete(int status) {
+        TransactionSynchronizationManager.getSynchronizations().forEach(sync -> sync.afterCompletion(status));
+    }
+
+    private long outcomeCount(String outcome) {
+        return meterRegistry.get("auth.operation").tags("operation", "login", "outcome", outcome).timer().count();
+    }
+}
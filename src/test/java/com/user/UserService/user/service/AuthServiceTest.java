@@ -5,14 +5,16 @@ import com.user.UserService.common.InputSanitizer;
 import com.user.UserService.user.domain.entity.User;
 import com.user.UserService.user.domain.exception.EmailAlreadyUsedException;
 import com.user.UserService.user.domain.exception.InvalidCredentialsException;
-import com.user.UserService.user.domain.service.DomainUserValidator;
 import com.user.UserService.user.domain.service.PasswordPolicy;
 import com.user.UserService.user.domain.service.TokenGenerator;
 import com.user.UserService.user.repository.RefreshTokenRepository;
 import com.user.UserService.user.repository.UserRepository;
+import com.user.UserService.user.throttle.LoginThrottle;
 import com.user.UserService.user.web.dto.LoginRequest;
 import com.user.UserService.user.web.dto.RegisterRequest;
 import com.user.UserService.user.web.dto.TokenResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -20,10 +22,13 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.sql.SQLException;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
@@ -47,7 +52,10 @@ class AuthServiceTest {
     private PasswordPolicy passwordPolicy;
     
     @Mock
-    private DomainUserValidator domainUserValidator;
+    private RefreshTokenRepository refreshTokenRepository;
+    
+    @Mock
+    private DeviceSessionService deviceSessionService;
     
     @Mock
     private ApplicationEventPublisher eventPublisher;
@@ -55,6 +63,14 @@ class AuthServiceTest {
     @Mock
     private InputSanitizer inputSanitizer;
     
+    @Mock
+    private LoginThrottle loginThrottle;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private AuthMetrics authMetrics = new AuthMetrics(meterRegistry);
+    
     @InjectMocks
     private AuthService authService;
 
@@ -73,18 +89,16 @@ class AuthServiceTest {
     void shouldRegisterNewUser() {
         // given
         doNothing().when(passwordPolicy).validate(anyString());
-        doNothing().when(domainUserValidator).validateEmailNotInUse(anyString());
         when(passwordEncoder.encode(anyString())).thenReturn("hashed-password");
         when(inputSanitizer.sanitizeAndLimit(anyString(), anyInt())).thenReturn(registerRequest.fullName());
-        when(userRepository.save(any(User.class))).thenReturn(testUser);
+        when(userRepository.saveAndFlush(any(User.class))).thenReturn(testUser);
         when(tokenGenerator.generateAccessToken(any(User.class))).thenReturn("access-token");
         when(tokenGenerator.generateRefreshToken(any())).thenReturn("refresh-token");
         
         // when
         TokenResponse response = authService.register(
                 registerRequest,
-                TestFixtures.Constants.IP_ADDRESS,
-                TestFixtures.Constants.USER_AGENT
+                TestFixtures.Constants.CLIENT
         );
         
         // then
@@ -94,26 +108,40 @@ class AuthServiceTest {
         assertThat(response.tokenType()).isEqualTo("Bearer");
         
         verify(passwordPolicy).validate(registerRequest.password());
-        verify(userRepository).save(any(User.class));
-        verify(eventPublisher).publishEvent(any());
+        verify(userRepository).saveAndFlush(any(User.class));
+        verify(eventPublisher).publishEvent(any(Object.class));
     }
 
     @Test
     void shouldThrowExceptionWhenEmailAlreadyExists() {
         // given
-        doThrow(new EmailAlreadyUsedException("test@example.com"))
-                .when(domainUserValidator)
-                .validateEmailNotInUse(anyString());
+        when(passwordEncoder.encode(anyString())).thenReturn("hashed-password");
+        when(inputSanitizer.sanitizeAndLimit(anyString(), anyInt())).thenReturn(registerRequest.fullName());
+        when(userRepository.saveAndFlush(any(User.class))).thenThrow(uniqueViolation("users_email_active_unique"));
         
         // when & then
         assertThatThrownBy(() -> authService.register(
                 registerRequest,
-                TestFixtures.Constants.IP_ADDRESS,
-                TestFixtures.Constants.USER_AGENT
+                TestFixtures.Constants.CLIENT
         ))
         .isInstanceOf(EmailAlreadyUsedException.class);
         
-        verify(userRepository, never()).save(any());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void shouldRethrowUniqueViolationOfOtherConstraint() {
+        // given
+        when(passwordEncoder.encode(anyString())).thenReturn("hashed-password");
+        when(inputSanitizer.sanitizeAndLimit(anyString(), anyInt())).thenReturn(registerRequest.fullName());
+        when(userRepository.saveAndFlush(any(User.class))).thenThrow(uniqueViolation("public.users_pkey"));
+
+        // when & then
+        assertThatThrownBy(() -> authService.register(
+                registerRequest,
+                TestFixtures.Constants.CLIENT
+        ))
+        .isInstanceOf(DataIntegrityViolationException.class);
     }
 
     @Test
@@ -127,8 +155,7 @@ class AuthServiceTest {
         // when
         TokenResponse response = authService.login(
                 loginRequest,
-                TestFixtures.Constants.IP_ADDRESS,
-                TestFixtures.Constants.USER_AGENT
+                TestFixtures.Constants.CLIENT
         );
         
         // then
@@ -138,7 +165,28 @@ class AuthServiceTest {
         
         verify(userRepository).findActiveByEmail(anyString());
         verify(passwordEncoder).matches(loginRequest.password(), testUser.getPasswordHash());
-        verify(eventPublisher).publishEvent(any());
+        verify(eventPublisher).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void shouldTimeEachPhaseOfLogin() {
+        // given
+        when(userRepository.findActiveByEmail(anyString())).thenReturn(Optional.of(testUser));
+        when(passwordEncoder.matches(anyString(), anyString())).thenReturn(true);
+        when(tokenGenerator.generateAccessToken(any(User.class))).thenReturn("access-token");
+        when(tokenGenerator.generateRefreshToken(any())).thenReturn("refresh-token");
+
+        // when
+        authService.login(loginRequest, TestFixtures.Constants.CLIENT);
+
+        // then
+        for (String phase : new String[]{"user_lookup", "password_verify", "event_publish", "token_mint",
+                "token_persist", "session_persist"}) {
+            assertThat(meterRegistry.get("auth.phase").tags("operation", "login", "phase", phase).timer().count())
+                    .as(phase).isEqualTo(1);
+        }
+        assertThat(meterRegistry.get("auth.operation").tags("operation", "login", "outcome", "success")
+                .timer().count()).isEqualTo(1);
     }
 
     @Test
@@ -149,8 +197,7 @@ class AuthServiceTest {
         // when & then
         assertThatThrownBy(() -> authService.login(
                 loginRequest,
-                TestFixtures.Constants.IP_ADDRESS,
-                TestFixtures.Constants.USER_AGENT
+                TestFixtures.Constants.CLIENT
         ))
         .isInstanceOf(InvalidCredentialsException.class);
         
@@ -166,11 +213,20 @@ class AuthServiceTest {
         // when & then
         assertThatThrownBy(() -> authService.login(
                 loginRequest,
-                TestFixtures.Constants.IP_ADDRESS,
-                TestFixtures.Constants.USER_AGENT
+                TestFixtures.Constants.CLIENT
         ))
         .isInstanceOf(InvalidCredentialsException.class);
         
         verify(tokenGenerator, never()).generateAccessToken(any());
+        verify(loginThrottle).recordFailure(loginRequest.email());
+        verify(loginThrottle, never()).recordSuccess(anyString());
+        assertThat(meterRegistry.get("auth.failures").tags("operation", "login", "reason", "INVALID_CREDENTIALS")
+                .counter().count()).isEqualTo(1);
+    }
+
+    private static DataIntegrityViolationException uniqueViolation(String constraintName) {
+        SQLException sqlException = new SQLException("duplicate", "23505");
+        return new DataIntegrityViolationException("duplicate",
+                new ConstraintViolationException("duplicate", sqlException, constraintName));
     }
 }
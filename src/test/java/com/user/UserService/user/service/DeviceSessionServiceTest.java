@@ -1,6 +1,7 @@
 package com.user.UserService.user.service;
 
 import com.user.UserService.TestFixtures;
+import com.user.UserService.security.client.ClientContext;
 import com.user.UserService.user.domain.entity.DeviceSession;
 import com.user.UserService.user.domain.entity.User;
 import com.user.UserService.user.repository.DeviceSessionRepository;
@@ -44,8 +45,7 @@ class DeviceSessionServiceTest {
         // when
         DeviceSession created = deviceSessionService.createOrUpdateSession(
                 testUser.getId(),
-                "192.168.1.1",
-                "Mozilla/5.0 (Windows NT 10.0; Win64; x64)"
+                ClientContext.of("192.168.1.1", "Mozilla/5.0 (Windows NT 10.0; Win64; x64)")
         );
         
         // then
@@ -105,8 +105,7 @@ class DeviceSessionServiceTest {
         // when
         DeviceSession session = deviceSessionService.createOrUpdateSession(
                 testUser.getId(),
-                "192.168.1.1",
-                windowsUserAgent
+                ClientContext.of("192.168.1.1", windowsUserAgent)
         );
         
         // then
@@ -1,19 +1,25 @@
 package com.user.UserService.user.service;
 
 import com.user.UserService.TestFixtures;
+import com.user.UserService.user.cache.UserProfileCache;
+import com.user.UserService.user.cache.UserProfileCacheProperties;
+import com.user.UserService.user.cache.UserProfileSnapshot;
 import com.user.UserService.user.domain.entity.DeviceSession;
 import com.user.UserService.user.domain.entity.User;
 import com.user.UserService.user.domain.exception.UserNotFoundException;
 import com.user.UserService.user.repository.DeviceSessionRepository;
+import com.user.UserService.user.repository.DeviceSessionsVersion;
 import com.user.UserService.user.repository.UserRepository;
 import com.user.UserService.user.web.dto.DeviceSessionResponse;
 import com.user.UserService.user.web.dto.UserResponse;
 import com.user.UserService.user.web.mapper.UserMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Instant;
@@ -37,6 +43,10 @@ class UserServiceTest {
     
     @Mock
     private UserMapper userMapper;
+
+    @Spy
+    private UserProfileCache userProfileCache =
+            new UserProfileCache(new UserProfileCacheProperties(), new SimpleMeterRegistry());
     
     @InjectMocks
     private UserService userService;
@@ -63,14 +73,44 @@ class UserServiceTest {
         when(userMapper.toResponse(testUser)).thenReturn(userResponse);
         
         // when
-        UserResponse response = userService.getCurrentUser(testUser.getId());
+        UserProfileSnapshot snapshot = userService.getCurrentUser(testUser.getId());
         
         // then
-        assertThat(response).isNotNull();
-        assertThat(response.id()).isEqualTo(testUser.getId());
+        assertThat(snapshot.profile().id()).isEqualTo(testUser.getId());
+        assertThat(snapshot.updatedAt()).isEqualTo(testUser.getUpdatedAt());
         verify(userRepository).findActiveById(testUser.getId());
     }
 
+    @Test
+    void shouldServeRepeatedCurrentUserLookupsFromCache() {
+        // given
+        when(userRepository.findActiveById(testUser.getId())).thenReturn(Optional.of(testUser));
+        when(userMapper.toResponse(testUser)).thenReturn(userResponse);
+
+        // when
+        userService.getCurrentUser(testUser.getId());
+        UserProfileSnapshot snapshot = userService.getCurrentUser(testUser.getId());
+
+        // then
+        assertThat(snapshot.profile()).isEqualTo(userResponse);
+        verify(userRepository, times(1)).findActiveById(testUser.getId());
+    }
+
+    @Test
+    void shouldReloadCurrentUserAfterEviction() {
+        // given
+        when(userRepository.findActiveById(testUser.getId())).thenReturn(Optional.of(testUser));
+        when(userMapper.toResponse(testUser)).thenReturn(userResponse);
+        userService.getCurrentUser(testUser.getId());
+
+        // when
+        userProfileCache.evict(testUser.getId());
+        userService.getCurrentUser(testUser.getId());
+
+        // then
+        verify(userRepository, times(2)).findActiveById(testUser.getId());
+    }
+
     @Test
     void shouldGetUserById() {
         // given
@@ -116,13 +156,28 @@ class UserServiceTest {
         when(userMapper.toDeviceSessionResponse(any())).thenReturn(sessionResponse);
         
         // when
-        List<DeviceSessionResponse> responses = userService.getActiveSessions(testUser.getId());
+        List<DeviceSessionResponse> responses = userService.getActiveSessions(testUser.getId(), version -> false).sessions();
         
         // then
         assertThat(responses).hasSize(2);
         verify(deviceSessionRepository).findActiveByUserId(testUser.getId());
     }
 
+    @Test
+    void shouldSkipSessionRowsWhenVersionIsUnchanged() {
+        // given
+        DeviceSessionsVersion version = new DeviceSessionsVersion(2L, Instant.now());
+        when(deviceSessionRepository.findVersionByUserId(testUser.getId())).thenReturn(version);
+
+        // when
+        UserService.ActiveSessions active = userService.getActiveSessions(testUser.getId(), version::equals);
+
+        // then
+        assertThat(active.version()).isEqualTo(version);
+        assertThat(active.sessions()).isNull();
+        verify(deviceSessionRepository, never()).findActiveByUserId(any());
+    }
+
     @Test
     void shouldRevokeSession() {
         // given
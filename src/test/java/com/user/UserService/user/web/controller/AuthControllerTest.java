@@ -2,30 +2,45 @@ package com.user.UserService.user.web.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.user.UserService.TestFixtures;
+import com.user.UserService.security.client.ClientContextProperties;
+import com.user.UserService.security.client.ClientContextResolver;
+import com.user.UserService.security.heavyhitter.HeavyHitterProperties;
+import com.user.UserService.security.heavyhitter.HeavyHitters;
 import com.user.UserService.user.domain.exception.EmailAlreadyUsedException;
 import com.user.UserService.user.domain.exception.InvalidCredentialsException;
+import com.user.UserService.user.domain.exception.TooManyLoginAttemptsException;
 import com.user.UserService.user.domain.exception.WeakPasswordException;
+import com.user.UserService.user.domain.service.TokenGenerator;
+import com.user.UserService.user.idempotency.IdempotencyStore;
 import com.user.UserService.user.service.AuthService;
 import com.user.UserService.user.web.dto.LoginRequest;
 import com.user.UserService.user.web.dto.RefreshRequest;
 import com.user.UserService.user.web.dto.RegisterRequest;
 import com.user.UserService.user.web.dto.TokenResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
-import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Supplier;
+
 import static org.mockito.ArgumentMatchers.*;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(AuthController.class)
 @AutoConfigureMockMvc(addFilters = false)
+@Import({ClientContextResolver.class, ClientContextProperties.class, SimpleMeterRegistry.class})
 class AuthControllerTest {
 
     @Autowired
@@ -34,9 +49,26 @@ class AuthControllerTest {
     @Autowired
     private ObjectMapper objectMapper;
 
-    @MockBean
+    @MockitoBean
     private AuthService authService;
 
+    @MockitoBean
+    private HeavyHitters heavyHitters;
+
+    @MockitoBean
+    private HeavyHitterProperties heavyHitterProperties;
+
+    @MockitoBean
+    private IdempotencyStore idempotencyStore;
+
+    @MockitoBean
+    private TokenGenerator tokenGenerator;
+
+    @BeforeEach
+    void setUp() {
+        when(idempotencyStore.execute(any(), any(), any(), any(String[].class)))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(2).get());
+    }
 
     @Test
     void shouldRegisterNewUser() throws Exception {
@@ -44,7 +76,7 @@ class AuthControllerTest {
         RegisterRequest request = TestFixtures.Requests.createRegisterRequest();
         TokenResponse tokenResponse = new TokenResponse("access-token", "refresh-token", "Bearer");
         
-        when(authService.register(any(), anyString(), anyString()))
+        when(authService.register(any(), any()))
                 .thenReturn(tokenResponse);
         
         // when & then
@@ -52,18 +84,18 @@ class AuthControllerTest {
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request))
                         .with(csrf()))
-                .andExpect(status().isOk())
+                .andExpect(status().isCreated())
                 .andExpect(jsonPath("$.accessToken").value("access-token"))
                 .andExpect(jsonPath("$.refreshToken").value("refresh-token"))
                 .andExpect(jsonPath("$.tokenType").value("Bearer"));
     }
 
     @Test
-    void shouldReturnBadRequestWhenRegistrationFails() throws Exception {
+    void shouldReturnConflictWhenEmailAlreadyUsed() throws Exception {
         // given
         RegisterRequest request = TestFixtures.Requests.createRegisterRequest();
         
-        when(authService.register(any(), anyString(), anyString()))
+        when(authService.register(any(), any()))
                 .thenThrow(new EmailAlreadyUsedException("test@example.com"));
         
         // when & then
@@ -71,7 +103,7 @@ class AuthControllerTest {
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request))
                         .with(csrf()))
-                .andExpect(status().isBadRequest());
+                .andExpect(status().isConflict());
     }
 
     @Test
@@ -96,7 +128,7 @@ class AuthControllerTest {
         // given
         RegisterRequest request = TestFixtures.Requests.createRegisterRequest();
         
-        when(authService.register(any(), anyString(), anyString()))
+        when(authService.register(any(), any()))
                 .thenThrow(new WeakPasswordException("Password is too weak"));
         
         // when & then
@@ -113,7 +145,7 @@ class AuthControllerTest {
         LoginRequest request = TestFixtures.Requests.createLoginRequest();
         TokenResponse tokenResponse = new TokenResponse("access-token", "refresh-token", "Bearer");
         
-        when(authService.login(any(), anyString(), anyString()))
+        when(authService.login(any(), any()))
                 .thenReturn(tokenResponse);
         
         // when & then
@@ -131,7 +163,7 @@ class AuthControllerTest {
         // given
         LoginRequest request = TestFixtures.Requests.createLoginRequest();
         
-        when(authService.login(any(), anyString(), anyString()))
+        when(authService.login(any(), any()))
                 .thenThrow(new InvalidCredentialsException());
         
         // when & then
@@ -140,6 +172,27 @@ class AuthControllerTest {
                         .content(objectMapper.writeValueAsString(request))
                         .with(csrf()))
                 .andExpect(status().isUnauthorized());
+        verify(authService).acquireLoginAttempt(eq(request.email()), any());
+        verify(authService).releaseLoginAttempt(request.email());
+    }
+
+    @Test
+    void shouldRejectLockedOutAccountBeforeConsultingIdempotencyStore() throws Exception {
+        // given
+        LoginRequest request = TestFixtures.Requests.createLoginRequest();
+        doThrow(new TooManyLoginAttemptsException(Duration.ofMinutes(1)))
+                .when(authService).acquireLoginAttempt(anyString(), any());
+
+        // when & then
+        mockMvc.perform(post("/auth/login")
+                        .header(IdempotencyStore.HEADER, UUID.randomUUID().toString())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request))
+                        .with(csrf()))
+                .andExpect(status().isTooManyRequests());
+        verifyNoInteractions(idempotencyStore);
+        verify(authService, never()).login(any(), any());
+        verify(authService, never()).releaseLoginAttempt(anyString());
     }
 
     @Test
@@ -148,7 +201,7 @@ class AuthControllerTest {
         RefreshRequest request = new RefreshRequest("valid-refresh-token");
         TokenResponse tokenResponse = new TokenResponse("new-access-token", "new-refresh-token", "Bearer");
         
-        when(authService.refresh(anyString(), anyString(), anyString())).thenReturn(tokenResponse);
+        when(authService.refresh(anyString(), any())).thenReturn(tokenResponse);
         
         // when & then
         mockMvc.perform(post("/auth/refresh")
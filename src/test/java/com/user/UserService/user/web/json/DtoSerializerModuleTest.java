@@ -0,0 +1,64 @@
+package com.user.UserService.user.web.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.user.UserService.user.web.dto.DeviceSessionResponse;
+import com.user.UserService.user.web.dto.ErrorResponse;
+import com.user.UserService.user.web.dto.TokenResponse;
+import com.user.UserService.user.web.dto.UserResponse;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.time.Instant;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+class DtoSerializerModuleTest {
+
+    private static final Instant CREATED_AT = Instant.parse("2024-03-01T10:15:30.123456Z");
+
+    static List<Object> dtos() {
+        UUID id = UUID.fromString("0190b0e4-7d2a-7c3e-8a1b-2f4d6e8a0c11");
+        return List.of(
+                new TokenResponse("eyJhbGciOiJIUzUxMiJ9.eyJzdWIiOiIxIn0.sig", "refresh-token", "Bearer"),
+                new TokenResponse("access", null, "Custom \"type\""),
+                new UserResponse(id, "user@example.com", "Jane é \\ Doe", new LinkedHashSet<>(List.of("USER", "ADMIN")), CREATED_AT),
+                new UserResponse(id, "user@example.com", null, null, null),
+                new UserResponse(id, "user@example.com", "Jane", Set.of(), CREATED_AT),
+                new DeviceSessionResponse(id, "iPhone", "iOS", "203.0.113.7", CREATED_AT, CREATED_AT),
+                new DeviceSessionResponse(id, null, null, null, null, CREATED_AT),
+                new ErrorResponse("Invalid email or password", "INVALID_CREDENTIALS", 401),
+                new ErrorResponse(null, null, 0)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("dtos")
+    void shouldMatchReflectiveSerialization(Object dto) throws Exception {
+        assertThat(mapper(true, false).writeValueAsString(dto))
+                .isEqualTo(mapper(false, false).writeValueAsString(dto));
+    }
+
+    @ParameterizedTest
+    @MethodSource("dtos")
+    void shouldMatchReflectiveSerializationWithNumericTimestamps(Object dto) throws Exception {
+        assertThat(mapper(true, true).writeValueAsString(dto))
+                .isEqualTo(mapper(false, true).writeValueAsString(dto));
+    }
+
+    private static ObjectMapper mapper(boolean specialized, boolean timestamps) {
+        JsonMapper.Builder builder = JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, timestamps);
+        if (specialized) {
+            builder.addModule(new DtoSerializerModule());
+        }
+        return builder.build();
+    }
+}